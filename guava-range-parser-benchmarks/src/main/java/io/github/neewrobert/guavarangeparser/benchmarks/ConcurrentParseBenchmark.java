@@ -0,0 +1,97 @@
+package io.github.neewrobert.guavarangeparser.benchmarks;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.google.common.collect.Range;
+import io.github.neewrobert.guavarangeparser.core.RangeParser;
+import io.github.neewrobert.guavarangeparser.jackson.GuavaRangeParserModule;
+import io.github.neewrobert.guavarangeparser.spring.RangeConverterFactory;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+/**
+ * Parsing through shared instances from many threads: the static {@link RangeParser#parse}, a
+ * Jackson {@link ObjectReader} with the {@link GuavaRangeParserModule}, and a Spring conversion
+ * service with the {@link RangeConverterFactory}.
+ *
+ * <p>Throughput shows how the paths scale with the number of threads, and sample time shows their
+ * latency percentiles. {@link ScalabilityBenchmarks} runs this class at 1, 2, 4, … threads up to
+ * the number of available processors and prints both side by side.
+ *
+ * <p>Each thread cycles through its own cursor over a pool of notations, so that threads share the
+ * parser state but not the input.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentParseBenchmark {
+
+  private static final String[] NOTATIONS = {
+    "[0..100)", "(-∞..+∞)", "[-5..5]", "(0..1000]", "[42..+∞)", "(-∞..-1)", "[7..7]", "(1..2)"
+  };
+
+  private static final TypeDescriptor STRING_TYPE = TypeDescriptor.valueOf(String.class);
+  private static final TypeDescriptor RANGE_TYPE =
+      new TypeDescriptor(
+          ResolvableType.forClassWithGenerics(Range.class, Integer.class), null, null);
+
+  private String[] json;
+  private ObjectReader jacksonReader;
+  private DefaultConversionService conversionService;
+
+  /** Per-thread position in the notation pool. */
+  @State(Scope.Thread)
+  public static class Cursor {
+    private int next;
+
+    int next() {
+      return next++ & (NOTATIONS.length - 1);
+    }
+  }
+
+  @Setup
+  public void setUp() {
+    json = new String[NOTATIONS.length];
+    for (int i = 0; i < NOTATIONS.length; i++) {
+      json[i] = '"' + NOTATIONS[i] + '"';
+    }
+    jacksonReader =
+        new ObjectMapper()
+            .registerModule(new GuavaRangeParserModule())
+            .readerFor(new TypeReference<Range<Integer>>() {});
+    conversionService = new DefaultConversionService();
+    conversionService.addConverter(new RangeConverterFactory());
+  }
+
+  @Benchmark
+  public Range<Integer> staticParse(Cursor cursor) {
+    return RangeParser.parse(NOTATIONS[cursor.next()], Integer.class);
+  }
+
+  @Benchmark
+  public Range<Integer> jackson(Cursor cursor) throws IOException {
+    return jacksonReader.readValue(json[cursor.next()]);
+  }
+
+  @Benchmark
+  public Object springConversion(Cursor cursor) {
+    return conversionService.convert(NOTATIONS[cursor.next()], STRING_TYPE, RANGE_TYPE);
+  }
+}
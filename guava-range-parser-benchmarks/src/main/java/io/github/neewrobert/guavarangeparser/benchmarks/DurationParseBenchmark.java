@@ -0,0 +1,38 @@
+package io.github.neewrobert.guavarangeparser.benchmarks;
+
+import io.github.neewrobert.guavarangeparser.core.BuiltInTypeAdapters;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Duration endpoints through the built-in adapter and through {@link Duration#parse}. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class DurationParseBenchmark {
+
+  @Param({"PT30S", "PT1H30M", "P2DT3H4M5.5S", "-PT0.000000001S"})
+  String notation;
+
+  @Benchmark
+  public Duration adapter() {
+    return BuiltInTypeAdapters.DURATION.parse(notation);
+  }
+
+  @Benchmark
+  public Duration jdk() {
+    return Duration.parse(notation);
+  }
+}
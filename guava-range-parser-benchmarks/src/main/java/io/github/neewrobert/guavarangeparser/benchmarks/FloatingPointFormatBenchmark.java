@@ -0,0 +1,77 @@
+package io.github.neewrobert.guavarangeparser.benchmarks;
+
+import com.google.common.collect.Range;
+import io.github.neewrobert.guavarangeparser.core.RangeFormatter;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Formatting of {@code Double} and {@code Float} endpoints with the JDK's {@code toString()} and
+ * with {@link RangeFormatter.Builder#shortestFloatingPoint(boolean) shortest round-trip} digits.
+ *
+ * <p>Endpoints are drawn from a fixed pool of random values, so that neither path benefits from
+ * repeated digits.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FloatingPointFormatBenchmark {
+
+  private static final int POOL_SIZE = 1024;
+
+  @Param({"false", "true"})
+  boolean shortestFloatingPoint;
+
+  private RangeFormatter formatter;
+  private final Range<Double>[] doubleRanges = newRangeArray();
+  private final Range<Float>[] floatRanges = newRangeArray();
+  private final StringBuilder builder = new StringBuilder(128);
+  private int next;
+
+  @Setup
+  public void setUp() {
+    formatter = RangeFormatter.builder().shortestFloatingPoint(shortestFloatingPoint).build();
+    SplittableRandom random = new SplittableRandom(42);
+    for (int i = 0; i < POOL_SIZE; i++) {
+      double lower = Double.longBitsToDouble(random.nextLong() & ~Long.MIN_VALUE);
+      double upper = lower * (1 + random.nextDouble());
+      if (Double.isNaN(lower) || Double.isInfinite(upper)) {
+        lower = random.nextDouble();
+        upper = lower + 1;
+      }
+      doubleRanges[i] = Range.closed(-upper, lower);
+      floatRanges[i] = Range.closed((float) -random.nextDouble(), (float) random.nextDouble());
+    }
+  }
+
+  @Benchmark
+  public StringBuilder formatDouble() {
+    builder.setLength(0);
+    return formatter.formatTo(doubleRanges[next++ & (POOL_SIZE - 1)], builder);
+  }
+
+  @Benchmark
+  public StringBuilder formatFloat() {
+    builder.setLength(0);
+    return formatter.formatTo(floatRanges[next++ & (POOL_SIZE - 1)], builder);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T extends Comparable<T>> Range<T>[] newRangeArray() {
+    return (Range<T>[]) new Range<?>[POOL_SIZE];
+  }
+}
@@ -0,0 +1,50 @@
+package io.github.neewrobert.guavarangeparser.benchmarks;
+
+import io.github.neewrobert.guavarangeparser.core.BuiltInTypeAdapters;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Floating-point endpoints through the built-in adapters and through {@link Double#parseDouble} and
+ * {@link Float#parseFloat}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FloatingPointParseBenchmark {
+
+  @Param({"0.5", "-123.456", "3.141592653589793", "6.02214076E23", "2.2250738585072014E-308"})
+  String notation;
+
+  @Benchmark
+  public Double doubleAdapter() {
+    return BuiltInTypeAdapters.DOUBLE.parse(notation);
+  }
+
+  @Benchmark
+  public double doubleJdk() {
+    return Double.parseDouble(notation);
+  }
+
+  @Benchmark
+  public Float floatAdapter() {
+    return BuiltInTypeAdapters.FLOAT.parse(notation);
+  }
+
+  @Benchmark
+  public float floatJdk() {
+    return Float.parseFloat(notation);
+  }
+}
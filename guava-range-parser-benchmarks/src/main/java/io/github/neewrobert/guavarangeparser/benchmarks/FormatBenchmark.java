@@ -0,0 +1,86 @@
+package io.github.neewrobert.guavarangeparser.benchmarks;
+
+import com.google.common.collect.Range;
+import io.github.neewrobert.guavarangeparser.core.InfinityStyle;
+import io.github.neewrobert.guavarangeparser.core.RangeFormatter;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Formatting of ranges with every {@link InfinityStyle}, to a new {@code String}, to a reused
+ * {@code StringBuilder} and to a reused UTF-8 byte array.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormatBenchmark {
+
+  /** Sample ranges, bounded and unbounded, over the common element types. */
+  public enum Shape {
+    CLOSED_INTEGER(Range.closed(-1000, 1000)),
+    AT_LEAST_LONG(Range.atLeast(9_000_000_000L)),
+    LESS_THAN_DOUBLE(Range.lessThan(1.0E10)),
+    OPEN_BIG_DECIMAL(Range.open(new BigDecimal("-1234.5678"), new BigDecimal("1234.5678"))),
+    CLOSED_OPEN_INSTANT(
+        Range.closedOpen(
+            Instant.parse("2024-01-01T00:00:00Z"), Instant.parse("2024-12-31T23:59:59.999Z"))),
+    CLOSED_LOCAL_DATE(Range.closed(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31))),
+    ALL(Range.<Integer>all());
+
+    final Range<?> range;
+
+    Shape(Range<?> range) {
+      this.range = range;
+    }
+  }
+
+  @Param InfinityStyle infinityStyle;
+
+  @Param Shape shape;
+
+  private RangeFormatter formatter;
+  private Range<?> range;
+  private final StringBuilder builder = new StringBuilder(128);
+  private final byte[] buffer = new byte[128];
+
+  @Setup
+  public void setUp() {
+    formatter = RangeFormatter.builder().infinityStyle(infinityStyle).build();
+    range = shape.range;
+  }
+
+  @Benchmark
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public String format() {
+    return formatter.format((Range) range);
+  }
+
+  @Benchmark
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public StringBuilder formatTo() {
+    builder.setLength(0);
+    return formatter.formatTo((Range) range, builder);
+  }
+
+  @Benchmark
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  public int formatToUtf8() {
+    return formatter.formatToUtf8((Range) range, buffer, 0);
+  }
+}
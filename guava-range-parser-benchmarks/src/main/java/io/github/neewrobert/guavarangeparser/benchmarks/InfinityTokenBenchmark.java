@@ -0,0 +1,67 @@
+package io.github.neewrobert.guavarangeparser.benchmarks;
+
+import com.google.common.collect.Range;
+import io.github.neewrobert.guavarangeparser.core.RangeParser;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Parsing of unbounded ranges with each accepted spelling of infinity. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InfinityTokenBenchmark {
+
+  @Param({"∞", "inf", "INF", "Infinity"})
+  String token;
+
+  @Param({"strict", "lenient"})
+  String syntax;
+
+  private RangeParser parser;
+  private String all;
+  private String atLeast;
+  private String atMost;
+  private String unsignedAtLeast;
+
+  @Setup
+  public void setUp() {
+    parser = RangeParser.builder().lenient(syntax.equals("lenient")).build();
+    all = "(-" + token + "..+" + token + ")";
+    atLeast = "[0..+" + token + ")";
+    atMost = "(-" + token + "..0]";
+    unsignedAtLeast = "[0.." + token + ")";
+  }
+
+  @Benchmark
+  public Range<Integer> parseAll() {
+    return parser.parseRange(all, Integer.class);
+  }
+
+  @Benchmark
+  public Range<Integer> parseAtLeast() {
+    return parser.parseRange(atLeast, Integer.class);
+  }
+
+  @Benchmark
+  public Range<Integer> parseAtMost() {
+    return parser.parseRange(atMost, Integer.class);
+  }
+
+  @Benchmark
+  public Range<Integer> parseUnsignedAtLeast() {
+    return parser.parseRange(unsignedAtLeast, Integer.class);
+  }
+}
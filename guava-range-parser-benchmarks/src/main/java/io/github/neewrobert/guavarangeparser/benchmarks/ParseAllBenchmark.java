@@ -0,0 +1,73 @@
+package io.github.neewrobert.guavarangeparser.benchmarks;
+
+import io.github.neewrobert.guavarangeparser.core.RangeParseResult;
+import io.github.neewrobert.guavarangeparser.core.RangeParser;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Batch parsing through {@link RangeParser#parseAll(List, Class, java.util.concurrent.Executor)},
+ * with the parallelism of the executor as a parameter.
+ *
+ * <p>Throughput is reported per parsed range, so the scores of different parallelisms compare
+ * directly; at parallelism 1 the chunks run one after another. {@link ScalabilityBenchmarks} runs
+ * this class at 1, 2, 4, … up to the number of available processors; to pick other values, pass
+ * e.g. {@code -p parallelism=1,3,6}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseAllBenchmark {
+
+  private static final int BATCH_SIZE = 100_000;
+
+  private static final String[] NOTATIONS = {
+    "[0..100)", "(-∞..+∞)", "[-5..5]", "(0..1000]", "[42..+∞)", "(-∞..-1)", "[7..7]", "(1..2)"
+  };
+
+  @Param({"1", "2", "4", "8"})
+  int parallelism;
+
+  private RangeParser parser;
+  private List<String> batch;
+  private ForkJoinPool executor;
+
+  @Setup
+  public void setUp() {
+    parser = RangeParser.builder().build();
+    batch = new ArrayList<>(BATCH_SIZE);
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      batch.add(NOTATIONS[i % NOTATIONS.length]);
+    }
+    executor = new ForkJoinPool(parallelism);
+  }
+
+  @TearDown
+  public void tearDown() {
+    executor.shutdown();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public List<RangeParseResult<Integer>> parseAll() {
+    return parser.parseAll(batch, Integer.class, executor);
+  }
+}
@@ -0,0 +1,100 @@
+package io.github.neewrobert.guavarangeparser.benchmarks;
+
+import com.google.common.collect.Range;
+import io.github.neewrobert.guavarangeparser.core.RangeParser;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing of valid notation for every element type of {@code BuiltInTypeAdapters}.
+ *
+ * <p>Strict syntax parses {@code [a..b)} with a default parser; lenient syntax parses the
+ * bracket-less {@code a..b}, which means the same range, with a lenient parser.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseBenchmark {
+
+  /** The built-in element types, each with a closed-open sample notation. */
+  public enum ElementType {
+    INTEGER(Integer.class, "[-1000..1000)"),
+    LONG(Long.class, "[-9000000000..9000000000)"),
+    SHORT(Short.class, "[-300..300)"),
+    BYTE(Byte.class, "[-100..100)"),
+    DOUBLE(Double.class, "[-0.5..1.0E10)"),
+    FLOAT(Float.class, "[-0.5..3.25)"),
+    BIG_INTEGER(
+        BigInteger.class, "[-123456789012345678901234567890..123456789012345678901234567890)"),
+    BIG_DECIMAL(BigDecimal.class, "[-1234.5678..1234.5678)"),
+    DURATION(Duration.class, "[PT1H30M..P2DT3H)"),
+    INSTANT(Instant.class, "[2024-01-01T00:00:00Z..2024-12-31T23:59:59.999Z)"),
+    LOCAL_DATE(LocalDate.class, "[2024-01-01..2024-12-31)"),
+    LOCAL_DATE_TIME(LocalDateTime.class, "[2024-01-01T08:00..2024-12-31T17:30:15)"),
+    LOCAL_TIME(LocalTime.class, "[08:00..17:30:15.5)"),
+    ZONED_DATE_TIME(
+        ZonedDateTime.class,
+        "[2024-01-01T08:00+01:00[Europe/Paris]..2024-12-31T17:30+01:00[Europe/Paris])"),
+    OFFSET_DATE_TIME(OffsetDateTime.class, "[2024-01-01T08:00+01:00..2024-12-31T17:30-05:00)"),
+    STRING(String.class, "[apple..banana)"),
+    CHARACTER(Character.class, "[a..z)");
+
+    final Class<? extends Comparable<?>> type;
+    final String notation;
+
+    ElementType(Class<? extends Comparable<?>> type, String notation) {
+      this.type = type;
+      this.notation = notation;
+    }
+  }
+
+  @Param ElementType elementType;
+
+  @Param({"strict", "lenient"})
+  String syntax;
+
+  private RangeParser parser;
+  private String notation;
+
+  @Setup
+  public void setUp() {
+    boolean lenient = syntax.equals("lenient");
+    parser = RangeParser.builder().lenient(lenient).build();
+    String strict = elementType.notation;
+    notation = lenient ? strict.substring(1, strict.length() - 1) : strict;
+    // Fail fast if a sample notation is not accepted
+    parser.parseRange(notation, elementType.type);
+  }
+
+  @Benchmark
+  public Range<?> parseRange() {
+    return parser.parseRange(notation, elementType.type);
+  }
+
+  @Benchmark
+  public Object tryParse() {
+    return parser.tryParse(notation, elementType.type);
+  }
+}
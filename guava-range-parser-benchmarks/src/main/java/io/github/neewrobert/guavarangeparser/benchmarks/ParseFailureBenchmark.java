@@ -0,0 +1,88 @@
+package io.github.neewrobert.guavarangeparser.benchmarks;
+
+import io.github.neewrobert.guavarangeparser.core.RangeParseException;
+import io.github.neewrobert.guavarangeparser.core.RangeParser;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Rejection of invalid input, through exceptions with and without stack traces, and through the
+ * exception-free {@code tryParse} and {@code isValid}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParseFailureBenchmark {
+
+  /** Invalid Integer range notation, one per kind of failure. */
+  public enum Failure {
+    EMPTY_INPUT(""),
+    INPUT_TOO_LONG("[" + "1".repeat(1000) + "..2]"),
+    INVALID_FORMAT("{0..100}"),
+    CLOSED_INFINITY("[-∞..0]"),
+    INVALID_VALUE("[abc..100)"),
+    LOWER_GREATER_THAN_UPPER("[100..0]"),
+    EMPTY_OPEN_RANGE("(5..5)");
+
+    final String notation;
+
+    Failure(String notation) {
+      this.notation = notation;
+    }
+  }
+
+  @Param Failure failure;
+
+  private RangeParser parser;
+  private RangeParser lightweightParser;
+
+  @Setup
+  public void setUp() {
+    parser = RangeParser.builder().build();
+    lightweightParser = RangeParser.builder().lightweightExceptions(true).build();
+    if (parser.isValid(failure.notation, Integer.class)) {
+      throw new IllegalStateException("Sample notation is valid: " + failure.notation);
+    }
+  }
+
+  @Benchmark
+  public Object parseRange() {
+    try {
+      return parser.parseRange(failure.notation, Integer.class);
+    } catch (RangeParseException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object parseRangeLightweight() {
+    try {
+      return lightweightParser.parseRange(failure.notation, Integer.class);
+    } catch (RangeParseException e) {
+      return e;
+    }
+  }
+
+  @Benchmark
+  public Object tryParse() {
+    return parser.tryParse(failure.notation, Integer.class);
+  }
+
+  @Benchmark
+  public boolean isValid() {
+    return parser.isValid(failure.notation, Integer.class);
+  }
+}
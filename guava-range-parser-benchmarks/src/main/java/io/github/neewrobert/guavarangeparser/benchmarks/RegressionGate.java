@@ -0,0 +1,338 @@
+package io.github.neewrobert.guavarangeparser.benchmarks;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares JMH JSON results against a baseline and fails on regressions.
+ *
+ * <p>Every benchmark of the baseline is matched with the current result of the same benchmark
+ * method, mode, thread count and parameters, and two metrics are compared:
+ *
+ * <ul>
+ *   <li>the primary score, which regresses when it drops by more than the throughput tolerance for
+ *       throughput mode, or rises by more than it for the time-based modes
+ *   <li>the allocated bytes per operation reported by the GC profiler, which regresses when it
+ *       rises by more than the allocation tolerance plus {@value #ALLOCATION_SLACK_BYTES} bytes
+ * </ul>
+ *
+ * <p>The slack keeps benchmarks that allocate nothing from failing on the few bytes per operation
+ * that the profiler attributes to the harness. Benchmarks that only appear in one of the files are
+ * reported but do not fail the gate.
+ *
+ * <p>Usage, as run by {@code make benchmark-check}:
+ *
+ * <pre>{@code
+ * java -cp benchmarks.jar io.github.neewrobert.guavarangeparser.benchmarks.RegressionGate \
+ *     baseline.json results.json [--throughput-tolerance 0.10] [--allocation-tolerance 0.05]
+ * }</pre>
+ *
+ * <p>The exit code is 0 without regressions, 1 with regressions and 2 for invalid arguments or
+ * unreadable files.
+ */
+public final class RegressionGate {
+
+  /** Allocation increase in bytes per operation that is always tolerated. */
+  static final double ALLOCATION_SLACK_BYTES = 16;
+
+  private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+  private static final String PACKAGE_PREFIX = "io.github.neewrobert.guavarangeparser.benchmarks.";
+
+  private final double throughputTolerance;
+  private final double allocationTolerance;
+
+  /**
+   * Creates a gate with the given tolerances.
+   *
+   * @param throughputTolerance the tolerated relative score change, e.g. {@code 0.10} for 10%
+   * @param allocationTolerance the tolerated relative allocation increase
+   * @throws IllegalArgumentException if a tolerance is negative or not a number
+   */
+  public RegressionGate(double throughputTolerance, double allocationTolerance) {
+    this.throughputTolerance = checkTolerance("throughputTolerance", throughputTolerance);
+    this.allocationTolerance = checkTolerance("allocationTolerance", allocationTolerance);
+  }
+
+  /**
+   * Runs the gate from the command line and exits with its result.
+   *
+   * @param args the baseline file, the results file and optional tolerances
+   */
+  public static void main(String[] args) {
+    System.exit(run(args, System.out, System.err));
+  }
+
+  /** Runs the gate and returns the exit code instead of exiting. */
+  static int run(String[] args, PrintStream out, PrintStream err) {
+    List<String> files = new ArrayList<>();
+    double throughputTolerance = 0.10;
+    double allocationTolerance = 0.05;
+    try {
+      for (int i = 0; i < args.length; i++) {
+        switch (args[i]) {
+          case "--throughput-tolerance" -> throughputTolerance = Double.parseDouble(args[++i]);
+          case "--allocation-tolerance" -> allocationTolerance = Double.parseDouble(args[++i]);
+          default -> files.add(args[i]);
+        }
+      }
+      if (files.size() != 2) {
+        throw new IllegalArgumentException("Expected a baseline file and a results file");
+      }
+      RegressionGate gate = new RegressionGate(throughputTolerance, allocationTolerance);
+      Report report = gate.compare(read(Path.of(files.get(0))), read(Path.of(files.get(1))));
+      report.print(out);
+      return report.regressions() > 0 ? 1 : 0;
+    } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+      err.println("Invalid arguments: " + e.getMessage());
+      err.println(
+          "Usage: RegressionGate <baseline.json> <results.json>"
+              + " [--throughput-tolerance 0.10] [--allocation-tolerance 0.05]");
+      return 2;
+    } catch (IOException e) {
+      err.println("Cannot read benchmark results: " + e.getMessage());
+      return 2;
+    }
+  }
+
+  /**
+   * Reads a JMH result file written with {@code -rf json}.
+   *
+   * @param file the file to read
+   * @return the results keyed by benchmark, mode, thread count and parameters, in file order
+   * @throws IOException if the file cannot be read or is not a JMH JSON result
+   */
+  public static Map<String, Result> read(Path file) throws IOException {
+    requireNonNull(file, "file must not be null");
+    JsonNode root = new ObjectMapper().readTree(file.toFile());
+    if (root == null || !root.isArray()) {
+      throw new IOException("Not a JMH JSON result: " + file);
+    }
+    Map<String, Result> results = new LinkedHashMap<>();
+    for (JsonNode benchmark : root) {
+      Result result = Result.of(benchmark);
+      results.put(result.key(), result);
+    }
+    return results;
+  }
+
+  /**
+   * Compares the current results against the baseline.
+   *
+   * @param baseline the baseline results, as returned by {@link #read(Path)}
+   * @param current the current results, as returned by {@link #read(Path)}
+   * @return the per-benchmark comparison
+   */
+  public Report compare(Map<String, Result> baseline, Map<String, Result> current) {
+    requireNonNull(baseline, "baseline must not be null");
+    requireNonNull(current, "current must not be null");
+    List<Comparison> comparisons = new ArrayList<>();
+    for (Result before : baseline.values()) {
+      Result after = current.get(before.key());
+      if (after == null) {
+        comparisons.add(
+            new Comparison(
+                before.key(), before.unit(), Status.MISSING, before.score(), Double.NaN));
+        continue;
+      }
+      comparisons.add(compareScore(before, after));
+      if (!Double.isNaN(before.allocatedBytes()) && !Double.isNaN(after.allocatedBytes())) {
+        comparisons.add(compareAllocation(before, after));
+      }
+    }
+    for (Result after : current.values()) {
+      if (!baseline.containsKey(after.key())) {
+        comparisons.add(
+            new Comparison(after.key(), after.unit(), Status.NEW, Double.NaN, after.score()));
+      }
+    }
+    return new Report(comparisons);
+  }
+
+  private Comparison compareScore(Result before, Result after) {
+    double change = relativeChange(before.score(), after.score());
+    // Throughput regresses when it drops, the time-based modes when they rise
+    double loss = before.mode().equals("thrpt") ? -change : change;
+    Status status =
+        loss > throughputTolerance
+            ? Status.REGRESSION
+            : -loss > throughputTolerance ? Status.IMPROVEMENT : Status.OK;
+    return new Comparison(before.key(), after.unit(), status, before.score(), after.score());
+  }
+
+  private Comparison compareAllocation(Result before, Result after) {
+    double limit = before.allocatedBytes() * (1 + allocationTolerance) + ALLOCATION_SLACK_BYTES;
+    double floor = before.allocatedBytes() * (1 - allocationTolerance) - ALLOCATION_SLACK_BYTES;
+    Status status =
+        after.allocatedBytes() > limit
+            ? Status.REGRESSION
+            : after.allocatedBytes() < floor ? Status.IMPROVEMENT : Status.OK;
+    return new Comparison(
+        before.key(), "B/op", status, before.allocatedBytes(), after.allocatedBytes());
+  }
+
+  private static double relativeChange(double before, double after) {
+    return before == 0 ? 0 : (after - before) / before;
+  }
+
+  private static double checkTolerance(String name, double tolerance) {
+    if (!(tolerance >= 0)) {
+      throw new IllegalArgumentException(name + " must not be negative: " + tolerance);
+    }
+    return tolerance;
+  }
+
+  /**
+   * One benchmark of a JMH result file.
+   *
+   * @param key the benchmark method, mode, thread count and parameters
+   * @param mode the JMH mode, e.g. {@code thrpt} or {@code avgt}
+   * @param score the primary score
+   * @param unit the unit of the primary score
+   * @param allocatedBytes the allocated bytes per operation, or NaN without the GC profiler
+   */
+  public record Result(String key, String mode, double score, String unit, double allocatedBytes) {
+
+    static Result of(JsonNode benchmark) throws IOException {
+      JsonNode primary = benchmark.path("primaryMetric");
+      if (!benchmark.path("benchmark").isTextual() || !primary.path("score").isNumber()) {
+        throw new IOException("Not a JMH benchmark result: " + benchmark);
+      }
+      String name = benchmark.get("benchmark").asText();
+      if (name.startsWith(PACKAGE_PREFIX)) {
+        name = name.substring(PACKAGE_PREFIX.length());
+      }
+      String mode = benchmark.path("mode").asText();
+      Map<String, String> params = new TreeMap<>();
+      for (Map.Entry<String, JsonNode> param : benchmark.path("params").properties()) {
+        params.put(param.getKey(), param.getValue().asText());
+      }
+      StringBuilder key = new StringBuilder(name).append(" [").append(mode);
+      int threads = benchmark.path("threads").asInt(1);
+      if (threads != 1) {
+        key.append(", threads=").append(threads);
+      }
+      params.forEach((param, value) -> key.append(", ").append(param).append('=').append(value));
+      key.append(']');
+
+      double allocatedBytes = Double.NaN;
+      for (Map.Entry<String, JsonNode> metric : benchmark.path("secondaryMetrics").properties()) {
+        // JMH before 1.36 prefixes profiler metrics with a middle dot
+        if (metric.getKey().replace("·", "").equals(ALLOCATION_METRIC)) {
+          allocatedBytes = metric.getValue().path("score").asDouble(Double.NaN);
+        }
+      }
+      return new Result(
+          key.toString(),
+          mode,
+          primary.get("score").asDouble(),
+          primary.path("scoreUnit").asText(),
+          allocatedBytes);
+    }
+  }
+
+  /** Outcome of comparing one metric of one benchmark. */
+  public enum Status {
+    /** The metric is within the tolerance. */
+    OK,
+    /** The metric got better by more than the tolerance. */
+    IMPROVEMENT,
+    /** The metric got worse by more than the tolerance. */
+    REGRESSION,
+    /** The benchmark is in the baseline but not in the current results. */
+    MISSING,
+    /** The benchmark is in the current results but not in the baseline. */
+    NEW
+  }
+
+  /**
+   * Comparison of one metric of one benchmark.
+   *
+   * @param benchmark the benchmark key
+   * @param unit the unit of the metric
+   * @param status the outcome
+   * @param baseline the baseline value, or NaN for new benchmarks
+   * @param current the current value, or NaN for missing benchmarks
+   */
+  public record Comparison(
+      String benchmark, String unit, Status status, double baseline, double current) {}
+
+  /**
+   * Comparisons of all benchmarks, in baseline order followed by new benchmarks.
+   *
+   * @param comparisons the per-metric comparisons
+   */
+  public record Report(List<Comparison> comparisons) {
+
+    /**
+     * Copies the comparisons.
+     *
+     * @throws NullPointerException if {@code comparisons} is null
+     */
+    public Report {
+      comparisons = List.copyOf(comparisons);
+    }
+
+    /**
+     * Returns the number of metrics that regressed.
+     *
+     * @return the number of regressions
+     */
+    public long regressions() {
+      return comparisons.stream().filter(c -> c.status() == Status.REGRESSION).count();
+    }
+
+    /**
+     * Prints one line per metric and a summary.
+     *
+     * @param out the stream to print to
+     */
+    public void print(PrintStream out) {
+      int width = comparisons.stream().mapToInt(c -> c.benchmark().length()).max().orElse(0);
+      String row = "%-11s  %-" + width + "s  %14s  %14s  %8s  %s%n";
+      out.printf(Locale.ROOT, row, "Status", "Benchmark", "Baseline", "Current", "Change", "Unit");
+      Map<Status, Integer> counts = new TreeMap<>();
+      for (Comparison c : comparisons) {
+        counts.merge(c.status(), 1, Integer::sum);
+        String change =
+            Double.isNaN(c.baseline()) || Double.isNaN(c.current()) || c.baseline() == 0
+                ? ""
+                : String.format(
+                    Locale.ROOT, "%+.1f%%", (c.current() - c.baseline()) / c.baseline() * 100);
+        out.printf(
+            Locale.ROOT,
+            row,
+            c.status(),
+            c.benchmark(),
+            format(c.baseline()),
+            format(c.current()),
+            change,
+            c.unit());
+      }
+      StringBuilder summary = new StringBuilder();
+      counts.forEach(
+          (status, count) ->
+              summary
+                  .append(summary.isEmpty() ? "" : ", ")
+                  .append(count)
+                  .append(' ')
+                  .append(status));
+      out.println();
+      out.println(regressions() > 0 ? "FAILED: " + summary : "PASSED: " + summary);
+    }
+
+    private static String format(double value) {
+      return Double.isNaN(value) ? "-" : String.format(Locale.ROOT, "%.3f", value);
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package io.github.neewrobert.guavarangeparser.benchmarks;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.util.Statistics;
+
+/**
+ * Runs {@link ConcurrentParseBenchmark} at 1, 2, 4, … threads up to the number of available
+ * processors, and prints throughput and latency percentiles per thread count.
+ *
+ * <p>Throughput that stops growing with the thread count, or tail latency that grows with it,
+ * points to contention on state shared between the threads.
+ *
+ * <p>{@link ParseAllBenchmark} spreads a single batch over an executor, so it runs on one thread
+ * with the executor's parallelism stepped through the same counts instead, which are listed as its
+ * threads.
+ *
+ * <p>Usage, as run by {@code make benchmark-scaling}:
+ *
+ * <pre>{@code
+ * java -cp benchmarks.jar io.github.neewrobert.guavarangeparser.benchmarks.ScalabilityBenchmarks \
+ *     [jmh options] [benchmark regexp]
+ * }</pre>
+ *
+ * <p>JMH options are passed through, except for the thread count. Without a benchmark regexp, all
+ * benchmarks of {@link ConcurrentParseBenchmark} and {@link ParseAllBenchmark} run; with one, the
+ * matching benchmarks run at each thread count.
+ */
+public final class ScalabilityBenchmarks {
+
+  private ScalabilityBenchmarks() {}
+
+  /**
+   * Runs the benchmarks and prints the summary.
+   *
+   * @param args JMH command line options
+   * @throws CommandLineOptionException if the options are invalid
+   * @throws RunnerException if a benchmark fails
+   */
+  public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+    CommandLineOptions options = new CommandLineOptions(args);
+    List<Integer> counts = threadCounts(Runtime.getRuntime().availableProcessors());
+    List<RunResult> results = new ArrayList<>();
+    for (int threads : counts) {
+      OptionsBuilder builder = new OptionsBuilder();
+      builder.parent(options).threads(threads);
+      if (options.getIncludes().isEmpty()) {
+        builder.include(ConcurrentParseBenchmark.class.getName());
+      }
+      results.addAll(new Runner(builder.build()).run());
+    }
+    if (options.getIncludes().isEmpty()) {
+      OptionsBuilder builder = new OptionsBuilder();
+      builder
+          .parent(options)
+          .include(ParseAllBenchmark.class.getName())
+          .threads(1)
+          .param("parallelism", counts.stream().map(String::valueOf).toArray(String[]::new));
+      results.addAll(new Runner(builder.build()).run());
+    }
+    print(results, System.out);
+  }
+
+  /** Returns the powers of two below {@code processors}, followed by {@code processors}. */
+  static List<Integer> threadCounts(int processors) {
+    List<Integer> counts = new ArrayList<>();
+    for (int threads = 1; threads < processors; threads *= 2) {
+      counts.add(threads);
+    }
+    counts.add(processors);
+    return counts;
+  }
+
+  /** Prints one row per benchmark and thread count, with its throughput and percentiles. */
+  static void print(Collection<RunResult> results, PrintStream out) {
+    Map<String, SortedSet<Integer>> rows = new TreeMap<>();
+    Map<String, Double> throughput = new HashMap<>();
+    Map<String, Statistics> latency = new HashMap<>();
+    String throughputUnit = "ops";
+    String latencyUnit = "";
+    for (RunResult result : results) {
+      BenchmarkParams params = result.getParams();
+      // Keep the class and method name
+      String benchmark = params.getBenchmark();
+      benchmark =
+          benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1);
+      int threads = threads(params);
+      rows.computeIfAbsent(benchmark, b -> new TreeSet<>()).add(threads);
+      String key = benchmark + '@' + threads;
+      if (params.getMode() == Mode.Throughput) {
+        throughput.put(key, result.getPrimaryResult().getScore());
+        throughputUnit = result.getPrimaryResult().getScoreUnit();
+      } else if (params.getMode() == Mode.SampleTime) {
+        latency.put(key, result.getPrimaryResult().getStatistics());
+        latencyUnit = " " + result.getPrimaryResult().getScoreUnit();
+      }
+    }
+
+    int width = rows.keySet().stream().mapToInt(String::length).max().orElse(0);
+    String row = "%-" + Math.max(width, 9) + "s  %7s  %12s  %12s  %12s  %12s%n";
+    out.println();
+    out.printf(
+        Locale.ROOT,
+        row,
+        "Benchmark",
+        "Threads",
+        throughputUnit,
+        "p50" + latencyUnit,
+        "p99" + latencyUnit,
+        "p99.9" + latencyUnit);
+    for (Map.Entry<String, SortedSet<Integer>> entry : rows.entrySet()) {
+      for (int threads : entry.getValue()) {
+        String key = entry.getKey() + '@' + threads;
+        Double score = throughput.get(key);
+        Statistics sample = latency.get(key);
+        out.printf(
+            Locale.ROOT,
+            row,
+            entry.getKey(),
+            threads,
+            score == null ? "-" : format(score),
+            sample == null ? "-" : format(sample.getPercentile(50)),
+            sample == null ? "-" : format(sample.getPercentile(99)),
+            sample == null ? "-" : format(sample.getPercentile(99.9)));
+      }
+    }
+  }
+
+  /** Returns the executor's parallelism for benchmarks that have one, else the JMH threads. */
+  private static int threads(BenchmarkParams params) {
+    String parallelism = params.getParam("parallelism");
+    return parallelism != null ? Integer.parseInt(parallelism) : params.getThreads();
+  }
+
+  private static String format(double value) {
+    return String.format(Locale.ROOT, "%.3f", value);
+  }
+}
@@ -0,0 +1,84 @@
+package io.github.neewrobert.guavarangeparser.benchmarks;
+
+import io.github.neewrobert.guavarangeparser.core.BuiltInTypeAdapters;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Date-time endpoints through the built-in adapters and through the JDK {@code parse} methods. */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TemporalParseBenchmark {
+
+  String localDate = "2024-03-01";
+  String localDateTime = "2024-03-01T10:15:30";
+  String instant = "2024-03-01T10:15:30.123Z";
+  String offsetDateTime = "2024-03-01T10:15:30+01:00";
+  String zonedDateTime = "2024-03-01T10:15:30+01:00[Europe/Paris]";
+
+  @Benchmark
+  public LocalDate localDateAdapter() {
+    return BuiltInTypeAdapters.LOCAL_DATE.parse(localDate);
+  }
+
+  @Benchmark
+  public LocalDate localDateJdk() {
+    return LocalDate.parse(localDate);
+  }
+
+  @Benchmark
+  public LocalDateTime localDateTimeAdapter() {
+    return BuiltInTypeAdapters.LOCAL_DATE_TIME.parse(localDateTime);
+  }
+
+  @Benchmark
+  public LocalDateTime localDateTimeJdk() {
+    return LocalDateTime.parse(localDateTime);
+  }
+
+  @Benchmark
+  public Instant instantAdapter() {
+    return BuiltInTypeAdapters.INSTANT.parse(instant);
+  }
+
+  @Benchmark
+  public Instant instantJdk() {
+    return Instant.parse(instant);
+  }
+
+  @Benchmark
+  public OffsetDateTime offsetDateTimeAdapter() {
+    return BuiltInTypeAdapters.OFFSET_DATE_TIME.parse(offsetDateTime);
+  }
+
+  @Benchmark
+  public OffsetDateTime offsetDateTimeJdk() {
+    return OffsetDateTime.parse(offsetDateTime);
+  }
+
+  @Benchmark
+  public ZonedDateTime zonedDateTimeAdapter() {
+    return BuiltInTypeAdapters.ZONED_DATE_TIME.parse(zonedDateTime);
+  }
+
+  @Benchmark
+  public ZonedDateTime zonedDateTimeJdk() {
+    return ZonedDateTime.parse(zonedDateTime);
+  }
+}
@@ -0,0 +1,7 @@
+/**
+ * JMH benchmarks for parsing and formatting ranges.
+ *
+ * <p>Build the self-contained jar and run all benchmarks with the allocation profiler through
+ * {@code make benchmark}, or pass JMH options, e.g. {@code make benchmark ARGS="Parse -f 1"}.
+ */
+package io.github.neewrobert.guavarangeparser.benchmarks;
@@ -0,0 +1,247 @@
+package io.github.neewrobert.guavarangeparser.benchmarks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.github.neewrobert.guavarangeparser.benchmarks.RegressionGate.Comparison;
+import io.github.neewrobert.guavarangeparser.benchmarks.RegressionGate.Report;
+import io.github.neewrobert.guavarangeparser.benchmarks.RegressionGate.Result;
+import io.github.neewrobert.guavarangeparser.benchmarks.RegressionGate.Status;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RegressionGateTest {
+
+  private static final String PARSE =
+      "io.github.neewrobert.guavarangeparser.benchmarks.ParseBenchmark.parseRange";
+
+  @TempDir Path tempDir;
+
+  @Nested
+  class Reading {
+
+    @Test
+    void readsScoreAllocationAndKey() throws IOException {
+      Path file = write("results.json", benchmark(PARSE, "thrpt", 12.5, 96.0));
+
+      Map<String, Result> results = RegressionGate.read(file);
+
+      assertThat(results.values())
+          .containsExactly(
+              new Result(
+                  "ParseBenchmark.parseRange [thrpt, elementType=INTEGER, syntax=strict]",
+                  "thrpt",
+                  12.5,
+                  "ops/us",
+                  96.0));
+    }
+
+    @Test
+    void readsPrefixedAllocationMetricOfOlderJmh() throws IOException {
+      Path file =
+          write("results.json", benchmark(PARSE, "thrpt", 12.5, 96.0).replace("\"gc", "\"·gc"));
+
+      assertThat(RegressionGate.read(file).values())
+          .singleElement()
+          .extracting(Result::allocatedBytes)
+          .isEqualTo(96.0);
+    }
+
+    @Test
+    void readsResultWithoutGcProfiler() throws IOException {
+      Path file = write("results.json", benchmark(PARSE, "thrpt", 12.5, Double.NaN));
+
+      assertThat(RegressionGate.read(file).values())
+          .singleElement()
+          .extracting(Result::allocatedBytes)
+          .isEqualTo(Double.NaN);
+    }
+
+    @Test
+    void rejectsNonJmhJson() throws IOException {
+      Path file = write("results.json", "{\"benchmark\": 1}");
+
+      assertThatThrownBy(() -> RegressionGate.read(file))
+          .isInstanceOf(IOException.class)
+          .hasMessageContaining("Not a JMH JSON result");
+    }
+  }
+
+  @Nested
+  class Comparing {
+
+    private final RegressionGate gate = new RegressionGate(0.10, 0.05);
+
+    @Test
+    void acceptsChangesWithinTolerance() {
+      Report report = gate.compare(results("thrpt", 100, 96), results("thrpt", 92, 100));
+
+      assertThat(report.comparisons())
+          .extracting(Comparison::status)
+          .containsExactly(Status.OK, Status.OK);
+      assertThat(report.regressions()).isZero();
+    }
+
+    @Test
+    void flagsThroughputDrop() {
+      Report report = gate.compare(results("thrpt", 100, 96), results("thrpt", 89, 96));
+
+      assertThat(report.comparisons())
+          .extracting(Comparison::status)
+          .containsExactly(Status.REGRESSION, Status.OK);
+    }
+
+    @Test
+    void flagsAverageTimeRise() {
+      Report report = gate.compare(results("avgt", 100, 96), results("avgt", 111, 96));
+
+      assertThat(report.comparisons().get(0).status()).isEqualTo(Status.REGRESSION);
+    }
+
+    @Test
+    void reportsImprovement() {
+      Report report = gate.compare(results("thrpt", 100, 960), results("thrpt", 120, 480));
+
+      assertThat(report.comparisons())
+          .extracting(Comparison::status)
+          .containsExactly(Status.IMPROVEMENT, Status.IMPROVEMENT);
+    }
+
+    @Test
+    void flagsAllocationIncrease() {
+      Report report = gate.compare(results("thrpt", 100, 960), results("thrpt", 100, 1200));
+
+      assertThat(report.comparisons())
+          .extracting(Comparison::status)
+          .containsExactly(Status.OK, Status.REGRESSION);
+    }
+
+    @Test
+    void toleratesAllocationNoiseOfAllocationFreeBenchmarks() {
+      Report report = gate.compare(results("thrpt", 100, 0.01), results("thrpt", 100, 2.5));
+
+      assertThat(report.regressions()).isZero();
+    }
+
+    @Test
+    void reportsMissingAndNewBenchmarksWithoutFailing() {
+      Report report = gate.compare(results("thrpt", 100, 96), results("avgt", 100, 96));
+
+      assertThat(report.comparisons())
+          .extracting(Comparison::status)
+          .containsExactly(Status.MISSING, Status.NEW);
+      assertThat(report.regressions()).isZero();
+    }
+
+    @Test
+    void rejectsNegativeTolerance() {
+      assertThatThrownBy(() -> new RegressionGate(-0.1, 0.05))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("throughputTolerance must not be negative");
+    }
+
+    private Map<String, Result> results(String mode, double score, double allocatedBytes) {
+      Result result =
+          new Result(
+              "ParseBenchmark.parseRange [" + mode + "]", mode, score, "ops/us", allocatedBytes);
+      return Map.of(result.key(), result);
+    }
+  }
+
+  @Nested
+  class CommandLine {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    @Test
+    void passesAndPrintsReport() throws IOException {
+      Path baseline = write("baseline.json", benchmark(PARSE, "thrpt", 10.0, 96.0));
+      Path current = write("current.json", benchmark(PARSE, "thrpt", 10.5, 96.0));
+
+      int exitCode = run(baseline.toString(), current.toString());
+
+      assertThat(exitCode).isZero();
+      assertThat(out.toString(StandardCharsets.UTF_8))
+          .contains("ParseBenchmark.parseRange [thrpt, elementType=INTEGER, syntax=strict]")
+          .contains("+5.0%")
+          .contains("PASSED: 2 OK");
+    }
+
+    @Test
+    void failsOnRegression() throws IOException {
+      Path baseline = write("baseline.json", benchmark(PARSE, "thrpt", 10.0, 96.0));
+      Path current = write("current.json", benchmark(PARSE, "thrpt", 8.0, 96.0));
+
+      int exitCode = run(baseline.toString(), current.toString());
+
+      assertThat(exitCode).isEqualTo(1);
+      assertThat(out.toString(StandardCharsets.UTF_8))
+          .contains("-20.0%")
+          .contains("FAILED: 1 OK, 1 REGRESSION");
+    }
+
+    @Test
+    void appliesConfiguredTolerance() throws IOException {
+      Path baseline = write("baseline.json", benchmark(PARSE, "thrpt", 10.0, 96.0));
+      Path current = write("current.json", benchmark(PARSE, "thrpt", 8.0, 96.0));
+
+      int exitCode = run(baseline.toString(), current.toString(), "--throughput-tolerance", "0.25");
+
+      assertThat(exitCode).isZero();
+    }
+
+    @Test
+    void rejectsMissingFile() {
+      int exitCode = run(tempDir.resolve("baseline.json").toString());
+
+      assertThat(exitCode).isEqualTo(2);
+      assertThat(err.toString(StandardCharsets.UTF_8)).contains("Usage: RegressionGate");
+    }
+
+    @Test
+    void rejectsUnreadableFile() {
+      int exitCode =
+          run(tempDir.resolve("baseline.json").toString(), tempDir.resolve("x.json").toString());
+
+      assertThat(exitCode).isEqualTo(2);
+      assertThat(err.toString(StandardCharsets.UTF_8)).contains("Cannot read benchmark results");
+    }
+
+    private int run(String... args) {
+      return RegressionGate.run(
+          args,
+          new PrintStream(out, true, StandardCharsets.UTF_8),
+          new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+  }
+
+  private Path write(String name, String content) throws IOException {
+    return Files.writeString(tempDir.resolve(name), content);
+  }
+
+  /** Returns a JMH JSON result file with one benchmark, trimmed to the fields that are read. */
+  private static String benchmark(String name, String mode, double score, double allocatedBytes) {
+    String secondary =
+        Double.isNaN(allocatedBytes)
+            ? "{}"
+            : """
+              {"gc.alloc.rate": {"score": 512.0, "scoreUnit": "MB/sec"},
+               "gc.alloc.rate.norm": {"score": %s, "scoreUnit": "B/op"}}"""
+                .formatted(allocatedBytes);
+    return """
+        [{"jmhVersion": "1.37", "benchmark": "%s", "mode": "%s", "threads": 1,
+          "params": {"syntax": "strict", "elementType": "INTEGER"},
+          "primaryMetric": {"score": %s, "scoreError": "NaN", "scoreUnit": "ops/us"},
+          "secondaryMetrics": %s}]"""
+        .formatted(name, mode, score, secondary);
+  }
+}
@@ -0,0 +1,23 @@
+package io.github.neewrobert.guavarangeparser.benchmarks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ScalabilityBenchmarksTest {
+
+  @Test
+  void runsSingleThreadOnSingleProcessor() {
+    assertThat(ScalabilityBenchmarks.threadCounts(1)).containsExactly(1);
+  }
+
+  @Test
+  void doublesThreadsUpToProcessorCount() {
+    assertThat(ScalabilityBenchmarks.threadCounts(8)).containsExactly(1, 2, 4, 8);
+  }
+
+  @Test
+  void endsWithProcessorCountThatIsNoPowerOfTwo() {
+    assertThat(ScalabilityBenchmarks.threadCounts(6)).containsExactly(1, 2, 4, 6);
+  }
+}
@@ -0,0 +1,108 @@
+package io.github.neewrobert.guavarangeparser.core;
+
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Resolves the adapter of a parser for an element type, and remembers it per type.
+ *
+ * <p>An adapter registered for the type itself, custom before built-in, wins. Otherwise the
+ * superclasses are tried from the nearest up, then all interfaces breadth-first, and finally enums
+ * get an adapter that parses constant names. Adapters found on a supertype are only trusted to
+ * return instances of the requested type for the values they actually return, see {@link
+ * SupertypeAdapter}.
+ *
+ * <p>Being a {@link ClassValue}, the resolved adapters are stored with the classes themselves, so
+ * that resolution costs one walk of the hierarchy per type and parser, later lookups take constant
+ * time, and a parser does not keep classes of other class loaders reachable.
+ */
+final class AdapterResolver extends ClassValue<RegionTypeAdapter<?>> {
+
+  /** Adapters that override the shared {@linkplain BuiltInTypeAdapters#REGISTRY built-in ones}. */
+  private final Map<Class<?>, RegionTypeAdapter<?>> customAdapters;
+
+  AdapterResolver(Map<Class<?>, RegionTypeAdapter<?>> customAdapters) {
+    this.customAdapters = Map.copyOf(customAdapters);
+  }
+
+  /** Returns the adapter for the element type, or {@code null} if there is none. */
+  @SuppressWarnings("unchecked")
+  <T> RegionTypeAdapter<T> adapterFor(Class<T> elementType) {
+    return (RegionTypeAdapter<T>) get(elementType);
+  }
+
+  @Override
+  protected RegionTypeAdapter<?> computeValue(Class<?> type) {
+    RegionTypeAdapter<?> adapter = registered(type);
+    if (adapter != null) {
+      return adapter;
+    }
+
+    for (Class<?> superclass = type.getSuperclass();
+        superclass != null;
+        superclass = superclass.getSuperclass()) {
+      adapter = registered(superclass);
+      if (adapter != null) {
+        return new SupertypeAdapter<>(type, adapter);
+      }
+    }
+
+    Set<Class<?>> visited = new HashSet<>();
+    Queue<Class<?>> interfaces = new ArrayDeque<>();
+    for (Class<?> c = type; c != null; c = c.getSuperclass()) {
+      addInterfaces(c, visited, interfaces);
+    }
+    while (!interfaces.isEmpty()) {
+      Class<?> anInterface = interfaces.remove();
+      adapter = registered(anInterface);
+      if (adapter != null) {
+        return new SupertypeAdapter<>(type, adapter);
+      }
+      addInterfaces(anInterface, visited, interfaces);
+    }
+
+    return type.isEnum() ? BuiltInTypeAdapters.forEnum(type) : null;
+  }
+
+  private RegionTypeAdapter<?> registered(Class<?> type) {
+    RegionTypeAdapter<?> adapter = customAdapters.get(type);
+    return adapter != null ? adapter : BuiltInTypeAdapters.REGISTRY.get(type);
+  }
+
+  private static void addInterfaces(
+      Class<?> type, Set<Class<?>> visited, Queue<Class<?>> interfaces) {
+    for (Class<?> anInterface : type.getInterfaces()) {
+      if (visited.add(anInterface)) {
+        interfaces.add(anInterface);
+      }
+    }
+  }
+
+  /**
+   * Adapter registered for a supertype of the element type, e.g. the factory of a sealed
+   * hierarchy. Values that are not instances of the element type are rejected, since they would
+   * otherwise end up in a range of the wrong type.
+   */
+  private record SupertypeAdapter<T>(Class<T> type, RegionTypeAdapter<?> adapter)
+      implements RegionTypeAdapter<T> {
+
+    @Override
+    public T parse(CharSequence source, int start, int end) {
+      Object value = adapter.parse(source, start, end);
+      if (value != null && !type.isInstance(value)) {
+        throw new IllegalArgumentException(
+            "Expected " + type.getName() + " but got " + value.getClass().getName());
+      }
+      return type.cast(value);
+    }
+
+    @Override
+    public T tryParse(CharSequence source, int start, int end) {
+      Object value = adapter.tryParse(source, start, end);
+      return type.isInstance(value) ? type.cast(value) : null;
+    }
+  }
+}
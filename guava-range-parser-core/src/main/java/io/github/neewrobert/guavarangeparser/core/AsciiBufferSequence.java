@@ -0,0 +1,52 @@
+package io.github.neewrobert.guavarangeparser.core;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+
+/**
+ * Zero-copy {@link CharSequence} view over ASCII bytes of a {@link ByteBuffer}, such as a mapped
+ * file.
+ *
+ * <p>Like {@link AsciiCharSequence}, each byte is exposed as the char with the same value, so the
+ * view is only meaningful for regions that contain no byte above {@code 0x7F}. Bytes are read with
+ * absolute gets below the limit, so the buffer's position is neither used nor modified.
+ */
+final class AsciiBufferSequence implements CharSequence {
+
+  private final ByteBuffer buffer;
+  private final int offset;
+  private final int length;
+
+  AsciiBufferSequence(ByteBuffer buffer, int offset, int length) {
+    Objects.checkFromIndexSize(offset, length, buffer.limit());
+    this.buffer = buffer;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public char charAt(int index) {
+    Objects.checkIndex(index, length);
+    return (char) (buffer.get(offset + index) & 0xFF);
+  }
+
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    Objects.checkFromToIndex(start, end, length);
+    return new AsciiBufferSequence(buffer, offset + start, end - start);
+  }
+
+  @Override
+  public String toString() {
+    char[] chars = new char[length];
+    for (int i = 0; i < length; i++) {
+      chars[i] = (char) (buffer.get(offset + i) & 0xFF);
+    }
+    return new String(chars);
+  }
+}
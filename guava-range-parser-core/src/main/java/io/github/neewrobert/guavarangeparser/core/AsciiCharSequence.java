@@ -0,0 +1,47 @@
+package io.github.neewrobert.guavarangeparser.core;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Zero-copy {@link CharSequence} view over ASCII bytes.
+ *
+ * <p>Each byte is exposed as the char with the same value, so the view is only meaningful for
+ * regions that contain no byte above {@code 0x7F}. {@link RangeParser} uses it to hand ASCII
+ * endpoints of UTF-8 input to {@link RegionTypeAdapter}s without decoding them.
+ */
+final class AsciiCharSequence implements CharSequence {
+
+  private final byte[] bytes;
+  private final int offset;
+  private final int length;
+
+  AsciiCharSequence(byte[] bytes, int offset, int length) {
+    Objects.checkFromIndexSize(offset, length, bytes.length);
+    this.bytes = bytes;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public char charAt(int index) {
+    Objects.checkIndex(index, length);
+    return (char) (bytes[offset + index] & 0xFF);
+  }
+
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    Objects.checkFromToIndex(start, end, length);
+    return new AsciiCharSequence(bytes, offset + start, end - start);
+  }
+
+  @Override
+  public String toString() {
+    return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+  }
+}
@@ -2,6 +2,8 @@ package io.github.neewrobert.guavarangeparser.core;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -9,6 +11,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.Map;
 
 /**
@@ -23,6 +26,30 @@ import java.util.Map;
  *   <li>Other types: String, Character
  * </ul>
  *
+ * <p>The built-in adapters are {@link RegionTypeAdapter}s that parse endpoints straight from the
+ * parser input. Most of them also implement {@link RegionTypeAdapter#tryParse} with a cheap syntax
+ * check, so that invalid input is rejected without creating an exception.
+ *
+ * <p>BigInteger and BigDecimal endpoints are pre-scanned before conversion, which takes time
+ * quadratic in the number of digits. They are rejected if they have more than 1000 digits or, for
+ * BigDecimal, a scale outside {@code [-10000, 10000]}, since comparing values of very different
+ * scale is expensive. {@link RangeParser.Builder#maxDigits(int)} and {@link
+ * RangeParser.Builder#maxScale(int)} configure these limits per parser.
+ *
+ * <p>Double and Float are parsed with the Eisel-Lemire algorithm, and are bit-identical to {@link
+ * Double#parseDouble(String)} and {@link Float#parseFloat(String)}; the JDK parses the rare values
+ * that the algorithm cannot round with certainty, and all notation other than plain decimal and
+ * scientific, such as {@code NaN} or hexadecimal.
+ *
+ * <p>The temporal adapters are created when a temporal endpoint is first parsed, so that parsers
+ * that never see one do not pay for them.
+ *
+ * <p>Duration is parsed by a hand-written, single-pass parser for the {@code PnDTnHnMn.nS} grammar
+ * of {@link Duration#parse(CharSequence)}, which falls back to {@code Duration.parse} for values it
+ * does not handle, so that results and exceptions are the same as the JDK's. The other temporal
+ * types are parsed the same way for their canonical ISO-8601 forms, without {@link
+ * DateTimeFormatter}; zone region ids of ZonedDateTime are cached.
+ *
  * @see TypeAdapter
  * @see RangeParser
  */
@@ -30,63 +57,491 @@ public final class BuiltInTypeAdapters {
 
   private BuiltInTypeAdapters() {}
 
-  public static final TypeAdapter<Integer> INTEGER = Integer::valueOf;
-  public static final TypeAdapter<Long> LONG = Long::valueOf;
-  public static final TypeAdapter<Short> SHORT = Short::valueOf;
-  public static final TypeAdapter<Byte> BYTE = Byte::valueOf;
-  public static final TypeAdapter<Double> DOUBLE = Double::valueOf;
-  public static final TypeAdapter<Float> FLOAT = Float::valueOf;
-  public static final TypeAdapter<BigInteger> BIG_INTEGER = BigInteger::new;
-  public static final TypeAdapter<BigDecimal> BIG_DECIMAL = BigDecimal::new;
-
-  public static final TypeAdapter<Duration> DURATION = Duration::parse;
-  public static final TypeAdapter<Instant> INSTANT = Instant::parse;
-  public static final TypeAdapter<LocalDate> LOCAL_DATE = LocalDate::parse;
-  public static final TypeAdapter<LocalDateTime> LOCAL_DATE_TIME = LocalDateTime::parse;
-  public static final TypeAdapter<LocalTime> LOCAL_TIME = LocalTime::parse;
-  public static final TypeAdapter<ZonedDateTime> ZONED_DATE_TIME = ZonedDateTime::parse;
-  public static final TypeAdapter<OffsetDateTime> OFFSET_DATE_TIME = OffsetDateTime::parse;
-
-  public static final TypeAdapter<String> STRING = s -> s;
+  /** Default maximum number of digits of BigInteger and BigDecimal endpoints. */
+  static final int DEFAULT_MAX_DIGITS = 1000;
+
+  /** Default maximum absolute scale of BigDecimal endpoints. */
+  static final int DEFAULT_MAX_SCALE = 10_000;
+
+  // Results of scanBigDecimal
+  private static final int WITHIN_LIMITS = 0;
+  private static final int INVALID_SYNTAX = 1;
+  private static final int TOO_MANY_DIGITS = 2;
+  private static final int SCALE_OUT_OF_RANGE = 3;
+
+  public static final TypeAdapter<Integer> INTEGER =
+      new CheckedAdapter<>(
+          BuiltInTypeAdapters::parseInt,
+          (s, start, end) -> isDecimal(s, start, end, Integer.MIN_VALUE, Integer.MAX_VALUE));
+  public static final TypeAdapter<Long> LONG =
+      new CheckedAdapter<>(
+          BuiltInTypeAdapters::parseLong,
+          (s, start, end) -> isDecimal(s, start, end, Long.MIN_VALUE, Long.MAX_VALUE));
+  public static final TypeAdapter<Short> SHORT =
+      new CheckedAdapter<>(
+          BuiltInTypeAdapters::parseShort,
+          (s, start, end) -> isDecimal(s, start, end, Short.MIN_VALUE, Short.MAX_VALUE));
+  public static final TypeAdapter<Byte> BYTE =
+      new CheckedAdapter<>(
+          BuiltInTypeAdapters::parseByte,
+          (s, start, end) -> isDecimal(s, start, end, Byte.MIN_VALUE, Byte.MAX_VALUE));
+  public static final TypeAdapter<Double> DOUBLE =
+      (RegionTypeAdapter<Double>) DecimalParser::parseDouble;
+  public static final TypeAdapter<Float> FLOAT =
+      (RegionTypeAdapter<Float>) DecimalParser::parseFloat;
+  public static final TypeAdapter<BigInteger> BIG_INTEGER = bigInteger(DEFAULT_MAX_DIGITS);
+  public static final TypeAdapter<BigDecimal> BIG_DECIMAL =
+      bigDecimal(DEFAULT_MAX_DIGITS, DEFAULT_MAX_SCALE);
+
+  // The java.time adapters are created on first use, see Temporal
+  public static final TypeAdapter<Duration> DURATION = new LazyAdapter<>(Duration.class);
+  public static final TypeAdapter<Instant> INSTANT = new LazyAdapter<>(Instant.class);
+  public static final TypeAdapter<LocalDate> LOCAL_DATE = new LazyAdapter<>(LocalDate.class);
+  public static final TypeAdapter<LocalDateTime> LOCAL_DATE_TIME =
+      new LazyAdapter<>(LocalDateTime.class);
+  public static final TypeAdapter<LocalTime> LOCAL_TIME = new LazyAdapter<>(LocalTime.class);
+  public static final TypeAdapter<ZonedDateTime> ZONED_DATE_TIME =
+      new LazyAdapter<>(ZonedDateTime.class);
+  public static final TypeAdapter<OffsetDateTime> OFFSET_DATE_TIME =
+      new LazyAdapter<>(OffsetDateTime.class);
+
+  public static final TypeAdapter<String> STRING =
+      (RegionTypeAdapter<String>) BuiltInTypeAdapters::substring;
   public static final TypeAdapter<Character> CHARACTER =
-      s -> {
-        if (s.length() != 1) {
-          throw new IllegalArgumentException("Expected single character but got: '" + s + "'");
+      new CheckedAdapter<>(
+          (s, start, end) -> {
+            if (end - start != 1) {
+              throw new IllegalArgumentException(
+                  "Expected single character but got: '" + substring(s, start, end) + "'");
+            }
+            return s.charAt(start);
+          },
+          (s, start, end) -> end - start == 1);
+
+  /**
+   * Holds the java.time adapters, so that they and the lambdas they consist of are only created
+   * when a temporal endpoint is first parsed, rather than whenever this class is initialized.
+   */
+  private static final class Temporal {
+
+    static final RegionTypeAdapter<Duration> DURATION =
+        new FastPathAdapter<>(
+            IsoTemporalParser::parseDuration,
+            (s, start, end) -> Duration.parse(s.subSequence(start, end)));
+    static final RegionTypeAdapter<Instant> INSTANT =
+        new FastPathAdapter<>(
+            IsoTemporalParser::parseInstant,
+            new CheckedAdapter<>(
+                (s, start, end) -> Instant.parse(s.subSequence(start, end)),
+                (s, start, end) -> matchesSyntax(DateTimeFormatter.ISO_INSTANT, s, start, end)));
+    static final RegionTypeAdapter<LocalDate> LOCAL_DATE =
+        new FastPathAdapter<>(
+            IsoTemporalParser::parseLocalDate,
+            new CheckedAdapter<>(
+                (s, start, end) -> LocalDate.parse(s.subSequence(start, end)),
+                (s, start, end) -> matchesSyntax(DateTimeFormatter.ISO_LOCAL_DATE, s, start, end)));
+    static final RegionTypeAdapter<LocalDateTime> LOCAL_DATE_TIME =
+        new FastPathAdapter<>(
+            IsoTemporalParser::parseLocalDateTime,
+            new CheckedAdapter<>(
+                (s, start, end) -> LocalDateTime.parse(s.subSequence(start, end)),
+                (s, start, end) ->
+                    matchesSyntax(DateTimeFormatter.ISO_LOCAL_DATE_TIME, s, start, end)));
+    static final RegionTypeAdapter<LocalTime> LOCAL_TIME =
+        new FastPathAdapter<>(
+            IsoTemporalParser::parseLocalTime,
+            new CheckedAdapter<>(
+                (s, start, end) -> LocalTime.parse(s.subSequence(start, end)),
+                (s, start, end) -> matchesSyntax(DateTimeFormatter.ISO_LOCAL_TIME, s, start, end)));
+    static final RegionTypeAdapter<ZonedDateTime> ZONED_DATE_TIME =
+        new FastPathAdapter<>(
+            IsoTemporalParser::parseZonedDateTime,
+            new CheckedAdapter<>(
+                (s, start, end) -> ZonedDateTime.parse(s.subSequence(start, end)),
+                (s, start, end) ->
+                    matchesSyntax(DateTimeFormatter.ISO_ZONED_DATE_TIME, s, start, end)));
+    static final RegionTypeAdapter<OffsetDateTime> OFFSET_DATE_TIME =
+        new FastPathAdapter<>(
+            IsoTemporalParser::parseOffsetDateTime,
+            new CheckedAdapter<>(
+                (s, start, end) -> OffsetDateTime.parse(s.subSequence(start, end)),
+                (s, start, end) ->
+                    matchesSyntax(DateTimeFormatter.ISO_OFFSET_DATE_TIME, s, start, end)));
+
+    static final Map<Class<?>, RegionTypeAdapter<?>> ADAPTERS =
+        Map.of(
+            Duration.class, DURATION,
+            Instant.class, INSTANT,
+            LocalDate.class, LOCAL_DATE,
+            LocalDateTime.class, LOCAL_DATE_TIME,
+            LocalTime.class, LOCAL_TIME,
+            ZonedDateTime.class, ZONED_DATE_TIME,
+            OffsetDateTime.class, OFFSET_DATE_TIME);
+  }
+
+  /**
+   * Adapter that delegates to the {@linkplain Temporal java.time adapter} for its type, which it
+   * looks up on first use.
+   */
+  private static final class LazyAdapter<T> implements RegionTypeAdapter<T> {
+    private final Class<T> type;
+
+    // Racy but benign: every thread resolves the same immutable adapter
+    private RegionTypeAdapter<T> delegate;
+
+    LazyAdapter(Class<T> type) {
+      this.type = type;
+    }
+
+    @SuppressWarnings("unchecked")
+    private RegionTypeAdapter<T> delegate() {
+      RegionTypeAdapter<T> result = delegate;
+      if (result == null) {
+        result = (RegionTypeAdapter<T>) Temporal.ADAPTERS.get(type);
+        delegate = result;
+      }
+      return result;
+    }
+
+    @Override
+    public T parse(CharSequence source, int start, int end) {
+      return delegate().parse(source, start, end);
+    }
+
+    @Override
+    public T tryParse(CharSequence source, int start, int end) {
+      return delegate().tryParse(source, start, end);
+    }
+  }
+
+  /** Tests whether a region can be parsed, without parsing it. */
+  @FunctionalInterface
+  private interface RegionCheck {
+    boolean test(CharSequence s, int start, int end);
+  }
+
+  /**
+   * Region adapter that implements {@link RegionTypeAdapter#tryParse} with a cheap syntax check, so
+   * that invalid input is rejected without creating an exception.
+   *
+   * <p>Values that pass the check can still be rejected by the parser, e.g. February 30th; those
+   * rare cases fall back to catching the exception.
+   */
+  private record CheckedAdapter<T>(RegionTypeAdapter<T> parser, RegionCheck check)
+      implements RegionTypeAdapter<T> {
+
+    @Override
+    public T parse(CharSequence source, int start, int end) {
+      return parser.parse(source, start, end);
+    }
+
+    @Override
+    public T tryParse(CharSequence source, int start, int end) {
+      return check.test(source, start, end) ? parser.tryParse(source, start, end) : null;
+    }
+  }
+
+  /** Parses a region, or returns {@code null} if it is left to the fallback parser. */
+  @FunctionalInterface
+  private interface FastPath<T> {
+    T parseOrNull(CharSequence s, int start, int end);
+  }
+
+  /**
+   * Region adapter that tries a fast parser first, and only uses the fallback parser for regions
+   * that the fast parser leaves to it, which includes all invalid input.
+   */
+  private record FastPathAdapter<T>(FastPath<T> fastPath, RegionTypeAdapter<T> fallback)
+      implements RegionTypeAdapter<T> {
+
+    @Override
+    public T parse(CharSequence source, int start, int end) {
+      T value = fastPath.parseOrNull(source, start, end);
+      return value != null ? value : fallback.parse(source, start, end);
+    }
+
+    @Override
+    public T tryParse(CharSequence source, int start, int end) {
+      T value = fastPath.parseOrNull(source, start, end);
+      return value != null ? value : fallback.tryParse(source, start, end);
+    }
+  }
+
+  /**
+   * Creates a BigInteger adapter that rejects endpoints with more than {@code maxDigits} digits
+   * before converting them.
+   */
+  static RegionTypeAdapter<BigInteger> bigInteger(int maxDigits) {
+    return new CheckedAdapter<>(
+        (s, start, end) -> {
+          if (isDecimal(s, start, end) && digitCount(s, start, end) > maxDigits) {
+            throw new NumberFormatException("BigInteger value exceeds " + maxDigits + " digits");
+          }
+          return new BigInteger(substring(s, start, end));
+        },
+        (s, start, end) -> isDecimal(s, start, end) && digitCount(s, start, end) <= maxDigits);
+  }
+
+  /**
+   * Creates a BigDecimal adapter that rejects endpoints with more than {@code maxDigits} digits, or
+   * a scale beyond {@code [-maxScale, maxScale]}, before converting them.
+   */
+  static RegionTypeAdapter<BigDecimal> bigDecimal(int maxDigits, int maxScale) {
+    return new CheckedAdapter<>(
+        (s, start, end) -> {
+          switch (scanBigDecimal(s, start, end, maxDigits, maxScale)) {
+            case TOO_MANY_DIGITS ->
+                throw new NumberFormatException(
+                    "BigDecimal value exceeds " + maxDigits + " digits");
+            case SCALE_OUT_OF_RANGE ->
+                throw new NumberFormatException(
+                    "BigDecimal scale is outside of [-" + maxScale + ", " + maxScale + "]");
+            default -> {
+              // Invalid syntax is reported by the BigDecimal constructor
+            }
+          }
+          return new BigDecimal(substring(s, start, end));
+        },
+        (s, start, end) -> scanBigDecimal(s, start, end, maxDigits, maxScale) == WITHIN_LIMITS);
+  }
+
+  /**
+   * Creates an adapter for the constant names of an enum, which rejects unknown names like {@link
+   * Enum#valueOf(Class, String)}, but implements {@link RegionTypeAdapter#tryParse} without an
+   * exception.
+   */
+  static RegionTypeAdapter<Enum<?>> forEnum(Class<?> enumType) {
+    return new EnumAdapter(enumType, (Enum<?>[]) enumType.getEnumConstants());
+  }
+
+  private record EnumAdapter(Class<?> type, Enum<?>[] constants)
+      implements RegionTypeAdapter<Enum<?>> {
+
+    @Override
+    public Enum<?> parse(CharSequence source, int start, int end) {
+      Enum<?> constant = tryParse(source, start, end);
+      if (constant == null) {
+        throw new IllegalArgumentException(
+            "No enum constant " + type.getCanonicalName() + "." + substring(source, start, end));
+      }
+      return constant;
+    }
+
+    @Override
+    public Enum<?> tryParse(CharSequence source, int start, int end) {
+      for (Enum<?> constant : constants) {
+        if (regionEquals(constant.name(), source, start, end)) {
+          return constant;
         }
-        return s.charAt(0);
-      };
+      }
+      return null;
+    }
+  }
+
+  private static boolean regionEquals(String s, CharSequence source, int start, int end) {
+    if (s.length() != end - start) {
+      return false;
+    }
+    for (int i = 0; i < s.length(); i++) {
+      if (s.charAt(i) != source.charAt(start + i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /** Returns the number of digits of a region that {@link #isDecimal} accepts. */
+  private static int digitCount(CharSequence s, int start, int end) {
+    return s.charAt(start) == '-' || s.charAt(start) == '+' ? end - start - 1 : end - start;
+  }
 
   /**
-   * Registers all built-in type adapters into the provided map.
+   * Scans the region as {@code [+-]digits[.digits][(e|E)[+-]digits]}, the notation of {@link
+   * BigDecimal#BigDecimal(String)}, without converting it.
    *
-   * @param adapters the map to register adapters into
+   * @return {@link #WITHIN_LIMITS}, {@link #INVALID_SYNTAX}, {@link #TOO_MANY_DIGITS} or {@link
+   *     #SCALE_OUT_OF_RANGE}
    */
-  static void registerAll(Map<Class<?>, TypeAdapter<?>> adapters) {
-    adapters.put(Integer.class, INTEGER);
-    adapters.put(int.class, INTEGER);
-    adapters.put(Long.class, LONG);
-    adapters.put(long.class, LONG);
-    adapters.put(Short.class, SHORT);
-    adapters.put(short.class, SHORT);
-    adapters.put(Byte.class, BYTE);
-    adapters.put(byte.class, BYTE);
-    adapters.put(Double.class, DOUBLE);
-    adapters.put(double.class, DOUBLE);
-    adapters.put(Float.class, FLOAT);
-    adapters.put(float.class, FLOAT);
-    adapters.put(BigInteger.class, BIG_INTEGER);
-    adapters.put(BigDecimal.class, BIG_DECIMAL);
-
-    adapters.put(Duration.class, DURATION);
-    adapters.put(Instant.class, INSTANT);
-    adapters.put(LocalDate.class, LOCAL_DATE);
-    adapters.put(LocalDateTime.class, LOCAL_DATE_TIME);
-    adapters.put(LocalTime.class, LOCAL_TIME);
-    adapters.put(ZonedDateTime.class, ZONED_DATE_TIME);
-    adapters.put(OffsetDateTime.class, OFFSET_DATE_TIME);
-
-    adapters.put(String.class, STRING);
-    adapters.put(Character.class, CHARACTER);
-    adapters.put(char.class, CHARACTER);
+  private static int scanBigDecimal(
+      CharSequence s, int start, int end, int maxDigits, int maxScale) {
+    int i = start < end && (s.charAt(start) == '-' || s.charAt(start) == '+') ? start + 1 : start;
+    int digits = 0;
+    int fractionDigits = 0;
+    for (; i < end && Character.digit(s.charAt(i), 10) >= 0; i++) {
+      digits++;
+    }
+    if (i < end && s.charAt(i) == '.') {
+      for (i++; i < end && Character.digit(s.charAt(i), 10) >= 0; i++) {
+        fractionDigits++;
+      }
+      digits += fractionDigits;
+    }
+    if (digits == 0) {
+      return INVALID_SYNTAX;
+    }
+
+    long exponent = 0;
+    if (i < end && (s.charAt(i) == 'e' || s.charAt(i) == 'E')) {
+      i++;
+      boolean negative = i < end && s.charAt(i) == '-';
+      if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+        i++;
+      }
+      int exponentStart = i;
+      for (int digit; i < end && (digit = Character.digit(s.charAt(i), 10)) >= 0; i++) {
+        // Saturate, since any exponent beyond an int is out of range anyway
+        exponent = Math.min(exponent * 10 + digit, Integer.MAX_VALUE + 1L);
+      }
+      if (i == exponentStart) {
+        return INVALID_SYNTAX;
+      }
+      exponent = negative ? -exponent : exponent;
+    }
+    if (i != end) {
+      return INVALID_SYNTAX;
+    }
+    if (digits > maxDigits) {
+      return TOO_MANY_DIGITS;
+    }
+    return Math.abs(fractionDigits - exponent) > maxScale ? SCALE_OUT_OF_RANGE : WITHIN_LIMITS;
+  }
+
+  // The numeric region parsers fall back to the String-based JDK parser on failure, so that
+  // exception messages are exactly the ones produced by Integer.valueOf and friends.
+
+  static int parseInt(CharSequence s, int start, int end) {
+    try {
+      return Integer.parseInt(s, start, end, 10);
+    } catch (NumberFormatException e) {
+      return Integer.parseInt(substring(s, start, end));
+    }
+  }
+
+  static long parseLong(CharSequence s, int start, int end) {
+    try {
+      return Long.parseLong(s, start, end, 10);
+    } catch (NumberFormatException e) {
+      return Long.parseLong(substring(s, start, end));
+    }
   }
+
+  static double parseDouble(CharSequence s, int start, int end) {
+    return DecimalParser.parseDouble(s, start, end);
+  }
+
+  private static Short parseShort(CharSequence s, int start, int end) {
+    int value;
+    try {
+      value = Integer.parseInt(s, start, end, 10);
+    } catch (NumberFormatException e) {
+      return Short.valueOf(substring(s, start, end));
+    }
+    return value == (short) value ? (short) value : Short.valueOf(substring(s, start, end));
+  }
+
+  private static Byte parseByte(CharSequence s, int start, int end) {
+    int value;
+    try {
+      value = Integer.parseInt(s, start, end, 10);
+    } catch (NumberFormatException e) {
+      return Byte.valueOf(substring(s, start, end));
+    }
+    return value == (byte) value ? (byte) value : Byte.valueOf(substring(s, start, end));
+  }
+
+  /**
+   * Returns whether {@link Long#parseLong(CharSequence, int, int, int)} would accept the region in
+   * radix 10 and the value lies within {@code [min, max]}.
+   */
+  static boolean isDecimal(CharSequence s, int start, int end, long min, long max) {
+    if (!isDecimal(s, start, end)) {
+      return false;
+    }
+    boolean negative = s.charAt(start) == '-';
+    int i = s.charAt(start) == '-' || s.charAt(start) == '+' ? start + 1 : start;
+
+    // Accumulate negatively like Long.parseLong, since |min| > max
+    long limit = negative ? min : -max;
+    long multiplicationLimit = limit / 10;
+    long result = 0;
+    while (i < end) {
+      int digit = Character.digit(s.charAt(i++), 10);
+      if (result < multiplicationLimit) {
+        return false;
+      }
+      result *= 10;
+      if (result < limit + digit) {
+        return false;
+      }
+      result -= digit;
+    }
+    return true;
+  }
+
+  /** Returns whether the region is an optionally signed, non-empty sequence of decimal digits. */
+  private static boolean isDecimal(CharSequence s, int start, int end) {
+    int i = start < end && (s.charAt(start) == '-' || s.charAt(start) == '+') ? start + 1 : start;
+    if (i == end) {
+      return false;
+    }
+    for (; i < end; i++) {
+      if (Character.digit(s.charAt(i), 10) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns whether the formatter's syntax matches the whole region, without resolving it. Some
+   * fields, such as out-of-range offsets, are already rejected by throwing while parsing; such
+   * regions do not match.
+   */
+  private static boolean matchesSyntax(
+      DateTimeFormatter formatter, CharSequence s, int start, int end) {
+    CharSequence text = s.subSequence(start, end);
+    ParsePosition position = new ParsePosition(0);
+    try {
+      return formatter.parseUnresolved(text, position) != null
+          && position.getErrorIndex() < 0
+          && position.getIndex() == text.length();
+    } catch (DateTimeException e) {
+      return false;
+    }
+  }
+
+  private static String substring(CharSequence s, int start, int end) {
+    return s.subSequence(start, end).toString();
+  }
+
+  /**
+   * The built-in adapters by type, shared by all parsers. Parsers only keep the adapters that
+   * override them.
+   */
+  static final Map<Class<?>, RegionTypeAdapter<?>> REGISTRY =
+      Map.ofEntries(
+          Map.entry(Integer.class, (RegionTypeAdapter<?>) INTEGER),
+          Map.entry(int.class, (RegionTypeAdapter<?>) INTEGER),
+          Map.entry(Long.class, (RegionTypeAdapter<?>) LONG),
+          Map.entry(long.class, (RegionTypeAdapter<?>) LONG),
+          Map.entry(Short.class, (RegionTypeAdapter<?>) SHORT),
+          Map.entry(short.class, (RegionTypeAdapter<?>) SHORT),
+          Map.entry(Byte.class, (RegionTypeAdapter<?>) BYTE),
+          Map.entry(byte.class, (RegionTypeAdapter<?>) BYTE),
+          Map.entry(Double.class, (RegionTypeAdapter<?>) DOUBLE),
+          Map.entry(double.class, (RegionTypeAdapter<?>) DOUBLE),
+          Map.entry(Float.class, (RegionTypeAdapter<?>) FLOAT),
+          Map.entry(float.class, (RegionTypeAdapter<?>) FLOAT),
+          Map.entry(BigInteger.class, (RegionTypeAdapter<?>) BIG_INTEGER),
+          Map.entry(BigDecimal.class, (RegionTypeAdapter<?>) BIG_DECIMAL),
+          Map.entry(Duration.class, (RegionTypeAdapter<?>) DURATION),
+          Map.entry(Instant.class, (RegionTypeAdapter<?>) INSTANT),
+          Map.entry(LocalDate.class, (RegionTypeAdapter<?>) LOCAL_DATE),
+          Map.entry(LocalDateTime.class, (RegionTypeAdapter<?>) LOCAL_DATE_TIME),
+          Map.entry(LocalTime.class, (RegionTypeAdapter<?>) LOCAL_TIME),
+          Map.entry(ZonedDateTime.class, (RegionTypeAdapter<?>) ZONED_DATE_TIME),
+          Map.entry(OffsetDateTime.class, (RegionTypeAdapter<?>) OFFSET_DATE_TIME),
+          Map.entry(String.class, (RegionTypeAdapter<?>) STRING),
+          Map.entry(Character.class, (RegionTypeAdapter<?>) CHARACTER),
+          Map.entry(char.class, (RegionTypeAdapter<?>) CHARACTER));
 }
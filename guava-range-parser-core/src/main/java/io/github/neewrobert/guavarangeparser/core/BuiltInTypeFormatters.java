@@ -0,0 +1,145 @@
+package io.github.neewrobert.guavarangeparser.core;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Built-in type formatters for common Comparable types.
+ *
+ * <p>The Integer, Long, Short and Byte formatters append the value as a primitive, so {@link
+ * StringBuilder} writes its digits straight into the output buffer without creating an endpoint
+ * {@code String}. Their output is identical to {@code toString()}.
+ *
+ * <p>The java.time formatters write the ISO-8601 fields of Duration, Instant, LocalDate,
+ * LocalDateTime, LocalTime, OffsetDateTime and ZonedDateTime as digits into the output buffer,
+ * instead of going through {@link java.time.format.DateTimeFormatter}. Their output is also
+ * identical to {@code toString()}, so it parses back with the matching {@link BuiltInTypeAdapters}.
+ *
+ * <p>{@link #SHORTEST_DOUBLE} and {@link #SHORTEST_FLOAT} are not registered by default, see {@link
+ * RangeFormatter.Builder#shortestFloatingPoint(boolean)}. They write the shortest decimal that
+ * parses back to the same value, which on JDK 17 is sometimes shorter than {@code toString()}.
+ *
+ * <p>The java.time formatters are created when a temporal endpoint is first formatted, so that
+ * formatters that never see one do not pay for them.
+ *
+ * <p>Types without a formatter are written with {@link StringBuilder#append(Object)}.
+ *
+ * @see TypeFormatter
+ * @see RangeFormatter
+ */
+public final class BuiltInTypeFormatters {
+
+  private BuiltInTypeFormatters() {}
+
+  public static final TypeFormatter<Integer> INTEGER = (value, out) -> out.append(value.intValue());
+  public static final TypeFormatter<Long> LONG = (value, out) -> out.append(value.longValue());
+  public static final TypeFormatter<Short> SHORT = (value, out) -> out.append(value.shortValue());
+  public static final TypeFormatter<Byte> BYTE = (value, out) -> out.append(value.byteValue());
+
+  // The java.time formatters are created on first use, see Temporal
+  public static final TypeFormatter<Duration> DURATION = new LazyFormatter<>(Duration.class);
+  public static final TypeFormatter<Instant> INSTANT = new LazyFormatter<>(Instant.class);
+  public static final TypeFormatter<LocalDate> LOCAL_DATE = new LazyFormatter<>(LocalDate.class);
+  public static final TypeFormatter<LocalDateTime> LOCAL_DATE_TIME =
+      new LazyFormatter<>(LocalDateTime.class);
+  public static final TypeFormatter<LocalTime> LOCAL_TIME = new LazyFormatter<>(LocalTime.class);
+  public static final TypeFormatter<ZonedDateTime> ZONED_DATE_TIME =
+      new LazyFormatter<>(ZonedDateTime.class);
+  public static final TypeFormatter<OffsetDateTime> OFFSET_DATE_TIME =
+      new LazyFormatter<>(OffsetDateTime.class);
+
+  public static final TypeFormatter<Double> SHORTEST_DOUBLE =
+      (value, out) -> ShortestDecimal.appendDouble(value, out);
+  public static final TypeFormatter<Float> SHORTEST_FLOAT =
+      (value, out) -> ShortestDecimal.appendFloat(value, out);
+
+  /**
+   * Holds the java.time formatters, so that they are only created when a temporal endpoint is
+   * first formatted, rather than whenever this class is initialized.
+   */
+  private static final class Temporal {
+
+    static final TypeFormatter<Duration> DURATION = IsoTemporalFormat::appendDuration;
+    static final TypeFormatter<Instant> INSTANT = IsoTemporalFormat::appendInstant;
+    static final TypeFormatter<LocalDate> LOCAL_DATE = IsoTemporalFormat::appendLocalDate;
+    static final TypeFormatter<LocalDateTime> LOCAL_DATE_TIME =
+        IsoTemporalFormat::appendLocalDateTime;
+    static final TypeFormatter<LocalTime> LOCAL_TIME = IsoTemporalFormat::appendLocalTime;
+    static final TypeFormatter<ZonedDateTime> ZONED_DATE_TIME =
+        IsoTemporalFormat::appendZonedDateTime;
+    static final TypeFormatter<OffsetDateTime> OFFSET_DATE_TIME =
+        IsoTemporalFormat::appendOffsetDateTime;
+
+    static final Map<Class<?>, TypeFormatter<?>> FORMATTERS =
+        Map.of(
+            Duration.class, DURATION,
+            Instant.class, INSTANT,
+            LocalDate.class, LOCAL_DATE,
+            LocalDateTime.class, LOCAL_DATE_TIME,
+            LocalTime.class, LOCAL_TIME,
+            ZonedDateTime.class, ZONED_DATE_TIME,
+            OffsetDateTime.class, OFFSET_DATE_TIME);
+  }
+
+  /**
+   * Formatter that delegates to the {@linkplain Temporal java.time formatter} for its type, which
+   * it looks up on first use.
+   */
+  private static final class LazyFormatter<T> implements TypeFormatter<T> {
+    private final Class<T> type;
+
+    // Racy but benign: every thread resolves the same immutable formatter
+    private TypeFormatter<T> delegate;
+
+    LazyFormatter(Class<T> type) {
+      this.type = type;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void format(T value, StringBuilder out) {
+      TypeFormatter<T> formatter = delegate;
+      if (formatter == null) {
+        formatter = (TypeFormatter<T>) Temporal.FORMATTERS.get(type);
+        delegate = formatter;
+      }
+      formatter.format(value, out);
+    }
+  }
+
+  /**
+   * The built-in formatters by type, shared by all range formatters. Range formatters only copy
+   * them when custom formatters are registered.
+   */
+  static final Map<Class<?>, TypeFormatter<?>> REGISTRY =
+      Map.ofEntries(
+          Map.entry(Integer.class, INTEGER),
+          Map.entry(Long.class, LONG),
+          Map.entry(Short.class, SHORT),
+          Map.entry(Byte.class, BYTE),
+          Map.entry(Duration.class, DURATION),
+          Map.entry(Instant.class, INSTANT),
+          Map.entry(LocalDate.class, LOCAL_DATE),
+          Map.entry(LocalDateTime.class, LOCAL_DATE_TIME),
+          Map.entry(LocalTime.class, LOCAL_TIME),
+          Map.entry(ZonedDateTime.class, ZONED_DATE_TIME),
+          Map.entry(OffsetDateTime.class, OFFSET_DATE_TIME));
+
+  /** {@link #REGISTRY} together with the shortest round-trip formatters for Double and Float. */
+  static final Map<Class<?>, TypeFormatter<?>> SHORTEST_FLOATING_POINT_REGISTRY =
+      withShortestFloatingPoint();
+
+  private static Map<Class<?>, TypeFormatter<?>> withShortestFloatingPoint() {
+    Map<Class<?>, TypeFormatter<?>> formatters = new HashMap<>(REGISTRY);
+    formatters.put(Double.class, SHORTEST_DOUBLE);
+    formatters.put(Float.class, SHORTEST_FLOAT);
+    return Map.copyOf(formatters);
+  }
+}
@@ -0,0 +1,318 @@
+package io.github.neewrobert.guavarangeparser.core;
+
+import java.math.BigInteger;
+
+/**
+ * Parses decimal and scientific notation straight from a {@link CharSequence} region into a {@code
+ * double} or {@code float}, with the same result as {@link Double#parseDouble(String)} and {@link
+ * Float#parseFloat(String)}.
+ *
+ * <p>Up to 19 significant digits are accumulated into a {@code long} in a single pass. Values that
+ * are exactly representable are converted with one floating-point multiplication or division
+ * (Clinger's fast path); all others go through Daniel Lemire's variant of the Eisel-Lemire
+ * algorithm, which rounds correctly from a 128-bit approximation of the power of ten. The rare
+ * inputs where that approximation cannot decide the rounding, where more than 19 significant digits
+ * make a difference, or that use syntax beyond {@code [+-]digits[.digits][(e|E)[+-]digits]}
+ * (whitespace, {@code NaN}, {@code Infinity}, hexadecimal, type suffixes, invalid input) are left
+ * to the JDK, which also produces its exceptions.
+ *
+ * @see <a href="https://arxiv.org/abs/2101.11408">Number Parsing at a Gigabyte per Second</a>
+ */
+final class DecimalParser {
+
+  private DecimalParser() {}
+
+  private static final int MAX_SIGNIFICANT_DIGITS = 19;
+
+  /** Beyond this many exponent digits, the JDK handles the value. */
+  private static final int MAX_EXPONENT_DIGITS = 9;
+
+  /** Bounds of the table of powers of five; beyond them every value rounds to zero or infinity. */
+  private static final int Q_MIN = -342;
+
+  private static final int Q_MAX = 308;
+
+  /** Returned by the Eisel-Lemire step if it cannot decide the rounding. */
+  private static final long UNDECIDED = -1;
+
+  private static final int DOUBLE_MANTISSA_BITS = 52;
+  private static final int DOUBLE_MIN_EXPONENT = -1023;
+  private static final int DOUBLE_INFINITE_POWER = 0x7FF;
+  private static final int DOUBLE_Q_MIN = -342;
+  private static final int DOUBLE_Q_MAX = 308;
+  private static final int DOUBLE_Q_MIN_ROUND_TO_EVEN = -4;
+  private static final int DOUBLE_Q_MAX_ROUND_TO_EVEN = 23;
+
+  private static final int FLOAT_MANTISSA_BITS = 23;
+  private static final int FLOAT_MIN_EXPONENT = -127;
+  private static final int FLOAT_INFINITE_POWER = 0xFF;
+  private static final int FLOAT_Q_MIN = -65;
+  private static final int FLOAT_Q_MAX = 38;
+  private static final int FLOAT_Q_MIN_ROUND_TO_EVEN = -17;
+  private static final int FLOAT_Q_MAX_ROUND_TO_EVEN = 10;
+
+  private static final double[] DOUBLE_POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+    1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+
+  private static final float[] FLOAT_POWERS_OF_TEN = {
+    1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+  };
+
+  /**
+   * The 128 most significant bits of {@code 5^q} for {@code q} in {@code [Q_MIN, Q_MAX]}, as pairs
+   * of high and low halves, normalized so that the highest bit is set.
+   */
+  private static final long[] POWERS_OF_FIVE = powersOfFive();
+
+  private static long[] powersOfFive() {
+    long[] table = new long[2 * (Q_MAX - Q_MIN + 1)];
+    BigInteger five = BigInteger.valueOf(5);
+    for (int q = Q_MIN; q <= Q_MAX; q++) {
+      BigInteger bits;
+      if (q < 0) {
+        BigInteger power = five.pow(-q);
+        int z = power.bitLength();
+        // 2^b / 5^-q, rounded up; exact in 128 bits for q >= -27, truncated below that
+        int b = q >= -27 ? z + 127 : 2 * z + 128;
+        bits = BigInteger.ONE.shiftLeft(b).divide(power).add(BigInteger.ONE);
+      } else {
+        bits = five.pow(q);
+      }
+      int excess = bits.bitLength() - 128;
+      bits = excess > 0 ? bits.shiftRight(excess) : bits.shiftLeft(-excess);
+      int index = 2 * (q - Q_MIN);
+      table[index] = bits.shiftRight(64).longValue();
+      table[index + 1] = bits.longValue();
+    }
+    return table;
+  }
+
+  /**
+   * Parses the region like {@link Double#parseDouble(String)}.
+   *
+   * @throws NumberFormatException if the JDK rejects the region
+   */
+  static double parseDouble(CharSequence s, int start, int end) {
+    long bits = parse(s, start, end, false);
+    return bits != UNDECIDED
+        ? Double.longBitsToDouble(bits)
+        : Double.parseDouble(s.subSequence(start, end).toString());
+  }
+
+  /**
+   * Parses the region like {@link Float#parseFloat(String)}.
+   *
+   * @throws NumberFormatException if the JDK rejects the region
+   */
+  static float parseFloat(CharSequence s, int start, int end) {
+    long bits = parse(s, start, end, true);
+    return bits != UNDECIDED
+        ? Float.intBitsToFloat((int) bits)
+        : Float.parseFloat(s.subSequence(start, end).toString());
+  }
+
+  /** Returns the bits of the parsed value, or {@link #UNDECIDED} to leave it to the JDK. */
+  private static long parse(CharSequence s, int start, int end, boolean isFloat) {
+    int i = start;
+    boolean negative = false;
+    if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+      negative = s.charAt(i) == '-';
+      i++;
+    }
+
+    long mantissa = 0;
+    int significantDigits = 0;
+    long exponent = 0;
+    boolean hasDigits = false;
+    boolean truncated = false;
+    for (; i < end && isDigit(s.charAt(i)); i++) {
+      hasDigits = true;
+      int digit = s.charAt(i) - '0';
+      if (significantDigits < MAX_SIGNIFICANT_DIGITS) {
+        mantissa = mantissa * 10 + digit;
+        significantDigits += mantissa == 0 ? 0 : 1;
+      } else {
+        exponent++;
+        truncated |= digit != 0;
+      }
+    }
+    if (i < end && s.charAt(i) == '.') {
+      for (i++; i < end && isDigit(s.charAt(i)); i++) {
+        hasDigits = true;
+        int digit = s.charAt(i) - '0';
+        if (significantDigits < MAX_SIGNIFICANT_DIGITS) {
+          mantissa = mantissa * 10 + digit;
+          significantDigits += mantissa == 0 ? 0 : 1;
+          exponent--;
+        } else {
+          truncated |= digit != 0;
+        }
+      }
+    }
+    if (!hasDigits) {
+      return UNDECIDED;
+    }
+    if (i < end && (s.charAt(i) | 0x20) == 'e') {
+      i++;
+      boolean negativeExponent = false;
+      if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+        negativeExponent = s.charAt(i) == '-';
+        i++;
+      }
+      int digitsStart = i;
+      int explicitExponent = 0;
+      for (; i < end && isDigit(s.charAt(i)); i++) {
+        explicitExponent = explicitExponent * 10 + (s.charAt(i) - '0');
+      }
+      if (i == digitsStart || i - digitsStart > MAX_EXPONENT_DIGITS) {
+        return UNDECIDED;
+      }
+      exponent += negativeExponent ? -explicitExponent : explicitExponent;
+    }
+    if (i != end) {
+      return UNDECIDED;
+    }
+
+    long sign = negative ? 1 : 0;
+    if (mantissa == 0) {
+      return isFloat ? sign << 31 : sign << 63;
+    }
+    // Beyond these exponents every value rounds to zero or infinity
+    int q = (int) Math.max(Q_MIN - 1, Math.min(exponent, Q_MAX + 1));
+    if (!truncated && isFloat && q >= -10 && q <= 10 && mantissa >= 0 && mantissa <= 1 << 24) {
+      float value = (float) mantissa;
+      value = q < 0 ? value / FLOAT_POWERS_OF_TEN[-q] : value * FLOAT_POWERS_OF_TEN[q];
+      return Float.floatToRawIntBits(negative ? -value : value) & 0xFFFF_FFFFL;
+    }
+    if (!truncated && !isFloat && q >= -22 && q <= 22 && mantissa >= 0 && mantissa <= 1L << 53) {
+      double value = (double) mantissa;
+      value = q < 0 ? value / DOUBLE_POWERS_OF_TEN[-q] : value * DOUBLE_POWERS_OF_TEN[q];
+      return Double.doubleToRawLongBits(negative ? -value : value);
+    }
+
+    long bits = isFloat ? toFloatBits(mantissa, q) : toDoubleBits(mantissa, q);
+    // With dropped digits the value lies between mantissa and mantissa + 1; both must round alike
+    if (bits == UNDECIDED
+        || truncated
+            && bits != (isFloat ? toFloatBits(mantissa + 1, q) : toDoubleBits(mantissa + 1, q))) {
+      return UNDECIDED;
+    }
+    return isFloat ? bits | sign << 31 : bits | sign << 63;
+  }
+
+  private static long toDoubleBits(long mantissa, int exponent) {
+    return toBits(
+        mantissa,
+        exponent,
+        DOUBLE_MANTISSA_BITS,
+        DOUBLE_MIN_EXPONENT,
+        DOUBLE_INFINITE_POWER,
+        DOUBLE_Q_MIN,
+        DOUBLE_Q_MAX,
+        DOUBLE_Q_MIN_ROUND_TO_EVEN,
+        DOUBLE_Q_MAX_ROUND_TO_EVEN);
+  }
+
+  private static long toFloatBits(long mantissa, int exponent) {
+    return toBits(
+        mantissa,
+        exponent,
+        FLOAT_MANTISSA_BITS,
+        FLOAT_MIN_EXPONENT,
+        FLOAT_INFINITE_POWER,
+        FLOAT_Q_MIN,
+        FLOAT_Q_MAX,
+        FLOAT_Q_MIN_ROUND_TO_EVEN,
+        FLOAT_Q_MAX_ROUND_TO_EVEN);
+  }
+
+  /**
+   * Returns the unsigned bits of the binary floating-point value nearest to {@code w * 10^q}, or
+   * {@link #UNDECIDED}.
+   *
+   * @param w the decimal significand, a non-zero unsigned long
+   */
+  private static long toBits(
+      long w,
+      int q,
+      int mantissaBits,
+      int minExponent,
+      int infinitePower,
+      int qMin,
+      int qMax,
+      int qMinRoundToEven,
+      int qMaxRoundToEven) {
+    if (q < qMin) {
+      return 0;
+    }
+    if (q > qMax) {
+      return (long) infinitePower << mantissaBits;
+    }
+    int leadingZeros = Long.numberOfLeadingZeros(w);
+    w <<= leadingZeros;
+
+    // The high 64 bits of w * 5^q, corrected by the low half of 5^q when they may carry
+    int index = 2 * (q - Q_MIN);
+    long high = unsignedMultiplyHigh(w, POWERS_OF_FIVE[index]);
+    long low = w * POWERS_OF_FIVE[index];
+    long precisionMask = -1L >>> (mantissaBits + 3);
+    if ((high & precisionMask) == precisionMask) {
+      long secondHigh = unsignedMultiplyHigh(w, POWERS_OF_FIVE[index + 1]);
+      low += secondHigh;
+      if (Long.compareUnsigned(secondHigh, low) > 0) {
+        high++;
+      }
+    }
+    // Only powers of five in [5^-27, 5^55] are exact in 128 bits; otherwise the low bits are
+    // unknown
+    if (low == -1L && (q < -27 || q > 55)) {
+      return UNDECIDED;
+    }
+
+    int upperBit = (int) (high >>> 63);
+    int shift = upperBit + 64 - mantissaBits - 3;
+    long mantissa = high >>> shift;
+    // floor(log2(10^q)) + 63 is ((217706 * q) >> 16) + 63
+    int power2 = ((217_706 * q) >> 16) + 63 + upperBit - leadingZeros - minExponent;
+    if (power2 <= 0) {
+      // Subnormal, or zero if the value is too small
+      if (-power2 + 1 >= 64) {
+        return 0;
+      }
+      mantissa >>>= -power2 + 1;
+      mantissa += mantissa & 1;
+      mantissa >>>= 1;
+      power2 = mantissa < 1L << mantissaBits ? 0 : 1;
+      return mantissa | (long) power2 << mantissaBits;
+    }
+    // Exactly halfway between two values: round to even instead of up
+    if (Long.compareUnsigned(low, 1) <= 0
+        && q >= qMinRoundToEven
+        && q <= qMaxRoundToEven
+        && (mantissa & 3) == 1
+        && mantissa << shift == high) {
+      mantissa &= ~1L;
+    }
+    mantissa += mantissa & 1;
+    mantissa >>>= 1;
+    if (mantissa >= 2L << mantissaBits) {
+      mantissa = 1L << mantissaBits;
+      power2++;
+    }
+    mantissa &= ~(1L << mantissaBits);
+    if (power2 >= infinitePower) {
+      return (long) infinitePower << mantissaBits;
+    }
+    return mantissa | (long) power2 << mantissaBits;
+  }
+
+  private static long unsignedMultiplyHigh(long x, long y) {
+    return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+}
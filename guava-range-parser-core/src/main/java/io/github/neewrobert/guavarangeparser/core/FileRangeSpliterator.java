@@ -0,0 +1,175 @@
+package io.github.neewrobert.guavarangeparser.core;
+
+import com.google.common.collect.Range;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Splittable spliterator over delimited, UTF-8 encoded range notation in a byte range of a file.
+ *
+ * <p>Each spliterator covers the lines in {@code [position, end)} and reads them with positional
+ * reads into its own reusable buffer, so that the halves of a split can be traversed concurrently
+ * on the same channel. Lines are parsed straight from the bytes via {@link
+ * RangeParser#parseRange(byte[], int, int, Class)}.
+ *
+ * <p>Splitting cuts the remaining byte range in half and moves the cut forward to the next line
+ * start. Since the delimiter is ASCII, it can never occur inside a multi-byte UTF-8 sequence.
+ */
+final class FileRangeSpliterator<T extends Comparable<?>> implements Spliterator<Range<T>> {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  /** Byte ranges below twice this size are not split, since a split costs a read of its own. */
+  private static final long MIN_SPLIT_SIZE = 128 * 1024;
+
+  private final FileChannel channel;
+  private final RangeParser parser;
+  private final Class<T> elementType;
+  private final byte delimiter;
+
+  /** File offset of the next byte to read into the buffer. */
+  private long position;
+
+  private long end;
+  private byte[] buffer;
+  private int lineStart;
+  private int scanFrom;
+  private int limit;
+
+  FileRangeSpliterator(
+      FileChannel channel,
+      RangeParser parser,
+      Class<T> elementType,
+      byte delimiter,
+      long position,
+      long end) {
+    this.channel = channel;
+    this.parser = parser;
+    this.elementType = elementType;
+    this.delimiter = delimiter;
+    this.position = position;
+    this.end = end;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super Range<T>> action) {
+    while (true) {
+      for (int i = scanFrom; i < limit; i++) {
+        if (buffer[i] == delimiter) {
+          int start = lineStart;
+          lineStart = i + 1;
+          scanFrom = lineStart;
+          if (accept(start, i, action)) {
+            return true;
+          }
+        }
+      }
+      scanFrom = limit;
+
+      if (position >= end) {
+        // The last line need not be terminated by a delimiter
+        int start = lineStart;
+        lineStart = limit;
+        return start < limit && accept(start, limit, action);
+      }
+      fill();
+    }
+  }
+
+  /** Parses {@code buffer[start, end)} unless it is empty, and returns whether it did. */
+  private boolean accept(int start, int end, Consumer<? super Range<T>> action) {
+    if (delimiter == '\n' && end > start && buffer[end - 1] == '\r') {
+      end--;
+    }
+    if (start == end) {
+      return false;
+    }
+    action.accept(parser.parseRange(buffer, start, end - start, elementType));
+    return true;
+  }
+
+  /** Moves the unparsed line to the front of the buffer and reads more bytes after it. */
+  private void fill() {
+    if (buffer == null) {
+      buffer = new byte[(int) Math.min(BUFFER_SIZE, Math.max(end - position, 1))];
+    }
+    if (lineStart > 0) {
+      System.arraycopy(buffer, lineStart, buffer, 0, limit - lineStart);
+      limit -= lineStart;
+      scanFrom -= lineStart;
+      lineStart = 0;
+    }
+    if (limit == buffer.length) {
+      buffer = Arrays.copyOf(buffer, buffer.length * 2);
+    }
+    int length = (int) Math.min(buffer.length - limit, end - position);
+    int read = read(ByteBuffer.wrap(buffer, limit, length), position);
+    if (read < 0) {
+      // The file was truncated while reading it
+      end = position;
+    } else {
+      position += read;
+      limit += read;
+    }
+  }
+
+  @Override
+  public Spliterator<Range<T>> trySplit() {
+    // Buffered bytes may hold a partial line, so only split before or between fills
+    if (lineStart < limit || end - position < 2 * MIN_SPLIT_SIZE) {
+      return null;
+    }
+    long split = nextLineStart(position + (end - position) / 2);
+    if (split >= end) {
+      return null;
+    }
+    FileRangeSpliterator<T> prefix =
+        new FileRangeSpliterator<>(channel, parser, elementType, delimiter, position, split);
+    position = split;
+    return prefix;
+  }
+
+  /** Returns the offset after the first delimiter at or after {@code from}, or {@code end}. */
+  private long nextLineStart(long from) {
+    ByteBuffer chunk = ByteBuffer.allocate(8192);
+    long offset = from;
+    while (offset < end) {
+      chunk.clear().limit((int) Math.min(chunk.capacity(), end - offset));
+      int read = read(chunk, offset);
+      if (read <= 0) {
+        break;
+      }
+      for (int i = 0; i < read; i++) {
+        if (chunk.get(i) == delimiter) {
+          return offset + i + 1;
+        }
+      }
+      offset += read;
+    }
+    return end;
+  }
+
+  private int read(ByteBuffer target, long offset) {
+    try {
+      return channel.read(target, offset);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Override
+  public long estimateSize() {
+    // Bytes rather than lines, which is proportional and all that splitting heuristics need
+    return end - position + (limit - lineStart);
+  }
+
+  @Override
+  public int characteristics() {
+    return Spliterator.ORDERED | Spliterator.NONNULL;
+  }
+}
@@ -40,10 +40,12 @@ public enum InfinityStyle {
 
   private final String positiveInfinity;
   private final String negativeInfinity;
+  private final String allNotation;
 
   InfinityStyle(String positiveInfinity, String negativeInfinity) {
     this.positiveInfinity = positiveInfinity;
     this.negativeInfinity = negativeInfinity;
+    this.allNotation = "(" + negativeInfinity + ".." + positiveInfinity + ")";
   }
 
   /**
@@ -63,4 +65,13 @@ public enum InfinityStyle {
   public String negativeInfinity() {
     return negativeInfinity;
   }
+
+  /**
+   * Returns the notation of {@link com.google.common.collect.Range#all()}, e.g. {@code (-∞..+∞)}.
+   *
+   * @return the precomputed notation of the unbounded range
+   */
+  String allNotation() {
+    return allNotation;
+  }
 }
@@ -0,0 +1,82 @@
+package io.github.neewrobert.guavarangeparser.core;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+
+/**
+ * Bounds of a {@code int} range, parsed without boxing the endpoints.
+ *
+ * <p>Instances are returned by {@link RangeParser#parseIntBounds(CharSequence)} for hot code that
+ * only needs the numeric bounds and wants to skip the {@code Integer} boxing and {@link Range}
+ * allocation of {@link RangeParser#parseRange(String, Class)}. Use {@link #toRange()} to get the
+ * equivalent Guava range.
+ *
+ * <p>An infinite bound is reported as absent, with an endpoint of {@code 0} and an {@link
+ * BoundType#OPEN OPEN} bound type, matching its {@code (-∞} or {@code +∞)} notation.
+ *
+ * @param hasLowerBound whether the range has a lower bound
+ * @param lowerEndpoint the lower endpoint, or {@code 0} if there is no lower bound
+ * @param lowerBoundType the lower bound type
+ * @param hasUpperBound whether the range has an upper bound
+ * @param upperEndpoint the upper endpoint, or {@code 0} if there is no upper bound
+ * @param upperBoundType the upper bound type
+ * @see RangeParser
+ */
+public record IntBounds(
+    boolean hasLowerBound,
+    int lowerEndpoint,
+    BoundType lowerBoundType,
+    boolean hasUpperBound,
+    int upperEndpoint,
+    BoundType upperBoundType) {
+
+  /**
+   * Creates bounds, requiring non-null bound types.
+   *
+   * @throws NullPointerException if a bound type is null
+   */
+  public IntBounds {
+    requireNonNull(lowerBoundType, "lowerBoundType must not be null");
+    requireNonNull(upperBoundType, "upperBoundType must not be null");
+  }
+
+  /**
+   * Returns whether the value lies within these bounds.
+   *
+   * @param value the value to test
+   * @return true if the range contains the value
+   */
+  public boolean contains(int value) {
+    if (hasLowerBound) {
+      int cmp = Integer.compare(value, lowerEndpoint);
+      if (cmp < 0 || (cmp == 0 && lowerBoundType == BoundType.OPEN)) {
+        return false;
+      }
+    }
+    if (hasUpperBound) {
+      int cmp = Integer.compare(value, upperEndpoint);
+      return cmp < 0 || (cmp == 0 && upperBoundType == BoundType.CLOSED);
+    }
+    return true;
+  }
+
+  /**
+   * Returns the equivalent Guava range.
+   *
+   * @return the range with boxed endpoints
+   */
+  public Range<Integer> toRange() {
+    if (hasLowerBound && hasUpperBound) {
+      return Range.range(lowerEndpoint, lowerBoundType, upperEndpoint, upperBoundType);
+    }
+    if (hasLowerBound) {
+      return Range.downTo(lowerEndpoint, lowerBoundType);
+    }
+    if (hasUpperBound) {
+      return Range.upTo(upperEndpoint, upperBoundType);
+    }
+    return Range.all();
+  }
+}
@@ -0,0 +1,192 @@
+package io.github.neewrobert.guavarangeparser.core;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+
+/**
+ * Writers for the ISO-8601 representations of the java.time types, straight into a {@link
+ * StringBuilder}.
+ *
+ * <p>Each writer produces exactly the text of the type's {@code toString()}, but appends fields as
+ * digits instead of going through {@link java.time.format.DateTimeFormatter} and intermediate
+ * {@code String}s. Zone and offset ids are cached by the JDK and appended as they are.
+ */
+final class IsoTemporalFormat {
+
+  private IsoTemporalFormat() {}
+
+  private static final int SECONDS_PER_DAY = 86_400;
+
+  /** Epoch seconds of 0000-01-01T00:00:00Z and 9999-12-31T23:59:59Z. */
+  private static final long MIN_FOUR_DIGIT_YEAR_SECOND = -62_167_219_200L;
+
+  private static final long MAX_FOUR_DIGIT_YEAR_SECOND = 253_402_300_799L;
+
+  /** Appends {@code value} like {@link LocalDate#toString()}, e.g. {@code 2024-01-31}. */
+  static void appendLocalDate(LocalDate value, StringBuilder out) {
+    appendDate(value.getYear(), value.getMonthValue(), value.getDayOfMonth(), out);
+  }
+
+  /** Appends {@code value} like {@link LocalTime#toString()}, e.g. {@code 10:15:30.5}. */
+  static void appendLocalTime(LocalTime value, StringBuilder out) {
+    appendTime(value.getHour(), value.getMinute(), value.getSecond(), value.getNano(), false, out);
+  }
+
+  /** Appends {@code value} like {@link LocalDateTime#toString()}. */
+  static void appendLocalDateTime(LocalDateTime value, StringBuilder out) {
+    appendDate(value.getYear(), value.getMonthValue(), value.getDayOfMonth(), out);
+    out.append('T');
+    appendTime(value.getHour(), value.getMinute(), value.getSecond(), value.getNano(), false, out);
+  }
+
+  /** Appends {@code value} like {@link OffsetDateTime#toString()}. */
+  static void appendOffsetDateTime(OffsetDateTime value, StringBuilder out) {
+    appendLocalDateTime(value.toLocalDateTime(), out);
+    out.append(value.getOffset().getId());
+  }
+
+  /** Appends {@code value} like {@link ZonedDateTime#toString()}. */
+  static void appendZonedDateTime(ZonedDateTime value, StringBuilder out) {
+    appendLocalDateTime(value.toLocalDateTime(), out);
+    out.append(value.getOffset().getId());
+    // Like toString(), only zones that are not the offset itself are written as a region
+    if (value.getOffset() != value.getZone()) {
+      out.append('[').append(value.getZone().getId()).append(']');
+    }
+  }
+
+  /**
+   * Appends {@code value} like {@link Instant#toString()}, e.g. {@code 2024-01-31T10:15:30Z}.
+   *
+   * <p>Instants outside the years 0000 to 9999 are rare and delegate to {@code toString()}.
+   */
+  static void appendInstant(Instant value, StringBuilder out) {
+    long epochSecond = value.getEpochSecond();
+    if (epochSecond < MIN_FOUR_DIGIT_YEAR_SECOND || epochSecond > MAX_FOUR_DIGIT_YEAR_SECOND) {
+      out.append(value);
+      return;
+    }
+    long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+    int secondOfDay = Math.floorMod(epochSecond, SECONDS_PER_DAY);
+
+    // Civil date of the epoch day, counted in 400-year eras that start on March 1st
+    long days = epochDay + 719_468;
+    long era = Math.floorDiv(days, 146_097);
+    int dayOfEra = (int) (days - era * 146_097);
+    int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36_524 - dayOfEra / 146_096) / 365;
+    int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+    int shiftedMonth = (5 * dayOfYear + 2) / 153;
+    int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+    int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+    int year = (int) (yearOfEra + era * 400) + (month <= 2 ? 1 : 0);
+
+    appendDate(year, month, day, out);
+    out.append('T');
+    appendTime(
+        secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60, value.getNano(), true, out);
+    out.append('Z');
+  }
+
+  /** Appends {@code value} like {@link Duration#toString()}, e.g. {@code PT1H30M0.5S}. */
+  static void appendDuration(Duration value, StringBuilder out) {
+    long seconds = value.getSeconds();
+    int nanos = value.getNano();
+    if (seconds == 0 && nanos == 0) {
+      out.append("PT0S");
+      return;
+    }
+    // A negative duration with nanos is stored as seconds rounded down plus positive nanos
+    long effectiveSeconds = seconds < 0 && nanos > 0 ? seconds + 1 : seconds;
+    long hours = effectiveSeconds / 3600;
+    int minutes = (int) (effectiveSeconds % 3600 / 60);
+    int secs = (int) (effectiveSeconds % 60);
+
+    out.append("PT");
+    if (hours != 0) {
+      out.append(hours).append('H');
+    }
+    if (minutes != 0) {
+      out.append(minutes).append('M');
+    }
+    if (secs == 0 && nanos == 0 && (hours != 0 || minutes != 0)) {
+      return;
+    }
+    if (seconds < 0 && nanos > 0 && secs == 0) {
+      out.append("-0");
+    } else {
+      out.append(secs);
+    }
+    if (nanos > 0) {
+      int position = out.length();
+      out.append(seconds < 0 ? 2 * 1_000_000_000L - nanos : nanos + 1_000_000_000L);
+      int end = out.length();
+      while (out.charAt(end - 1) == '0') {
+        end--;
+      }
+      out.setLength(end);
+      out.setCharAt(position, '.');
+    }
+    out.append('S');
+  }
+
+  /** Appends {@code yyyy-MM-dd}, with a sign and more digits for years outside 0000 to 9999. */
+  private static void appendDate(int year, int month, int day, StringBuilder out) {
+    if (year >= 0 && year <= 9999) {
+      appendDigits(year, 4, out);
+    } else if (year < 0 && year > -1000) {
+      out.append('-');
+      appendDigits(-year, 4, out);
+    } else {
+      if (year > 9999) {
+        out.append('+');
+      }
+      out.append(year);
+    }
+    out.append('-');
+    appendDigits(month, 2, out);
+    out.append('-');
+    appendDigits(day, 2, out);
+  }
+
+  /**
+   * Appends {@code HH:mm[:ss[.SSS]]}, with the fraction in groups of three digits.
+   *
+   * @param alwaysSeconds whether to write zero seconds, as instants do
+   */
+  private static void appendTime(
+      int hour, int minute, int second, int nano, boolean alwaysSeconds, StringBuilder out) {
+    appendDigits(hour, 2, out);
+    out.append(':');
+    appendDigits(minute, 2, out);
+    if (second == 0 && nano == 0 && !alwaysSeconds) {
+      return;
+    }
+    out.append(':');
+    appendDigits(second, 2, out);
+    if (nano > 0) {
+      out.append('.');
+      if (nano % 1_000_000 == 0) {
+        appendDigits(nano / 1_000_000, 3, out);
+      } else if (nano % 1000 == 0) {
+        appendDigits(nano / 1000, 6, out);
+      } else {
+        appendDigits(nano, 9, out);
+      }
+    }
+  }
+
+  /** Appends the {@code count} least significant digits of {@code value}, zero-padded. */
+  private static void appendDigits(int value, int count, StringBuilder out) {
+    int start = out.length();
+    out.setLength(start + count);
+    for (int i = start + count - 1; i >= start; i--) {
+      out.setCharAt(i, (char) ('0' + value % 10));
+      value /= 10;
+    }
+  }
+}
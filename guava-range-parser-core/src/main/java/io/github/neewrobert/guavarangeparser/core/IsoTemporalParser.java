@@ -0,0 +1,390 @@
+package io.github.neewrobert.guavarangeparser.core;
+
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.chrono.IsoChronology;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Single-pass parsers for the ISO-8601 representations of the java.time types, straight from a
+ * {@link CharSequence} region.
+ *
+ * <p>Each parser accepts a subset of what the type's {@code parse} method accepts, and returns the
+ * same value for it without regular expressions or {@link java.time.format.DateTimeFormatter}.
+ * Anything outside that subset, including invalid input, makes the parser return {@code null}, so
+ * that callers fall back to the JDK for the value or the exception.
+ *
+ * <p>The date-time parsers handle the canonical forms: four-digit years, {@code HH:mm} with
+ * optional seconds and one to nine fraction digits, and offsets written as {@code Z}, {@code
+ * +HH:MM} or {@code +HH:MM:SS}.
+ */
+final class IsoTemporalParser {
+
+  private IsoTemporalParser() {}
+
+  private static final int SECONDS_PER_DAY = 86_400;
+
+  // Digits per Duration field that keep each field, and their sum, within a long
+  private static final int MAX_DAY_DIGITS = 12;
+  private static final int MAX_HOUR_DIGITS = 14;
+  private static final int MAX_MINUTE_DIGITS = 15;
+  private static final int MAX_SECOND_DIGITS = 18;
+
+  /** Length of {@code yyyy-MM-dd}. */
+  private static final int DATE_LENGTH = 10;
+
+  private static final int MAX_OFFSET_SECONDS = 18 * 3600;
+
+  /**
+   * Zone region ids resolved so far. Only ids that {@link ZoneId#of(String)} accepts are added, so
+   * the cache is bounded by the number of available zone ids.
+   */
+  private static final ConcurrentMap<String, ZoneId> ZONE_IDS = new ConcurrentHashMap<>();
+
+  private static final int[] NANOS_PER_FRACTION_DIGIT = {
+    1_000_000_000, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1
+  };
+
+  /**
+   * Parses {@code [-+]PnDTnHnMn.nS} like {@link Duration#parse(CharSequence)}, where every field is
+   * optional, signed, and designated in either case.
+   *
+   * @return the duration, or {@code null} if the region is invalid or has a field with more digits
+   *     than fit into a long once converted to seconds
+   */
+  static Duration parseDuration(CharSequence s, int start, int end) {
+    int i = start;
+    boolean negate = false;
+    if (i < end && (s.charAt(i) == '-' || s.charAt(i) == '+')) {
+      negate = s.charAt(i) == '-';
+      i++;
+    }
+    if (i == end || (s.charAt(i) | 0x20) != 'p') {
+      return null;
+    }
+    i++;
+
+    long seconds = 0;
+    int nanos = 0;
+    boolean hasDays = false;
+    if (i < end && (s.charAt(i) | 0x20) != 't') {
+      int numberEnd = numberEnd(s, i, end, MAX_DAY_DIGITS);
+      if (numberEnd < 0 || numberEnd == end || (s.charAt(numberEnd) | 0x20) != 'd') {
+        return null;
+      }
+      seconds = Long.parseLong(s, i, numberEnd, 10) * SECONDS_PER_DAY;
+      hasDays = true;
+      i = numberEnd + 1;
+    }
+
+    if (i < end) {
+      if ((s.charAt(i) | 0x20) != 't' || i + 1 == end) {
+        return null;
+      }
+      i++;
+      // The time fields must appear in the order hours, minutes, seconds
+      int nextField = 0;
+      while (i < end) {
+        int numberEnd = numberEnd(s, i, end, MAX_SECOND_DIGITS);
+        if (numberEnd < 0 || numberEnd == end) {
+          return null;
+        }
+        int digits = numberEnd - i - (isDigit(s.charAt(i)) ? 0 : 1);
+        // Designators are compared literally, since OR-ing in 0x20 would turn the control
+        // characters \f and \u000E into ',' and '.'
+        char designator = s.charAt(numberEnd);
+        if ((designator == 'H' || designator == 'h')
+            && nextField == 0
+            && digits <= MAX_HOUR_DIGITS) {
+          seconds += Long.parseLong(s, i, numberEnd, 10) * 3600;
+          nextField = 1;
+        } else if ((designator == 'M' || designator == 'm')
+            && nextField <= 1
+            && digits <= MAX_MINUTE_DIGITS) {
+          seconds += Long.parseLong(s, i, numberEnd, 10) * 60;
+          nextField = 2;
+        } else if ((isSecondsDesignator(designator) || designator == '.' || designator == ',')
+            && nextField <= 2) {
+          seconds += Long.parseLong(s, i, numberEnd, 10);
+          if (!isSecondsDesignator(designator)) {
+            // Up to nine fraction digits, which carry the sign of the seconds
+            int fractionStart = numberEnd + 1;
+            numberEnd = fractionStart;
+            while (numberEnd < end && isDigit(s.charAt(numberEnd))) {
+              numberEnd++;
+            }
+            int fractionDigits = numberEnd - fractionStart;
+            if (fractionDigits > 9
+                || numberEnd == end
+                || !isSecondsDesignator(s.charAt(numberEnd))) {
+              return null;
+            }
+            if (fractionDigits > 0) {
+              nanos =
+                  Integer.parseInt(s, fractionStart, numberEnd, 10)
+                      * NANOS_PER_FRACTION_DIGIT[fractionDigits];
+              nanos = s.charAt(i) == '-' ? -nanos : nanos;
+            }
+          }
+          nextField = 3;
+        } else {
+          return null;
+        }
+        i = numberEnd + 1;
+      }
+    } else if (!hasDays) {
+      return null;
+    }
+
+    Duration duration = Duration.ofSeconds(seconds, nanos);
+    return negate ? duration.negated() : duration;
+  }
+
+  /** Parses {@code yyyy-MM-dd} like {@link LocalDate#parse(CharSequence)}. */
+  static LocalDate parseLocalDate(CharSequence s, int start, int end) {
+    return end - start == DATE_LENGTH ? date(s, start) : null;
+  }
+
+  /** Parses {@code HH:mm[:ss[.nnnnnnnnn]]} like {@link LocalTime#parse(CharSequence)}. */
+  static LocalTime parseLocalTime(CharSequence s, int start, int end) {
+    return time(s, start, end, false);
+  }
+
+  /** Parses {@code yyyy-MM-ddTHH:mm[:ss[.nnnnnnnnn]]} like {@link LocalDateTime#parse}. */
+  static LocalDateTime parseLocalDateTime(CharSequence s, int start, int end) {
+    LocalDate date = dateAndSeparator(s, start, end);
+    LocalTime time = date != null ? time(s, start + DATE_LENGTH + 1, end, false) : null;
+    return time != null ? LocalDateTime.of(date, time) : null;
+  }
+
+  /**
+   * Parses {@code yyyy-MM-ddTHH:mm:ss[.nnnnnnnnn]} followed by an offset like {@link
+   * Instant#parse(CharSequence)}.
+   */
+  static Instant parseInstant(CharSequence s, int start, int end) {
+    LocalDate date = dateAndSeparator(s, start, end);
+    if (date == null) {
+      return null;
+    }
+    int timeEnd = timeEnd(s, start + DATE_LENGTH + 1, end);
+    LocalTime time = time(s, start + DATE_LENGTH + 1, timeEnd, true);
+    ZoneOffset offset = time != null ? offset(s, timeEnd, end) : null;
+    if (offset == null) {
+      return null;
+    }
+    long epochSecond =
+        date.toEpochDay() * SECONDS_PER_DAY + time.toSecondOfDay() - offset.getTotalSeconds();
+    return Instant.ofEpochSecond(epochSecond, time.getNano());
+  }
+
+  /**
+   * Parses {@code yyyy-MM-ddTHH:mm[:ss[.nnnnnnnnn]]} followed by an offset like {@link
+   * OffsetDateTime#parse(CharSequence)}.
+   */
+  static OffsetDateTime parseOffsetDateTime(CharSequence s, int start, int end) {
+    LocalDate date = dateAndSeparator(s, start, end);
+    if (date == null) {
+      return null;
+    }
+    int timeEnd = timeEnd(s, start + DATE_LENGTH + 1, end);
+    LocalTime time = time(s, start + DATE_LENGTH + 1, timeEnd, false);
+    ZoneOffset offset = time != null ? offset(s, timeEnd, end) : null;
+    return offset != null ? OffsetDateTime.of(date, time, offset) : null;
+  }
+
+  /**
+   * Parses {@code yyyy-MM-ddTHH:mm[:ss[.nnnnnnnnn]]} followed by an offset and an optional zone
+   * region id in square brackets like {@link ZonedDateTime#parse(CharSequence)}. Zone ids are
+   * looked up in a cache; ids based on an offset, such as {@code UTC+01:00}, are left to the JDK.
+   */
+  static ZonedDateTime parseZonedDateTime(CharSequence s, int start, int end) {
+    LocalDate date = dateAndSeparator(s, start, end);
+    if (date == null) {
+      return null;
+    }
+    int timeEnd = timeEnd(s, start + DATE_LENGTH + 1, end);
+    LocalTime time = time(s, start + DATE_LENGTH + 1, timeEnd, false);
+    if (time == null) {
+      return null;
+    }
+    int offsetEnd = end;
+    ZoneId zone = null;
+    if (s.charAt(end - 1) == ']') {
+      offsetEnd = timeEnd;
+      while (offsetEnd < end && s.charAt(offsetEnd) != '[') {
+        offsetEnd++;
+      }
+      zone = offsetEnd < end ? zoneRegion(s, offsetEnd + 1, end - 1) : null;
+      if (zone == null) {
+        return null;
+      }
+    }
+    ZoneOffset offset = offset(s, timeEnd, offsetEnd);
+    if (offset == null) {
+      return null;
+    }
+    // Like the JDK, resolve the instant with the offset and then move it into the zone
+    return ZonedDateTime.ofInstant(
+        LocalDateTime.of(date, time), offset, zone != null ? zone : offset);
+  }
+
+  /** Returns the date at {@code start}, if it is followed by {@code 'T'} and at least one char. */
+  private static LocalDate dateAndSeparator(CharSequence s, int start, int end) {
+    return end - start > DATE_LENGTH + 1 && (s.charAt(start + DATE_LENGTH) | 0x20) == 't'
+        ? date(s, start)
+        : null;
+  }
+
+  /** Parses the {@code yyyy-MM-dd} at {@code start}, or returns {@code null}. */
+  private static LocalDate date(CharSequence s, int start) {
+    if (s.charAt(start + 4) != '-' || s.charAt(start + 7) != '-') {
+      return null;
+    }
+    int centuries = twoDigits(s, start);
+    int years = twoDigits(s, start + 2);
+    int month = twoDigits(s, start + 5);
+    int day = twoDigits(s, start + 8);
+    if (centuries < 0 || years < 0 || month < 1 || month > 12 || day < 1) {
+      return null;
+    }
+    int year = centuries * 100 + years;
+    boolean valid = day <= Month.of(month).length(IsoChronology.INSTANCE.isLeapYear(year));
+    return valid ? LocalDate.of(year, month, day) : null;
+  }
+
+  /** Returns the index after the run of digits, colons and dots at {@code start}. */
+  private static int timeEnd(CharSequence s, int start, int end) {
+    int i = start;
+    while (i < end && (isDigit(s.charAt(i)) || s.charAt(i) == ':' || s.charAt(i) == '.')) {
+      i++;
+    }
+    return i;
+  }
+
+  /** Parses the region as {@code HH:mm[:ss[.nnnnnnnnn]]}, or returns {@code null}. */
+  private static LocalTime time(CharSequence s, int start, int end, boolean secondsRequired) {
+    int length = end - start;
+    if (length < 5 || s.charAt(start + 2) != ':') {
+      return null;
+    }
+    int hour = twoDigits(s, start);
+    int minute = twoDigits(s, start + 3);
+    int second = 0;
+    int nanos = 0;
+    if (length > 5) {
+      if (length < 8 || s.charAt(start + 5) != ':') {
+        return null;
+      }
+      second = twoDigits(s, start + 6);
+      if (length > 8) {
+        int fractionDigits = length - 9;
+        if (s.charAt(start + 8) != '.' || fractionDigits < 1 || fractionDigits > 9) {
+          return null;
+        }
+        for (int i = start + 9; i < end; i++) {
+          if (!isDigit(s.charAt(i))) {
+            return null;
+          }
+          nanos = nanos * 10 + (s.charAt(i) - '0');
+        }
+        nanos *= NANOS_PER_FRACTION_DIGIT[fractionDigits];
+      }
+    } else if (secondsRequired) {
+      return null;
+    }
+    if (hour < 0 || hour > 23 || minute < 0 || minute > 59 || second < 0 || second > 59) {
+      return null;
+    }
+    return LocalTime.of(hour, minute, second, nanos);
+  }
+
+  /** Parses the region as {@code Z}, {@code +HH:MM} or {@code +HH:MM:SS}, or returns null. */
+  private static ZoneOffset offset(CharSequence s, int start, int end) {
+    int length = end - start;
+    if (length == 1 && (s.charAt(start) | 0x20) == 'z') {
+      return ZoneOffset.UTC;
+    }
+    if (length != 6 && length != 9
+        || s.charAt(start) != '+' && s.charAt(start) != '-'
+        || s.charAt(start + 3) != ':'
+        || length == 9 && s.charAt(start + 6) != ':') {
+      return null;
+    }
+    int hours = twoDigits(s, start + 1);
+    int minutes = twoDigits(s, start + 4);
+    int seconds = length == 9 ? twoDigits(s, start + 7) : 0;
+    if (hours < 0 || minutes < 0 || minutes > 59 || seconds < 0 || seconds > 59) {
+      return null;
+    }
+    int totalSeconds = hours * 3600 + minutes * 60 + seconds;
+    if (totalSeconds > MAX_OFFSET_SECONDS) {
+      return null;
+    }
+    return ZoneOffset.ofTotalSeconds(s.charAt(start) == '-' ? -totalSeconds : totalSeconds);
+  }
+
+  /**
+   * Returns the zone for a region id such as {@code Europe/Paris}, or {@code null} for ids that
+   * are unknown or based on an offset.
+   */
+  private static ZoneId zoneRegion(CharSequence s, int start, int end) {
+    String id = s.subSequence(start, end).toString();
+    ZoneId zone = ZONE_IDS.get(id);
+    if (zone != null) {
+      return zone;
+    }
+    // Offset-based ids are parsed differently by DateTimeFormatter, so leave them to the JDK
+    if (id.length() < 2
+        || !Character.isLetter(id.charAt(0))
+        || id.startsWith("UT")
+        || id.startsWith("GMT")) {
+      return null;
+    }
+    try {
+      zone = ZoneId.of(id);
+    } catch (DateTimeException e) {
+      return null;
+    }
+    ZONE_IDS.putIfAbsent(id, zone);
+    return zone;
+  }
+
+  /** Returns the value of the two ASCII digits at {@code start}, or -1. */
+  private static int twoDigits(CharSequence s, int start) {
+    char tens = s.charAt(start);
+    char ones = s.charAt(start + 1);
+    return isDigit(tens) && isDigit(ones) ? (tens - '0') * 10 + (ones - '0') : -1;
+  }
+
+  /**
+   * Returns the index after an optionally signed run of at most {@code maxDigits} ASCII digits at
+   * {@code start}, or -1 if there are no digits or too many.
+   */
+  private static int numberEnd(CharSequence s, int start, int end, int maxDigits) {
+    int i = start < end && (s.charAt(start) == '-' || s.charAt(start) == '+') ? start + 1 : start;
+    int digitsStart = i;
+    while (i < end && isDigit(s.charAt(i))) {
+      i++;
+    }
+    int digits = i - digitsStart;
+    return digits == 0 || digits > maxDigits ? -1 : i;
+  }
+
+  private static boolean isSecondsDesignator(char c) {
+    return c == 'S' || c == 's';
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+}
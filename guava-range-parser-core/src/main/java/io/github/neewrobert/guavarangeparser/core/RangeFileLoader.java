@@ -0,0 +1,342 @@
+package io.github.neewrobert.guavarangeparser.core;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.base.Throwables;
+import com.google.common.collect.Range;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Bulk loader for large files of delimited, UTF-8 encoded range notation.
+ *
+ * <p>The file is memory-mapped in line-aligned chunks that are parsed in parallel, straight from
+ * the mapped bytes, and every parsed range is handed to a caller-provided sink. Neither the file
+ * nor a {@code String} per line is copied to the heap: ASCII lines are read through a char view of
+ * the mapping. Only lines with non-ASCII bytes, such as a {@code ∞} token, are copied into a
+ * scratch array that each chunk reuses, and parsed as UTF-8. Files larger than 2 GB are mapped as
+ * several regions, one per chunk.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * RangeFileLoader loader = RangeFileLoader.builder().parser(parser).build();
+ * Queue<Range<Long>> ranges = new ConcurrentLinkedQueue<>();
+ * RangeFileLoader.Statistics stats = loader.load(path, Long.class, ranges::add);
+ * log.info("Loaded {} lines/s", stats.linesPerSecond());
+ * }</pre>
+ *
+ * <p>Lines are parsed like {@link RangeParser#parseLines(Path, Class)}: they may end in {@code \n}
+ * or {@code \r\n}, and empty lines are skipped.
+ *
+ * <p><b>Thread Safety:</b> Instances of this class are immutable and thread-safe. The sink is
+ * called concurrently from several threads and must be thread-safe itself. Ranges of one chunk are
+ * delivered in file order, but chunks are delivered in no particular order.
+ *
+ * @see RangeParser#parseLines(Path, Class)
+ */
+public final class RangeFileLoader {
+
+  private static final int DEFAULT_CHUNK_SIZE = 64 * 1024 * 1024;
+
+  private final RangeParser parser;
+  private final byte delimiter;
+  private final int chunkSize;
+  private final Executor executor;
+
+  private RangeFileLoader(Builder builder) {
+    this.parser = builder.parser;
+    this.delimiter = (byte) builder.delimiter;
+    this.chunkSize = builder.chunkSize;
+    this.executor = builder.executor;
+  }
+
+  /**
+   * Creates a new builder for configuring a RangeFileLoader instance.
+   *
+   * @return a new builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Parses every line of the file and hands the ranges to the sink.
+   *
+   * <p>If a line cannot be parsed, the chunks that are still being parsed stop early and the
+   * exception is rethrown once all of them are done.
+   *
+   * @param file the file to load
+   * @param elementType the class of the range elements
+   * @param sink the thread-safe consumer of the parsed ranges
+   * @param <T> the type of the range elements (must be Comparable)
+   * @return the number of bytes and lines loaded, and how long it took
+   * @throws IOException if the file cannot be read
+   * @throws RangeParseException if a line cannot be parsed
+   */
+  public <T extends Comparable<?>> Statistics load(
+      Path file, Class<T> elementType, Consumer<? super Range<T>> sink) throws IOException {
+    requireNonNull(file, "file must not be null");
+    requireNonNull(elementType, "elementType must not be null");
+    requireNonNull(sink, "sink must not be null");
+    long startTime = System.nanoTime();
+
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      // Find all chunk boundaries first, so that no chunk is running if this fails
+      List<Long> boundaries = new ArrayList<>();
+      boundaries.add(0L);
+      for (long start = 0; start < size; ) {
+        long end = nextLineStart(channel, Math.min(start + chunkSize, size), size);
+        if (end - start > Integer.MAX_VALUE) {
+          throw new IOException("Line at offset " + start + " exceeds the maximum mapping size");
+        }
+        boundaries.add(end);
+        start = end;
+      }
+
+      AtomicBoolean failed = new AtomicBoolean();
+      List<CompletableFuture<Long>> chunks = new ArrayList<>();
+      for (int i = 1; i < boundaries.size(); i++) {
+        long start = boundaries.get(i - 1);
+        long end = boundaries.get(i);
+        chunks.add(
+            CompletableFuture.supplyAsync(
+                () -> loadChunk(channel, start, end, elementType, sink, failed), executor));
+      }
+
+      // Wait for all chunks before the channel is closed, even if one of them failed
+      long lines = 0;
+      try {
+        CompletableFuture.allOf(chunks.toArray(new CompletableFuture<?>[0])).join();
+        for (CompletableFuture<Long> chunk : chunks) {
+          lines += chunk.join();
+        }
+      } catch (CompletionException e) {
+        if (e.getCause() instanceof UncheckedIOException io) {
+          throw io.getCause();
+        }
+        Throwables.throwIfUnchecked(e.getCause());
+        throw e;
+      }
+      return new Statistics(size, lines, Duration.ofNanos(System.nanoTime() - startTime));
+    }
+  }
+
+  /** Parses the lines in the file region {@code [start, end)} and returns how many there were. */
+  private <T extends Comparable<?>> long loadChunk(
+      FileChannel channel,
+      long start,
+      long end,
+      Class<T> elementType,
+      Consumer<? super Range<T>> sink,
+      AtomicBoolean failed) {
+    MappedByteBuffer bytes;
+    try {
+      bytes = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    int length = bytes.limit();
+    CharSequence chars = new AsciiBufferSequence(bytes, 0, length);
+    byte[] line = null;
+    long lines = 0;
+    int lineStart = 0;
+    boolean ascii = true;
+    try {
+      for (int i = 0; i <= length && !failed.get(); i++) {
+        if (i < length) {
+          byte b = bytes.get(i);
+          if (b != delimiter) {
+            ascii &= b >= 0;
+            continue;
+          }
+        }
+        int lineEnd = i;
+        if (delimiter == '\n' && lineEnd > lineStart && bytes.get(lineEnd - 1) == '\r') {
+          lineEnd--;
+        }
+        int lineLength = lineEnd - lineStart;
+        if (lineLength > 0) {
+          if (ascii) {
+            sink.accept(parser.parseRange(chars, lineStart, lineEnd, elementType));
+          } else {
+            if (line == null || lineLength > line.length) {
+              line = new byte[Math.max(lineLength, line == null ? 256 : line.length * 2)];
+            }
+            bytes.get(lineStart, line, 0, lineLength);
+            sink.accept(parser.parseRange(line, 0, lineLength, elementType));
+          }
+          lines++;
+        }
+        lineStart = i + 1;
+        ascii = true;
+      }
+    } catch (RuntimeException e) {
+      failed.set(true);
+      throw e;
+    }
+    return lines;
+  }
+
+  /** Returns the offset after the first delimiter at or after {@code from}, or {@code size}. */
+  private long nextLineStart(FileChannel channel, long from, long size) throws IOException {
+    ByteBuffer chunk = ByteBuffer.allocate(8192);
+    long offset = from;
+    while (offset < size) {
+      chunk.clear();
+      int read = channel.read(chunk, offset);
+      if (read <= 0) {
+        break;
+      }
+      for (int i = 0; i < read; i++) {
+        if (chunk.get(i) == delimiter) {
+          return offset + i + 1;
+        }
+      }
+      offset += read;
+    }
+    return size;
+  }
+
+  /**
+   * Throughput of a completed {@link #load}.
+   *
+   * @param bytes the size of the loaded file in bytes
+   * @param lines the number of parsed lines, excluding empty ones
+   * @param elapsed the wall-clock time the load took
+   */
+  public record Statistics(long bytes, long lines, Duration elapsed) {
+
+    /**
+     * Validates the statistics.
+     *
+     * @throws NullPointerException if {@code elapsed} is null
+     */
+    public Statistics {
+      requireNonNull(elapsed, "elapsed must not be null");
+    }
+
+    /**
+     * Returns the number of bytes loaded per second.
+     *
+     * @return the byte throughput
+     */
+    public double bytesPerSecond() {
+      return perSecond(bytes);
+    }
+
+    /**
+     * Returns the number of lines parsed per second.
+     *
+     * @return the line throughput
+     */
+    public double linesPerSecond() {
+      return perSecond(lines);
+    }
+
+    private double perSecond(long count) {
+      long nanos = Math.max(elapsed.toNanos(), 1);
+      return count * 1e9 / nanos;
+    }
+  }
+
+  /**
+   * Builder for creating configured {@link RangeFileLoader} instances.
+   *
+   * <p><b>Thread Safety:</b> This builder is not thread-safe. The {@link RangeFileLoader} instances
+   * created by this builder are immutable and thread-safe.
+   */
+  public static final class Builder {
+    private RangeParser parser = RangeParser.builder().build();
+    private char delimiter = '\n';
+    private int chunkSize = DEFAULT_CHUNK_SIZE;
+    private Executor executor = ForkJoinPool.commonPool();
+
+    private Builder() {}
+
+    /**
+     * Sets the parser whose lenient mode and type adapters are used for each line.
+     *
+     * @param parser the parser to use
+     * @return this builder
+     */
+    public Builder parser(RangeParser parser) {
+      this.parser = requireNonNull(parser, "parser must not be null");
+      return this;
+    }
+
+    /**
+     * Sets the character that terminates each range notation.
+     *
+     * <p>Default: {@code '\n'}
+     *
+     * @param delimiter the ASCII delimiter
+     * @return this builder
+     * @throws IllegalArgumentException if the delimiter is not an ASCII character
+     */
+    public Builder delimiter(char delimiter) {
+      if (delimiter > 0x7F) {
+        throw new IllegalArgumentException("delimiter must be an ASCII character: " + delimiter);
+      }
+      this.delimiter = delimiter;
+      return this;
+    }
+
+    /**
+     * Sets the approximate size of the chunks that are mapped and parsed in parallel.
+     *
+     * <p>Chunks are extended to the next line start, so a chunk can be slightly larger.
+     *
+     * <p>Default: 64 MiB
+     *
+     * @param chunkSize the chunk size in bytes
+     * @return this builder
+     * @throws IllegalArgumentException if {@code chunkSize} is not positive
+     */
+    public Builder chunkSize(int chunkSize) {
+      if (chunkSize < 1) {
+        throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+      }
+      this.chunkSize = chunkSize;
+      return this;
+    }
+
+    /**
+     * Sets the executor that parses the chunks.
+     *
+     * <p>Default: the {@linkplain ForkJoinPool#commonPool() common pool}
+     *
+     * @param executor the executor to use
+     * @return this builder
+     */
+    public Builder executor(Executor executor) {
+      this.executor = requireNonNull(executor, "executor must not be null");
+      return this;
+    }
+
+    /**
+     * Builds the configured RangeFileLoader.
+     *
+     * @return a new RangeFileLoader instance
+     */
+    public RangeFileLoader build() {
+      return new RangeFileLoader(this);
+    }
+  }
+}
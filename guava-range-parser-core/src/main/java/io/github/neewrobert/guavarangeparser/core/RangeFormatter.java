@@ -2,8 +2,19 @@ package io.github.neewrobert.guavarangeparser.core;
 
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.BoundType;
 import com.google.common.collect.Range;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Formatter for converting Guava {@link Range} objects to string notation.
@@ -29,6 +40,20 @@ import com.google.common.collect.Range;
  * // Returns: "[0..100)"
  * }</pre>
  *
+ * <p>To write many ranges without creating a {@code String} for each, use {@link #formatTo(Range,
+ * StringBuilder)} with a reused builder, or {@link #formatAll(Iterable, Appendable, CharSequence)}
+ * to write them straight to a {@link Writer}.
+ *
+ * <p>Endpoints are written by the {@link TypeFormatter} registered for their class, see {@link
+ * Builder#registerType}. The built-in formatters for integral and java.time types write digits
+ * without creating a {@code String}; other endpoints are written with their {@code toString()}.
+ *
+ * <p>For network and file output, {@link #formatToUtf8(Range, ByteBuffer)} writes the UTF-8 encoded
+ * notation straight into a byte buffer.
+ *
+ * <p>Applications that format the same Range instances over and over can keep their notations in a
+ * bounded cache, see {@link Builder#cache(int)}.
+ *
  * @see Range
  * @see RangeParser
  */
@@ -36,10 +61,44 @@ public final class RangeFormatter {
 
   private static final RangeFormatter DEFAULT_INSTANCE = builder().build();
 
+  /** Buffered output size from which {@link #formatAll} hands the buffer to its target. */
+  private static final int FLUSH_THRESHOLD = 8192;
+
+  /** Buffer of {@link #formatTo(Range, Appendable)}, reused so that ranges allocate nothing. */
+  private static final ThreadLocal<Scratch> SCRATCH =
+      ThreadLocal.withInitial(() -> new Scratch(new StringBuilder(64), new Flusher()));
+
   private final InfinityStyle infinityStyle;
+  private final Map<Class<?>, TypeFormatter<?>> typeFormatters;
+  private final byte[] negativeInfinityUtf8;
+  private final byte[] positiveInfinityUtf8;
+  private final Cache<Range<?>, String> cache;
 
   private RangeFormatter(Builder builder) {
     this.infinityStyle = builder.infinityStyle;
+    this.negativeInfinityUtf8 = infinityStyle.negativeInfinity().getBytes(StandardCharsets.UTF_8);
+    this.positiveInfinityUtf8 = infinityStyle.positiveInfinity().getBytes(StandardCharsets.UTF_8);
+
+    // Share the built-in formatters, and only copy them to overlay custom formatters
+    Map<Class<?>, TypeFormatter<?>> builtIns =
+        builder.shortestFloatingPoint
+            ? BuiltInTypeFormatters.SHORTEST_FLOATING_POINT_REGISTRY
+            : BuiltInTypeFormatters.REGISTRY;
+    if (builder.typeFormatters.isEmpty()) {
+      this.typeFormatters = builtIns;
+    } else {
+      Map<Class<?>, TypeFormatter<?>> formatters = new HashMap<>(builtIns);
+      formatters.putAll(builder.typeFormatters);
+      this.typeFormatters = Map.copyOf(formatters);
+    }
+    this.cache =
+        builder.cacheMaxEntries > 0
+            ? CacheBuilder.newBuilder()
+                .weakKeys()
+                .maximumSize(builder.cacheMaxEntries)
+                .recordStats()
+                .<Range<?>, String>build()
+            : null;
   }
 
   /**
@@ -65,42 +124,462 @@ public final class RangeFormatter {
   /**
    * Formats a Range to string notation.
    *
+   * <p>If this formatter was built with a {@linkplain Builder#cache(int) cache}, formatting the
+   * same Range instance again returns the previously formatted {@code String}. The notation of
+   * {@link Range#all()} is precomputed for each {@link InfinityStyle} and never formatted.
+   *
    * @param range the range to format
    * @param <T> the type of the range elements
    * @return the string notation
    */
   public <T extends Comparable<T>> String format(Range<T> range) {
     requireNonNull(range, "range must not be null");
+    if (!range.hasLowerBound() && !range.hasUpperBound()) {
+      return infinityStyle.allNotation();
+    }
+    if (cache == null) {
+      return formatUncached(range);
+    }
+    String notation = cache.getIfPresent(range);
+    if (notation == null) {
+      notation = formatUncached(range);
+      cache.put(range, notation);
+    }
+    return notation;
+  }
 
+  /** Formats a bounded range into a new {@code String}. */
+  private String formatUncached(Range<?> range) {
     StringBuilder sb = new StringBuilder();
+    write(range, sb);
+    return sb.toString();
+  }
+
+  /**
+   * Returns the hit, miss and eviction counts of the formatted-notation cache.
+   *
+   * <p>{@link Range#all()} is never looked up in the cache, so it is not counted.
+   *
+   * @return the cache statistics, all zero if this formatter has no cache
+   */
+  public CacheStats cacheStats() {
+    return cache != null ? cache.stats() : new CacheStats(0, 0, 0, 0, 0, 0);
+  }
+
+  /**
+   * Appends the string notation of a Range to a {@link StringBuilder}.
+   *
+   * <p>Unlike {@link #format(Range)}, this does not create a {@code String}, so a caller can reuse
+   * one builder for many ranges.
+   *
+   * @param range the range to format
+   * @param builder the builder to append to
+   * @param <T> the type of the range elements
+   * @return {@code builder}
+   */
+  public <T extends Comparable<T>> StringBuilder formatTo(Range<T> range, StringBuilder builder) {
+    requireNonNull(range, "range must not be null");
+    requireNonNull(builder, "builder must not be null");
+    write(range, builder);
+    return builder;
+  }
+
+  /**
+   * Appends the string notation of a Range to an {@link Appendable}, such as a {@link Writer}.
+   *
+   * <p>The notation is formatted into a buffer that each thread reuses, so no {@code String} or
+   * other object is created per range.
+   *
+   * @param range the range to format
+   * @param appendable the target to append to
+   * @param <T> the type of the range elements
+   * @param <A> the type of the target
+   * @return {@code appendable}
+   * @throws IOException if the target throws it
+   */
+  public <T extends Comparable<T>, A extends Appendable> A formatTo(Range<T> range, A appendable)
+      throws IOException {
+    requireNonNull(range, "range must not be null");
+    requireNonNull(appendable, "appendable must not be null");
+    if (appendable instanceof StringBuilder builder) {
+      write(range, builder);
+      return appendable;
+    }
+
+    Scratch scratch = SCRATCH.get();
+    StringBuilder buffer = scratch.buffer();
+    // A type formatter may format a range itself, which then goes behind what is buffered so far
+    int start = buffer.length();
+    try {
+      write(range, buffer);
+      scratch.flusher().flush(buffer, start, appendable);
+    } finally {
+      buffer.setLength(start);
+      if (start == 0 && buffer.capacity() > FLUSH_THRESHOLD) {
+        // Do not hold on to the buffer of an unusually long notation
+        SCRATCH.remove();
+      }
+    }
+    return appendable;
+  }
+
+  /**
+   * Appends the string notation of each Range to a {@link StringBuilder}, separated by the
+   * delimiter.
+   *
+   * @param ranges the ranges to format
+   * @param builder the builder to append to
+   * @param delimiter the text to put between two ranges, e.g. {@code "\n"}
+   * @param <T> the type of the range elements
+   * @return {@code builder}
+   */
+  public <T extends Comparable<T>> StringBuilder formatAll(
+      Iterable<? extends Range<T>> ranges, StringBuilder builder, CharSequence delimiter) {
+    requireNonNull(ranges, "ranges must not be null");
+    requireNonNull(builder, "builder must not be null");
+    requireNonNull(delimiter, "delimiter must not be null");
+    boolean first = true;
+    for (Range<T> range : ranges) {
+      if (!first) {
+        builder.append(delimiter);
+      }
+      write(requireNonNull(range, "ranges must not contain null"), builder);
+      first = false;
+    }
+    return builder;
+  }
+
+  /**
+   * Appends the string notation of each Range to an {@link Appendable}, separated by the delimiter.
+   *
+   * <p>Ranges are formatted into a single buffer that is handed to the target in blocks, so no
+   * {@code String} is created per range.
+   *
+   * @param ranges the ranges to format
+   * @param appendable the target to append to
+   * @param delimiter the text to put between two ranges, e.g. {@code "\n"}
+   * @param <T> the type of the range elements
+   * @param <A> the type of the target
+   * @return {@code appendable}
+   * @throws IOException if the target throws it
+   */
+  public <T extends Comparable<T>, A extends Appendable> A formatAll(
+      Iterable<? extends Range<T>> ranges, A appendable, CharSequence delimiter)
+      throws IOException {
+    requireNonNull(appendable, "appendable must not be null");
+    if (appendable instanceof StringBuilder builder) {
+      formatAll(ranges, builder, delimiter);
+      return appendable;
+    }
+    requireNonNull(ranges, "ranges must not be null");
+    requireNonNull(delimiter, "delimiter must not be null");
+
+    StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 64);
+    Flusher flusher = new Flusher();
+    boolean first = true;
+    for (Range<T> range : ranges) {
+      if (!first) {
+        buffer.append(delimiter);
+      }
+      write(requireNonNull(range, "ranges must not contain null"), buffer);
+      first = false;
+      if (buffer.length() >= FLUSH_THRESHOLD) {
+        flusher.flush(buffer, 0, appendable);
+      }
+    }
+    flusher.flush(buffer, 0, appendable);
+    return appendable;
+  }
+
+  /**
+   * Writes the UTF-8 encoded notation of a Range into a byte array.
+   *
+   * <p>Brackets, the separator and the infinity tokens are written as bytes, as are the digits of
+   * Integer, Long, Short and Byte endpoints, so no {@code String} is created or transcoded for
+   * them. Other endpoints are formatted as text first and then encoded.
+   *
+   * <p>If the notation does not fit, the bytes from {@code offset} on are unspecified.
+   *
+   * @param range the range to format
+   * @param buffer the array to write to
+   * @param offset the index of the first byte to write
+   * @param <T> the type of the range elements
+   * @return the number of bytes written
+   * @throws IndexOutOfBoundsException if {@code offset} is not within {@code [0, buffer.length]}
+   * @throws BufferOverflowException if the notation does not fit into the array
+   */
+  public <T extends Comparable<T>> int formatToUtf8(Range<T> range, byte[] buffer, int offset) {
+    requireNonNull(range, "range must not be null");
+    requireNonNull(buffer, "buffer must not be null");
+    Objects.checkIndex(offset, buffer.length + 1);
+    ByteBuffer target = ByteBuffer.wrap(buffer, offset, buffer.length - offset);
+    writeUtf8(range, target);
+    return target.position() - offset;
+  }
+
+  /**
+   * Writes the UTF-8 encoded notation of a Range into a {@link ByteBuffer}, starting at its
+   * position, like {@link #formatToUtf8(Range, byte[], int)}.
+   *
+   * <p>The position is advanced by the number of bytes written. If the notation does not fit, the
+   * position is left unchanged and the bytes between the position and the limit are unspecified.
+   *
+   * @param range the range to format
+   * @param buffer the buffer to write to, heap or direct
+   * @param <T> the type of the range elements
+   * @return the number of bytes written
+   * @throws BufferOverflowException if the notation does not fit into the remaining bytes
+   * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+   */
+  public <T extends Comparable<T>> int formatToUtf8(Range<T> range, ByteBuffer buffer) {
+    requireNonNull(range, "range must not be null");
+    requireNonNull(buffer, "buffer must not be null");
+    int start = buffer.position();
+    try {
+      writeUtf8(range, buffer);
+    } catch (BufferOverflowException e) {
+      buffer.position(start);
+      throw e;
+    }
+    return buffer.position() - start;
+  }
 
+  /** Writes the notation of a range, the common part of all format methods. */
+  private void write(Range<?> range, StringBuilder sb) {
+    if (!range.hasLowerBound() && !range.hasUpperBound()) {
+      sb.append(infinityStyle.allNotation());
+      return;
+    }
     if (range.hasLowerBound()) {
-      sb.append(range.lowerBoundType() == BoundType.CLOSED ? "[" : "(");
-      sb.append(range.lowerEndpoint());
+      sb.append(range.lowerBoundType() == BoundType.CLOSED ? '[' : '(');
+      writeEndpoint(range.lowerEndpoint(), sb);
     } else {
-      sb.append("(");
+      sb.append('(');
       sb.append(infinityStyle.negativeInfinity());
     }
 
     sb.append("..");
 
     if (range.hasUpperBound()) {
-      sb.append(range.upperEndpoint());
-      sb.append(range.upperBoundType() == BoundType.CLOSED ? "]" : ")");
+      writeEndpoint(range.upperEndpoint(), sb);
+      sb.append(range.upperBoundType() == BoundType.CLOSED ? ']' : ')');
     } else {
       sb.append(infinityStyle.positiveInfinity());
-      sb.append(")");
+      sb.append(')');
     }
+  }
 
-    return sb.toString();
+  /** Writes the UTF-8 encoded notation of a range, mirroring {@link #write}. */
+  private void writeUtf8(Range<?> range, ByteBuffer out) {
+    if (range.hasLowerBound()) {
+      out.put(range.lowerBoundType() == BoundType.CLOSED ? (byte) '[' : (byte) '(');
+      writeEndpointUtf8(range.lowerEndpoint(), out);
+    } else {
+      out.put((byte) '(');
+      out.put(negativeInfinityUtf8);
+    }
+
+    out.put((byte) '.').put((byte) '.');
+
+    if (range.hasUpperBound()) {
+      writeEndpointUtf8(range.upperEndpoint(), out);
+      out.put(range.upperBoundType() == BoundType.CLOSED ? (byte) ']' : (byte) ')');
+    } else {
+      out.put(positiveInfinityUtf8);
+      out.put((byte) ')');
+    }
+  }
+
+  /** Writes an endpoint as UTF-8, integral ones with the digits of the built-in formatters. */
+  private void writeEndpointUtf8(Object endpoint, ByteBuffer out) {
+    TypeFormatter<?> formatter = typeFormatters.get(endpoint.getClass());
+    if (formatter == BuiltInTypeFormatters.INTEGER
+        || formatter == BuiltInTypeFormatters.LONG
+        || formatter == BuiltInTypeFormatters.SHORT
+        || formatter == BuiltInTypeFormatters.BYTE) {
+      putDecimal(((Number) endpoint).longValue(), out);
+    } else {
+      StringBuilder text = new StringBuilder(32);
+      writeEndpoint(endpoint, text);
+      putUtf8(text, out);
+    }
+  }
+
+  /** Writes the decimal digits of a value, like {@link Long#toString(long)}. */
+  private static void putDecimal(long value, ByteBuffer out) {
+    // Work with the negated value, since |Long.MIN_VALUE| has no positive counterpart
+    long negative = value < 0 ? value : -value;
+    int digits = 1;
+    for (long rest = negative / 10; rest != 0; rest /= 10) {
+      digits++;
+    }
+    if (value < 0) {
+      out.put((byte) '-');
+    }
+    if (out.remaining() < digits) {
+      throw new BufferOverflowException();
+    }
+    int start = out.position();
+    for (int i = start + digits - 1; i >= start; i--) {
+      out.put(i, (byte) ('0' - negative % 10));
+      negative /= 10;
+    }
+    out.position(start + digits);
+  }
+
+  /**
+   * Writes text as UTF-8. Like {@link String#getBytes(java.nio.charset.Charset)}, an unpaired
+   * surrogate is written as {@code '?'}.
+   */
+  private static void putUtf8(CharSequence text, ByteBuffer out) {
+    int length = text.length();
+    for (int i = 0; i < length; i++) {
+      char c = text.charAt(i);
+      if (c < 0x80) {
+        out.put((byte) c);
+      } else if (c < 0x800) {
+        out.put((byte) (0xC0 | (c >> 6))).put((byte) (0x80 | (c & 0x3F)));
+      } else if (!Character.isSurrogate(c)) {
+        out.put((byte) (0xE0 | (c >> 12)))
+            .put((byte) (0x80 | ((c >> 6) & 0x3F)))
+            .put((byte) (0x80 | (c & 0x3F)));
+      } else if (Character.isHighSurrogate(c)
+          && i + 1 < length
+          && Character.isLowSurrogate(text.charAt(i + 1))) {
+        int codePoint = Character.toCodePoint(c, text.charAt(++i));
+        out.put((byte) (0xF0 | (codePoint >> 18)))
+            .put((byte) (0x80 | ((codePoint >> 12) & 0x3F)))
+            .put((byte) (0x80 | ((codePoint >> 6) & 0x3F)))
+            .put((byte) (0x80 | (codePoint & 0x3F)));
+      } else {
+        out.put((byte) '?');
+      }
+    }
+  }
+
+  /** Writes an endpoint with the formatter registered for its exact class, if any. */
+  @SuppressWarnings("unchecked")
+  private void writeEndpoint(Object endpoint, StringBuilder sb) {
+    TypeFormatter<Object> formatter =
+        (TypeFormatter<Object>) typeFormatters.get(endpoint.getClass());
+    if (formatter != null) {
+      formatter.format(endpoint, sb);
+    } else {
+      sb.append(endpoint);
+    }
+  }
+
+  /**
+   * Hands buffered output to an {@link Appendable}.
+   *
+   * <p>{@link Writer#append(CharSequence)} converts its argument to a {@code String}, so writers
+   * get the buffer's chars through a reused array instead.
+   */
+  private static final class Flusher {
+    private char[] chars;
+
+    /** Appends the buffer's content from {@code from} on to the target and removes it. */
+    void flush(StringBuilder buffer, int from, Appendable appendable) throws IOException {
+      int length = buffer.length() - from;
+      if (appendable instanceof Writer writer) {
+        if (chars == null || chars.length < length) {
+          chars = new char[Math.max(length, 64)];
+        }
+        buffer.getChars(from, from + length, chars, 0);
+        writer.write(chars, 0, length);
+      } else {
+        appendable.append(buffer, from, from + length);
+      }
+      buffer.setLength(from);
+    }
   }
 
-  /** Builder for creating configured {@link RangeFormatter} instances. */
+  /** Per-thread buffer and flusher of {@link #formatTo(Range, Appendable)}. */
+  private record Scratch(StringBuilder buffer, Flusher flusher) {}
+
+  /**
+   * Builder for creating configured {@link RangeFormatter} instances.
+   *
+   * <p>Custom type formatters registered via {@link #registerType} take precedence over built-in
+   * formatters.
+   */
   public static final class Builder {
+    private final Map<Class<?>, TypeFormatter<?>> typeFormatters = new HashMap<>();
     private InfinityStyle infinityStyle = InfinityStyle.SYMBOL;
+    private boolean shortestFloatingPoint = false;
+    private int cacheMaxEntries = 0;
 
     private Builder() {}
 
+    /**
+     * Registers a custom type formatter for writing range endpoints.
+     *
+     * <p>The formatter is used for endpoints whose class is exactly {@code type}; endpoints of
+     * other classes, including subclasses, are written with {@link StringBuilder#append(Object)}.
+     *
+     * @param type the class of endpoints to format
+     * @param formatter the formatter to use
+     * @param <T> the endpoint type
+     * @return this builder
+     */
+    public <T extends Comparable<T>> Builder registerType(
+        Class<T> type, TypeFormatter<? super T> formatter) {
+      requireNonNull(type, "type must not be null");
+      requireNonNull(formatter, "formatter must not be null");
+      typeFormatters.put(type, formatter);
+      return this;
+    }
+
+    /**
+     * Enables writing Double and Float endpoints as the shortest decimal that parses back to the
+     * same value.
+     *
+     * <p>The digits are computed with the Schubfach algorithm and written straight into the output
+     * buffer, without creating an endpoint {@code String}. The layout is that of {@link
+     * Double#toString(double)}, e.g. {@code 0.1}, {@code 1.0E10} or {@code NaN}, and the output is
+     * identical to {@code Double.toString} on JDK 19 and later. JDK 17 sometimes writes more digits
+     * than needed, e.g. {@code 1.9999999999999998E23} for {@code 2e23}, which this mode writes as
+     * {@code 2.0E23}. Either way, {@link BuiltInTypeAdapters#DOUBLE} and {@link
+     * BuiltInTypeAdapters#FLOAT} parse the output back to the identical value.
+     *
+     * <p>Formatters registered via {@link #registerType} for Double or Float take precedence.
+     *
+     * <p>Default: {@code false}
+     *
+     * @param shortestFloatingPoint true to write the shortest round-trip decimal
+     * @return this builder
+     */
+    public Builder shortestFloatingPoint(boolean shortestFloatingPoint) {
+      this.shortestFloatingPoint = shortestFloatingPoint;
+      return this;
+    }
+
+    /**
+     * Enables a bounded cache of formatted notations.
+     *
+     * <p>{@link RangeFormatter#format(Range)} then remembers the notation of up to {@code
+     * maxEntries} Range instances and evicts the least recently used ones first. Since ranges are
+     * immutable, this suits applications that format the same range objects over and over, such as
+     * ranges derived from configuration.
+     *
+     * <p>Entries are keyed on the identity of the Range instance, not on equality: {@link
+     * Range#equals} compares endpoints with {@code compareTo}, so equal ranges, such as {@code
+     * [1.0..2]} and {@code [1.00..2]} of BigDecimal, can have different notations. The ranges are
+     * weakly referenced, so caching them does not keep them from being garbage collected. Use
+     * {@link RangeFormatter#cacheStats()} to monitor the hit rate.
+     *
+     * @param maxEntries the maximum number of cached notations, or 0 to disable caching
+     * @return this builder
+     * @throws IllegalArgumentException if {@code maxEntries} is negative
+     */
+    public Builder cache(int maxEntries) {
+      if (maxEntries < 0) {
+        throw new IllegalArgumentException("maxEntries must not be negative: " + maxEntries);
+      }
+      this.cacheMaxEntries = maxEntries;
+      return this;
+    }
+
     /**
      * Sets the style for representing infinity in output.
      *
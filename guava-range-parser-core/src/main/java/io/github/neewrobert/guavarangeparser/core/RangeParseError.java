@@ -0,0 +1,39 @@
+package io.github.neewrobert.guavarangeparser.core;
+
+/**
+ * Machine-readable reason why range notation could not be parsed.
+ *
+ * <p>Reported by {@link RangeParseResult#error()} and {@link RangeParseException#getReason()} so
+ * that callers can react to parse failures without inspecting message strings.
+ *
+ * @see RangeParser#tryParse(String, Class)
+ */
+public enum RangeParseError {
+
+  /** The input is empty or consists only of whitespace. */
+  EMPTY_INPUT,
+
+  /** The input exceeds the maximum allowed length. */
+  INPUT_TOO_LONG,
+
+  /** Brackets, the {@code ..} separator or an endpoint are missing or malformed. */
+  INVALID_FORMAT,
+
+  /** Negative infinity is used with a closed {@code [} bound. */
+  CLOSED_NEGATIVE_INFINITY,
+
+  /** Positive infinity is used with a closed {@code ]} bound. */
+  CLOSED_POSITIVE_INFINITY,
+
+  /** No type adapter is registered for the requested element type. */
+  NO_TYPE_ADAPTER,
+
+  /** The type adapter could not parse an endpoint value. */
+  INVALID_VALUE,
+
+  /** The lower endpoint is greater than the upper endpoint. */
+  LOWER_GREATER_THAN_UPPER,
+
+  /** Both endpoints are equal and both bounds are open, e.g. {@code (5..5)}. */
+  EMPTY_OPEN_RANGE
+}
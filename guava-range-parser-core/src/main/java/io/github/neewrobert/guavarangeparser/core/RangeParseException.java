@@ -1,12 +1,19 @@
 package io.github.neewrobert.guavarangeparser.core;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serial;
 
 /**
  * Exception thrown when a range string cannot be parsed.
  *
  * <p>This exception provides detailed information about the parsing failure, including the original
- * input string and the position where the error occurred.
+ * input string, the position where the error occurred and a machine-readable {@linkplain
+ * #getReason() reason}.
+ *
+ * <p>The detail message is only formatted when {@link #getMessage()} is first called. Parsers built
+ * with {@link RangeParser.Builder#lightweightExceptions(boolean)} additionally throw instances
+ * without a stack trace, which makes failures cheap for callers that just catch and count them.
  *
  * @see RangeParser
  */
@@ -14,36 +21,83 @@ public final class RangeParseException extends RuntimeException {
 
   @Serial private static final long serialVersionUID = 1L;
 
+  // Not final, so that readObject can default it for instances serialized before it was added
+  private RangeParseError reason;
+  private final String detail;
   private final String input;
   private final int position;
+  private transient String message;
 
   /**
    * Constructs a new RangeParseException.
    *
+   * <p>The exception reports {@link RangeParseError#INVALID_VALUE} as its reason, which is what
+   * parsing fails with when a type adapter throws it.
+   *
    * @param message the detail message
    * @param input the input string that failed to parse
    * @param position the position in the input where the error occurred
    */
   public RangeParseException(String message, String input, int position) {
-    super(formatMessage(message, input, position));
-    this.input = input;
-    this.position = position;
+    this(RangeParseError.INVALID_VALUE, message, input, position, null, true);
   }
 
   /**
    * Constructs a new RangeParseException with a cause.
    *
+   * <p>The exception reports {@link RangeParseError#INVALID_VALUE} as its reason, which is what
+   * parsing fails with when a type adapter throws it.
+   *
    * @param message the detail message
    * @param input the input string that failed to parse
    * @param position the position in the input where the error occurred
    * @param cause the cause of the exception
    */
   public RangeParseException(String message, String input, int position, Throwable cause) {
-    super(formatMessage(message, input, position), cause);
+    this(RangeParseError.INVALID_VALUE, message, input, position, cause, true);
+  }
+
+  /**
+   * Constructs a new RangeParseException with a reason, optionally without a stack trace.
+   *
+   * @param writableStackTrace whether to capture the stack trace
+   */
+  RangeParseException(
+      RangeParseError reason,
+      String message,
+      String input,
+      int position,
+      Throwable cause,
+      boolean writableStackTrace) {
+    super(null, cause, true, writableStackTrace);
+    this.reason = reason;
+    this.detail = message;
     this.input = input;
     this.position = position;
   }
 
+  /**
+   * Returns the reason why parsing failed.
+   *
+   * <p>Handlers can branch on the reason instead of inspecting the message.
+   *
+   * @return the reason
+   */
+  public RangeParseError getReason() {
+    return reason;
+  }
+
+  @Override
+  public String getMessage() {
+    // Benign race: concurrent callers format equal strings
+    String formatted = message;
+    if (formatted == null) {
+      formatted = formatMessage(detail, input, position);
+      message = formatted;
+    }
+    return formatted;
+  }
+
   /**
    * Returns the input string that failed to parse.
    *
@@ -62,6 +116,20 @@ public final class RangeParseException extends RuntimeException {
     return position;
   }
 
+  /**
+   * Restores an instance, including one serialized before the reason was added. Those instances
+   * report {@link RangeParseError#INVALID_VALUE}, like the public constructors, and keep the
+   * message they were serialized with, which was formatted up front.
+   */
+  @Serial
+  private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+    in.defaultReadObject();
+    if (reason == null) {
+      reason = RangeParseError.INVALID_VALUE;
+      message = super.getMessage();
+    }
+  }
+
   private static String formatMessage(String message, String input, int position) {
     StringBuilder sb = new StringBuilder();
     sb.append(message);
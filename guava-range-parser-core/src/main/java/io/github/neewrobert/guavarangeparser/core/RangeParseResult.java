@@ -0,0 +1,98 @@
+package io.github.neewrobert.guavarangeparser.core;
+
+import static java.util.Objects.requireNonNull;
+
+import com.google.common.collect.Range;
+import java.util.NoSuchElementException;
+
+/**
+ * Outcome of a non-throwing parse: either the parsed range, or an error code and offset.
+ *
+ * <p>Returned by {@link RangeParser#tryParse(String, Class)} for inputs that are expected to fail
+ * often, such as untrusted or bulk data, where building a {@link RangeParseException} with its
+ * message and stack trace would dominate the cost of parsing.
+ *
+ * <pre>{@code
+ * RangeParseResult<Integer> result = parser.tryParse(input, Integer.class);
+ * if (result.isSuccess()) {
+ *   use(result.range());
+ * } else {
+ *   reject(result.error(), result.errorOffset());
+ * }
+ * }</pre>
+ *
+ * @param <T> the type of the range elements
+ * @see RangeParser#tryParse(String, Class)
+ */
+public final class RangeParseResult<T extends Comparable<?>> {
+
+  private final Range<T> range;
+  private final RangeParseError error;
+  private final int errorOffset;
+
+  private RangeParseResult(Range<T> range, RangeParseError error, int errorOffset) {
+    this.range = range;
+    this.error = error;
+    this.errorOffset = errorOffset;
+  }
+
+  static <T extends Comparable<?>> RangeParseResult<T> success(Range<T> range) {
+    return new RangeParseResult<>(requireNonNull(range), null, -1);
+  }
+
+  static <T extends Comparable<?>> RangeParseResult<T> failure(
+      RangeParseError error, int errorOffset) {
+    return new RangeParseResult<>(null, requireNonNull(error), errorOffset);
+  }
+
+  /**
+   * Returns whether the input was parsed successfully.
+   *
+   * @return true if {@link #range()} holds the parsed range
+   */
+  public boolean isSuccess() {
+    return range != null;
+  }
+
+  /**
+   * Returns the parsed range.
+   *
+   * @return the parsed range
+   * @throws NoSuchElementException if parsing failed
+   */
+  public Range<T> range() {
+    if (range == null) {
+      throw new NoSuchElementException("Parsing failed with " + error + " at " + errorOffset);
+    }
+    return range;
+  }
+
+  /**
+   * Returns the reason why parsing failed.
+   *
+   * @return the error, or {@code null} if parsing succeeded
+   */
+  public RangeParseError error() {
+    return error;
+  }
+
+  /**
+   * Returns the offset in the input where the error was found.
+   *
+   * <p>The offset is relative to the start of the parsed notation and points at the offending
+   * bracket, separator or endpoint where possible, or is 0 for errors that concern the input as a
+   * whole.
+   *
+   * @return the 0-based error offset, or -1 if parsing succeeded
+   */
+  public int errorOffset() {
+    return errorOffset;
+  }
+
+  @Override
+  public String toString() {
+    return isSuccess()
+        ? "RangeParseResult[" + range + "]"
+        : "RangeParseResult[" + error + " at " + errorOffset + "]";
+  }
+}
@@ -2,11 +2,37 @@ package io.github.neewrobert.guavarangeparser.core;
 
 import static java.util.Objects.requireNonNull;
 
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.BoundType;
 import com.google.common.collect.Range;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Parser for converting string notation to Guava {@link Range} objects.
@@ -32,6 +58,30 @@ import java.util.Set;
  * Range<Double> range = RangeParser.parse("(0.0..1.0]", Double.class);
  * }</pre>
  *
+ * <p>Callers holding the notation in a {@code char[]}, {@link java.nio.CharBuffer} or a slice of a
+ * larger line can use {@link #parseRange(CharSequence, int, int, Class)} to parse it in place.
+ * UTF-8 encoded notation can be parsed without decoding it first via {@link #parseRange(byte[],
+ * int, int, Class)} and {@link #parseRange(ByteBuffer, Class)}.
+ *
+ * <p>Input that is expected to be invalid often can be checked with {@link #tryParse(String,
+ * Class)} or {@link #isValid(String, Class)}, which report failures as a {@link RangeParseError}
+ * instead of throwing.
+ *
+ * <p>Large batches, such as the cells of an uploaded file, can be parsed with {@link
+ * #parseAll(List, Class)}, which spreads the work across cores and reports each failure at its
+ * index.
+ *
+ * <p>Range dumps that do not fit into memory can be streamed with {@link #parseLines(Path, Class)}
+ * and its {@link Reader} and {@link InputStream} counterparts.
+ *
+ * <p>Parsers that see the same notation over and over can keep recently parsed ranges in a bounded
+ * cache, see {@link Builder#cache(int)}. Since Guava ranges are immutable, cached results are
+ * shared between callers.
+ *
+ * <p>Input is limited in length, and big-number endpoints in digits and scale, so that adversarial
+ * input costs bounded time; see {@link Builder#maxInputLength(int)}, {@link Builder#maxDigits(int)}
+ * and {@link Builder#maxScale(int)}.
+ *
  * <p><b>Thread Safety:</b> Instances of this class are immutable and thread-safe. A single parser
  * instance can be safely shared across multiple threads.
  *
@@ -40,55 +90,61 @@ import java.util.Set;
  */
 public final class RangeParser {
 
-  private static final String SEPARATOR = "..";
-
-  private static final Set<String> POSITIVE_INFINITY =
-      Set.of("+∞", "∞", "+inf", "inf", "+INF", "INF", "+Infinity", "Infinity");
-
-  private static final Set<String> NEGATIVE_INFINITY = Set.of("-∞", "-inf", "-INF", "-Infinity");
-
   /**
-   * Internal record to hold parsed range parts.
-   *
-   * @param lowerPart the lower bound string value
-   * @param upperPart the upper bound string value
-   * @param lowerBoundType the type of the lower bound (OPEN or CLOSED)
-   * @param upperBoundType the type of the upper bound (OPEN or CLOSED)
-   * @param lowerUnbounded whether the lower bound is infinity
-   * @param upperUnbounded whether the upper bound is infinity
-   */
-  private record RangeParts(
-      String lowerPart,
-      String upperPart,
-      BoundType lowerBoundType,
-      BoundType upperBoundType,
-      boolean lowerUnbounded,
-      boolean upperUnbounded) {}
-
-  /**
-   * Maximum allowed length for input strings.
+   * Default maximum length for input strings.
    *
    * <p>This limit prevents denial-of-service attacks via extremely long input strings that could
-   * cause memory exhaustion or excessive regex processing time.
+   * cause memory exhaustion or excessive processing time.
    */
-  private static final int MAX_INPUT_LENGTH = 1000;
+  private static final int DEFAULT_MAX_INPUT_LENGTH = 1000;
+
+  /** Number of chars of over-long input quoted in the exception. */
+  private static final int PREVIEW_LENGTH = 50;
 
   private static final String INVALID_FORMAT_MESSAGE =
       "Invalid range format. Expected notation like '[a..b)', '(a..b]', '(-∞..+∞)', etc.";
 
+  private static final int DEFAULT_PARALLEL_THRESHOLD = 4096;
+
+  /** Smallest chunk worth handing to another thread when parsing a batch in parallel. */
+  private static final int MIN_CHUNK_SIZE = 1024;
+
   private static final RangeParser DEFAULT_INSTANCE = builder().build();
 
-  private final Map<Class<?>, TypeAdapter<?>> typeAdapters;
+  /** Key of the parse-result cache: the notation together with the requested element type. */
+  private record CacheKey(String rangeString, Class<?> elementType) {}
+
+  private final AdapterResolver adapters;
   private final boolean lenient;
+  private final boolean lightweightExceptions;
+  private final int maxInputLength;
+  private final int parallelThreshold;
+  private final Cache<CacheKey, Range<?>> cache;
 
   private RangeParser(Builder builder) {
-    // Register built-in adapters first, then overlay custom adapters
-    // This allows custom adapters to override built-in ones
-    Map<Class<?>, TypeAdapter<?>> adapters = new HashMap<>();
-    BuiltInTypeAdapters.registerAll(adapters);
-    adapters.putAll(builder.typeAdapters);
-    this.typeAdapters = Map.copyOf(adapters);
+    // The built-in adapters are shared, so only keep the ones that differ from them: big-number
+    // adapters with non-default limits, and custom adapters, which override built-in ones
+    Map<Class<?>, RegionTypeAdapter<?>> adapters = new HashMap<>();
+    if (builder.maxDigits != BuiltInTypeAdapters.DEFAULT_MAX_DIGITS) {
+      adapters.put(BigInteger.class, BuiltInTypeAdapters.bigInteger(builder.maxDigits));
+    }
+    if (builder.maxDigits != BuiltInTypeAdapters.DEFAULT_MAX_DIGITS
+        || builder.maxScale != BuiltInTypeAdapters.DEFAULT_MAX_SCALE) {
+      adapters.put(
+          BigDecimal.class, BuiltInTypeAdapters.bigDecimal(builder.maxDigits, builder.maxScale));
+    }
+    // Bridge plain adapters once so the hot path always parses regions
+    builder.typeAdapters.forEach(
+        (type, adapter) -> adapters.put(type, RegionTypeAdapter.of(adapter)));
+    this.adapters = new AdapterResolver(adapters);
     this.lenient = builder.lenient;
+    this.lightweightExceptions = builder.lightweightExceptions;
+    this.maxInputLength = builder.maxInputLength;
+    this.parallelThreshold = builder.parallelThreshold;
+    this.cache =
+        builder.cacheMaxEntries > 0
+            ? CacheBuilder.newBuilder().maximumSize(builder.cacheMaxEntries).recordStats().build()
+            : null;
   }
 
   /**
@@ -116,178 +172,959 @@ public final class RangeParser {
   /**
    * Parses a range string into a Range object.
    *
+   * <p>If this parser was built with a {@linkplain Builder#cache(int) cache}, a previously parsed
+   * range for the same string and element type is returned without parsing again.
+   *
    * @param rangeString the string to parse (e.g., "[0..100)")
    * @param elementType the class of the range elements
    * @param <T> the type of the range elements (must be Comparable)
    * @return the parsed Range
    * @throws RangeParseException if the string cannot be parsed
    */
+  @SuppressWarnings("unchecked")
   public <T extends Comparable<?>> Range<T> parseRange(String rangeString, Class<T> elementType) {
-    validateInput(rangeString, elementType);
-    String normalized = normalizeInput(rangeString);
-    RangeParts parts = extractRangeParts(normalized, rangeString);
-    validateInfinityBounds(parts, rangeString);
-    TypeAdapter<T> adapter = getTypeAdapter(elementType, rangeString);
+    if (cache == null) {
+      return parseRangeUncached(rangeString, elementType);
+    }
+    requireNonNull(rangeString, "rangeString must not be null");
+    requireNonNull(elementType, "elementType must not be null");
 
-    try {
-      return buildRange(
-          parts.lowerPart(),
-          parts.upperPart(),
-          parts.lowerBoundType(),
-          parts.upperBoundType(),
-          parts.lowerUnbounded(),
-          parts.upperUnbounded(),
-          adapter);
-    } catch (Exception e) {
-      if (e instanceof RangeParseException) {
-        throw (RangeParseException) e;
+    // Concurrent misses may parse the same string twice; ranges are immutable, so either wins
+    CacheKey key = new CacheKey(rangeString, elementType);
+    Range<T> range = (Range<T>) cache.getIfPresent(key);
+    if (range == null) {
+      range = parseRangeUncached(rangeString, elementType);
+      cache.put(key, range);
+    }
+    return range;
+  }
+
+  /**
+   * Parses a range string into a Range object, bypassing the parse-result cache.
+   *
+   * <p>Use this for strings that are unlikely to repeat, so they neither evict useful entries nor
+   * count as cache misses. Without a cache this is the same as {@link #parseRange(String, Class)}.
+   *
+   * @param rangeString the string to parse (e.g., "[0..100)")
+   * @param elementType the class of the range elements
+   * @param <T> the type of the range elements (must be Comparable)
+   * @return the parsed Range
+   * @throws RangeParseException if the string cannot be parsed
+   */
+  public <T extends Comparable<?>> Range<T> parseRangeUncached(
+      String rangeString, Class<T> elementType) {
+    requireNonNull(rangeString, "rangeString must not be null");
+    return parseRange(rangeString, 0, rangeString.length(), elementType);
+  }
+
+  /**
+   * Returns the hit, miss and eviction counts of the parse-result cache.
+   *
+   * @return the cache statistics, all zero if this parser has no cache
+   */
+  public CacheStats cacheStats() {
+    return cache != null ? cache.stats() : new CacheStats(0, 0, 0, 0, 0, 0);
+  }
+
+  /**
+   * Parses the range notation held in {@code source[start, end)} without copying it.
+   *
+   * <p>This behaves exactly like {@link #parseRange(String, Class)} applied to {@code
+   * source.subSequence(start, end).toString()}, but only the endpoints handed to a plain {@link
+   * TypeAdapter} are materialized as strings. Endpoints of types with a {@link RegionTypeAdapter},
+   * such as the built-in integral types, are parsed in place.
+   *
+   * @param source the character sequence holding the notation
+   * @param start the index of the first character of the notation (inclusive)
+   * @param end the index after the last character of the notation (exclusive)
+   * @param elementType the class of the range elements
+   * @param <T> the type of the range elements (must be Comparable)
+   * @return the parsed Range
+   * @throws IndexOutOfBoundsException if {@code start} or {@code end} are out of bounds
+   * @throws RangeParseException if the notation cannot be parsed
+   */
+  public <T extends Comparable<?>> Range<T> parseRange(
+      CharSequence source, int start, int end, Class<T> elementType) {
+    validateInput(source, start, end, elementType);
+    return scanAndBuild(source, start, end, elementType);
+  }
+
+  /**
+   * Parses UTF-8 encoded range notation held in {@code utf8[offset, offset + length)}.
+   *
+   * <p>This behaves exactly like {@link #parseRange(String, Class)} applied to the decoded string.
+   * Brackets, the separator and infinity tokens (including the three-byte {@code ∞}) are located
+   * directly on the bytes, and ASCII endpoints are handed to {@link RegionTypeAdapter}s through a
+   * zero-copy view, so the built-in integral types are parsed straight from the digit bytes, and
+   * endpoints that fail to parse are reported without parsing them again. Input that cannot take
+   * this path, such as non-ASCII endpoints or invalid notation, is decoded and parsed as a {@code
+   * String}.
+   *
+   * @param utf8 the array holding the UTF-8 encoded notation
+   * @param offset the index of the first byte of the notation
+   * @param length the number of bytes of the notation
+   * @param elementType the class of the range elements
+   * @param <T> the type of the range elements (must be Comparable)
+   * @return the parsed Range
+   * @throws IndexOutOfBoundsException if {@code offset} or {@code length} are out of bounds
+   * @throws RangeParseException if the notation cannot be parsed
+   */
+  public <T extends Comparable<?>> Range<T> parseRange(
+      byte[] utf8, int offset, int length, Class<T> elementType) {
+    requireNonNull(utf8, "utf8 must not be null");
+    requireNonNull(elementType, "elementType must not be null");
+    Objects.checkFromIndexSize(offset, length, utf8.length);
+
+    if (length > maxInputLength) {
+      // A char takes one to three bytes, so only non-ASCII input of at most three times the limit
+      // can decode to few enough chars
+      if (length > 3 * maxInputLength || isAscii(utf8, offset, offset + length)) {
+        String prefix =
+            new String(utf8, offset, Math.min(length, 3 * PREVIEW_LENGTH), StandardCharsets.UTF_8);
+        throw inputTooLong(prefix, 0, prefix.length());
+      }
+    } else {
+      // A byte count within the limit implies a char count within the limit
+      Range<T> range = buildUtf8(utf8, offset, offset + length, elementType);
+      if (range != null) {
+        return range;
       }
-      throw new RangeParseException(
-          "Failed to parse range value: " + e.getMessage(), rangeString, 0, e);
     }
+    return parseRange(new String(utf8, offset, length, StandardCharsets.UTF_8), elementType);
+  }
+
+  /**
+   * Parses the UTF-8 encoded range notation between the buffer's position and limit.
+   *
+   * <p>Buffers backed by an accessible array are parsed like {@link #parseRange(byte[], int, int,
+   * Class)}. Other buffers, such as direct or read-only ones, are read in place if they hold only
+   * ASCII; otherwise their content is copied to an array first. The buffer's position, limit and
+   * mark are not modified.
+   *
+   * @param utf8 the buffer holding the UTF-8 encoded notation
+   * @param elementType the class of the range elements
+   * @param <T> the type of the range elements (must be Comparable)
+   * @return the parsed Range
+   * @throws RangeParseException if the notation cannot be parsed
+   * @see #parseRange(byte[], int, int, Class)
+   */
+  public <T extends Comparable<?>> Range<T> parseRange(ByteBuffer utf8, Class<T> elementType) {
+    requireNonNull(utf8, "utf8 must not be null");
+    if (utf8.hasArray()) {
+      return parseRange(
+          utf8.array(), utf8.arrayOffset() + utf8.position(), utf8.remaining(), elementType);
+    }
+    int from = utf8.position();
+    int length = utf8.remaining();
+    // A char takes at most three bytes, so longer input only needs to be copied for the message
+    if (length <= 3 * maxInputLength && isAscii(utf8, from, from + length)) {
+      return parseRange(new AsciiBufferSequence(utf8, from, length), 0, length, elementType);
+    }
+    byte[] bytes = new byte[Math.min(length, 3 * maxInputLength + 1)];
+    utf8.get(from, bytes);
+    return parseRange(bytes, 0, bytes.length, elementType);
   }
 
-  /** Validates that input parameters are not null and input string is within size limits. */
-  private void validateInput(String rangeString, Class<?> elementType) {
+  /**
+   * Parses a range string without throwing for invalid input.
+   *
+   * <p>Accepts the same notation as {@link #parseRange(String, Class)}, but reports failures as a
+   * {@link RangeParseError} and offset instead of a {@link RangeParseException}. No exception is
+   * created for malformed notation, out-of-order endpoints or endpoints rejected by the {@linkplain
+   * RegionTypeAdapter#tryParse non-throwing adapter contract}, which makes this the cheaper choice
+   * for input that is expected to be invalid often. Only successful results are added to the
+   * parse-result cache.
+   *
+   * @param rangeString the string to parse (e.g., "[0..100)")
+   * @param elementType the class of the range elements
+   * @param <T> the type of the range elements (must be Comparable)
+   * @return the parsed range, or the reason why parsing failed
+   */
+  @SuppressWarnings("unchecked")
+  public <T extends Comparable<?>> RangeParseResult<T> tryParse(
+      String rangeString, Class<T> elementType) {
     requireNonNull(rangeString, "rangeString must not be null");
+    if (cache == null) {
+      return tryParse(rangeString, 0, rangeString.length(), elementType);
+    }
+    requireNonNull(elementType, "elementType must not be null");
+
+    CacheKey key = new CacheKey(rangeString, elementType);
+    Range<T> cached = (Range<T>) cache.getIfPresent(key);
+    if (cached != null) {
+      return RangeParseResult.success(cached);
+    }
+    RangeParseResult<T> result = tryParse(rangeString, 0, rangeString.length(), elementType);
+    if (result.isSuccess()) {
+      cache.put(key, result.range());
+    }
+    return result;
+  }
+
+  /**
+   * Parses the range notation held in {@code source[start, end)} without throwing for invalid
+   * input.
+   *
+   * <p>Error offsets are relative to {@code start}.
+   *
+   * @param source the character sequence holding the notation
+   * @param start the index of the first character of the notation (inclusive)
+   * @param end the index after the last character of the notation (exclusive)
+   * @param elementType the class of the range elements
+   * @param <T> the type of the range elements (must be Comparable)
+   * @return the parsed range, or the reason why parsing failed
+   * @throws IndexOutOfBoundsException if {@code start} or {@code end} are out of bounds
+   * @see #tryParse(String, Class)
+   */
+  public <T extends Comparable<?>> RangeParseResult<T> tryParse(
+      CharSequence source, int start, int end, Class<T> elementType) {
+    requireNonNull(source, "rangeString must not be null");
+    requireNonNull(elementType, "elementType must not be null");
+    Objects.checkFromToIndex(start, end, source.length());
+    if (end - start > maxInputLength) {
+      return RangeParseResult.failure(RangeParseError.INPUT_TOO_LONG, 0);
+    }
+    return tryScanAndBuild(source, start, end, elementType);
+  }
+
+  /**
+   * Returns whether a range string can be parsed, without throwing for invalid input.
+   *
+   * @param rangeString the string to validate (e.g., "[0..100)")
+   * @param elementType the class of the range elements
+   * @return true if {@link #parseRange(String, Class)} would succeed
+   * @see #tryParse(String, Class)
+   */
+  public boolean isValid(String rangeString, Class<? extends Comparable<?>> elementType) {
+    return tryParse(rangeString, elementType).isSuccess();
+  }
+
+  /**
+   * Parses a batch of range strings, collecting failures per index instead of aborting on the first
+   * one.
+   *
+   * <p>Each element is parsed like {@link #tryParse(String, Class)}, and the returned list holds
+   * the result for each element in input order. Batches of at least {@linkplain
+   * Builder#parallelThreshold(int) the parallel threshold} are split into chunks that are parsed
+   * concurrently in the {@linkplain ForkJoinPool#commonPool() common pool}.
+   *
+   * @param rangeStrings the strings to parse
+   * @param elementType the class of the range elements
+   * @param <T> the type of the range elements (must be Comparable)
+   * @return an unmodifiable list holding the result for each string, in input order
+   * @throws NullPointerException if {@code rangeStrings} contains {@code null}
+   */
+  public <T extends Comparable<?>> List<RangeParseResult<T>> parseAll(
+      List<? extends CharSequence> rangeStrings, Class<T> elementType) {
+    return parseAll(rangeStrings, elementType, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Parses a batch of range strings, running concurrent chunks on the given executor.
+   *
+   * <p>Use this to keep batch parsing off the common pool. The calling thread waits until all
+   * chunks are parsed.
+   *
+   * @param rangeStrings the strings to parse
+   * @param elementType the class of the range elements
+   * @param executor the executor that parses the chunks of large batches
+   * @param <T> the type of the range elements (must be Comparable)
+   * @return an unmodifiable list holding the result for each string, in input order
+   * @throws NullPointerException if {@code rangeStrings} contains {@code null}
+   * @see #parseAll(List, Class)
+   */
+  public <T extends Comparable<?>> List<RangeParseResult<T>> parseAll(
+      List<? extends CharSequence> rangeStrings, Class<T> elementType, Executor executor) {
+    requireNonNull(rangeStrings, "rangeStrings must not be null");
+    requireNonNull(elementType, "elementType must not be null");
+    requireNonNull(executor, "executor must not be null");
+    CharSequence[] inputs = rangeStrings.toArray(new CharSequence[0]);
+    @SuppressWarnings("unchecked")
+    RangeParseResult<T>[] results = (RangeParseResult<T>[]) new RangeParseResult<?>[inputs.length];
+
+    if (inputs.length < parallelThreshold) {
+      parseChunk(inputs, 0, inputs.length, elementType, results);
+    } else {
+      // Several chunks per core, so that a slow chunk does not leave the other cores idle
+      int chunks =
+          Math.min(
+              inputs.length / MIN_CHUNK_SIZE + 1, 4 * Runtime.getRuntime().availableProcessors());
+      int chunkSize = (inputs.length + chunks - 1) / chunks;
+      List<CompletableFuture<Void>> futures = new ArrayList<>(chunks);
+      for (int from = 0; from < inputs.length; from += chunkSize) {
+        int start = from;
+        int end = Math.min(from + chunkSize, inputs.length);
+        futures.add(
+            CompletableFuture.runAsync(
+                () -> parseChunk(inputs, start, end, elementType, results), executor));
+      }
+      try {
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+      } catch (CompletionException e) {
+        Throwables.throwIfUnchecked(e.getCause());
+        throw e;
+      }
+    }
+    return Collections.unmodifiableList(Arrays.asList(results));
+  }
+
+  /**
+   * Parses an array of range strings, collecting failures per index.
+   *
+   * @param rangeStrings the strings to parse
+   * @param elementType the class of the range elements
+   * @param <T> the type of the range elements (must be Comparable)
+   * @return an unmodifiable list holding the result for each string, in input order
+   * @throws NullPointerException if {@code rangeStrings} contains {@code null}
+   * @see #parseAll(List, Class)
+   */
+  public <T extends Comparable<?>> List<RangeParseResult<T>> parseAll(
+      CharSequence[] rangeStrings, Class<T> elementType) {
+    requireNonNull(rangeStrings, "rangeStrings must not be null");
+    return parseAll(Arrays.asList(rangeStrings), elementType);
+  }
+
+  /**
+   * Parses an array of range strings, running concurrent chunks on the given executor.
+   *
+   * @param rangeStrings the strings to parse
+   * @param elementType the class of the range elements
+   * @param executor the executor that parses the chunks of large batches
+   * @param <T> the type of the range elements (must be Comparable)
+   * @return an unmodifiable list holding the result for each string, in input order
+   * @throws NullPointerException if {@code rangeStrings} contains {@code null}
+   * @see #parseAll(List, Class, Executor)
+   */
+  public <T extends Comparable<?>> List<RangeParseResult<T>> parseAll(
+      CharSequence[] rangeStrings, Class<T> elementType, Executor executor) {
+    requireNonNull(rangeStrings, "rangeStrings must not be null");
+    return parseAll(Arrays.asList(rangeStrings), elementType, executor);
+  }
+
+  /**
+   * Returns a lazily populated stream of the ranges in newline-delimited notation read from a
+   * {@link Reader}.
+   *
+   * <p>Each line is parsed like {@link #parseRange(String, Class)}, honoring this parser's lenient
+   * mode and type adapters. Lines may end in {@code \n} or {@code \r\n}, and empty lines are
+   * skipped. Characters are read into a reusable buffer and parsed in place, so neither the input
+   * nor a {@code String} per line is held in memory. The reader is not closed by the stream.
+   *
+   * <p>A line that cannot be parsed makes the terminal operation throw a {@link
+   * RangeParseException}; an {@link IOException} is rethrown as an {@link UncheckedIOException}.
+   *
+   * @param reader the reader to read the notation from
+   * @param elementType the class of the range elements
+   * @param <T> the type of the range elements (must be Comparable)
+   * @return a stream of the parsed ranges, in input order
+   */
+  public <T extends Comparable<?>> Stream<Range<T>> parseLines(
+      Reader reader, Class<T> elementType) {
+    return parseLines(reader, '\n', elementType);
+  }
+
+  /**
+   * Returns a lazily populated stream of the ranges in notation read from a {@link Reader},
+   * separated by the given delimiter.
+   *
+   * @param reader the reader to read the notation from
+   * @param delimiter the character that terminates each range notation
+   * @param elementType the class of the range elements
+   * @param <T> the type of the range elements (must be Comparable)
+   * @return a stream of the parsed ranges, in input order
+   * @see #parseLines(Reader, Class)
+   */
+  public <T extends Comparable<?>> Stream<Range<T>> parseLines(
+      Reader reader, char delimiter, Class<T> elementType) {
+    requireNonNull(reader, "reader must not be null");
+    requireNonNull(elementType, "elementType must not be null");
+    return StreamSupport.stream(
+        new ReaderRangeSpliterator<>(reader, this, elementType, delimiter), false);
+  }
+
+  /**
+   * Returns a lazily populated stream of the ranges in newline-delimited, UTF-8 encoded notation
+   * read from an {@link InputStream}.
+   *
+   * @param in the stream to read the notation from, which is not closed by the returned stream
+   * @param elementType the class of the range elements
+   * @param <T> the type of the range elements (must be Comparable)
+   * @return a stream of the parsed ranges, in input order
+   * @see #parseLines(Reader, Class)
+   */
+  public <T extends Comparable<?>> Stream<Range<T>> parseLines(
+      InputStream in, Class<T> elementType) {
+    return parseLines(in, '\n', elementType);
+  }
+
+  /**
+   * Returns a lazily populated stream of the ranges in UTF-8 encoded notation read from an {@link
+   * InputStream}, separated by the given delimiter.
+   *
+   * @param in the stream to read the notation from, which is not closed by the returned stream
+   * @param delimiter the character that terminates each range notation
+   * @param elementType the class of the range elements
+   * @param <T> the type of the range elements (must be Comparable)
+   * @return a stream of the parsed ranges, in input order
+   * @see #parseLines(Reader, Class)
+   */
+  public <T extends Comparable<?>> Stream<Range<T>> parseLines(
+      InputStream in, char delimiter, Class<T> elementType) {
+    requireNonNull(in, "in must not be null");
+    return parseLines(new InputStreamReader(in, StandardCharsets.UTF_8), delimiter, elementType);
+  }
+
+  /**
+   * Returns a lazily populated stream of the ranges in a file of newline-delimited, UTF-8 encoded
+   * notation.
+   *
+   * <p>Lines are handled like {@link #parseLines(Reader, Class)}, but are parsed straight from the
+   * file's bytes via {@link #parseRange(byte[], int, int, Class)}. Unlike a reader, the stream can
+   * be split efficiently: each split covers a line-aligned byte range of the file that is read
+   * independently, so {@link Stream#parallel()} scales with the number of cores.
+   *
+   * <p>The returned stream holds the file open; use it in a try-with-resources statement so that
+   * closing the stream closes the file.
+   *
+   * @param path the file to read
+   * @param elementType the class of the range elements
+   * @param <T> the type of the range elements (must be Comparable)
+   * @return a stream of the parsed ranges, in file order
+   * @throws IOException if the file cannot be opened
+   */
+  public <T extends Comparable<?>> Stream<Range<T>> parseLines(Path path, Class<T> elementType)
+      throws IOException {
+    return parseLines(path, '\n', elementType);
+  }
+
+  /**
+   * Returns a lazily populated stream of the ranges in a file of UTF-8 encoded notation, separated
+   * by the given delimiter.
+   *
+   * @param path the file to read
+   * @param delimiter the ASCII character that terminates each range notation
+   * @param elementType the class of the range elements
+   * @param <T> the type of the range elements (must be Comparable)
+   * @return a stream of the parsed ranges, in file order
+   * @throws IllegalArgumentException if the delimiter is not an ASCII character
+   * @throws IOException if the file cannot be opened
+   * @see #parseLines(Path, Class)
+   */
+  public <T extends Comparable<?>> Stream<Range<T>> parseLines(
+      Path path, char delimiter, Class<T> elementType) throws IOException {
+    requireNonNull(path, "path must not be null");
     requireNonNull(elementType, "elementType must not be null");
+    if (delimiter > 0x7F) {
+      throw new IllegalArgumentException("delimiter must be an ASCII character: " + delimiter);
+    }
 
-    if (rangeString.length() > MAX_INPUT_LENGTH) {
-      throw new RangeParseException(
-          "Input exceeds maximum length of " + MAX_INPUT_LENGTH + " characters",
-          rangeString.substring(0, 50) + "...",
-          0);
+    FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+    try {
+      FileRangeSpliterator<T> spliterator =
+          new FileRangeSpliterator<>(
+              channel, this, elementType, (byte) delimiter, 0, channel.size());
+      return StreamSupport.stream(spliterator, false)
+          .onClose(
+              () -> {
+                try {
+                  channel.close();
+                } catch (IOException e) {
+                  throw new UncheckedIOException(e);
+                }
+              });
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
     }
   }
 
-  /** Normalizes input by trimming whitespace and applying lenient mode if enabled. */
-  private String normalizeInput(String rangeString) {
-    String trimmed = rangeString.trim();
-    if (trimmed.isEmpty()) {
-      throw new RangeParseException("Range string cannot be empty", rangeString, 0);
+  private <T extends Comparable<?>> void parseChunk(
+      CharSequence[] inputs,
+      int from,
+      int to,
+      Class<T> elementType,
+      RangeParseResult<T>[] results) {
+    for (int i = from; i < to; i++) {
+      CharSequence input = requireNonNull(inputs[i], "rangeStrings must not contain null");
+      // Strings go through the cache, if there is one
+      results[i] =
+          input instanceof String string
+              ? tryParse(string, elementType)
+              : tryParse(input, 0, input.length(), elementType);
     }
+  }
 
-    if (lenient && !trimmed.startsWith("[") && !trimmed.startsWith("(")) {
-      return "[" + trimmed + ")";
+  /**
+   * Parses an {@code int} range without boxing its endpoints.
+   *
+   * <p>Accepts the same notation as {@link #parseRange(String, Class)} and reports the same errors
+   * as parsing a {@code Range<Integer>} with the built-in adapter. Adapters registered for {@code
+   * Integer} are not consulted.
+   *
+   * @param rangeString the notation to parse (e.g., "[0..100)")
+   * @return the parsed bounds
+   * @throws RangeParseException if the notation cannot be parsed
+   */
+  public IntBounds parseIntBounds(CharSequence rangeString) {
+    requireNonNull(rangeString, "rangeString must not be null");
+    return parseIntBounds(rangeString, 0, rangeString.length());
+  }
+
+  /**
+   * Parses the {@code int} range held in {@code source[start, end)} without boxing its endpoints.
+   *
+   * @param source the character sequence holding the notation
+   * @param start the index of the first character of the notation (inclusive)
+   * @param end the index after the last character of the notation (exclusive)
+   * @return the parsed bounds
+   * @throws IndexOutOfBoundsException if {@code start} or {@code end} are out of bounds
+   * @throws RangeParseException if the notation cannot be parsed
+   * @see #parseIntBounds(CharSequence)
+   */
+  public IntBounds parseIntBounds(CharSequence source, int start, int end) {
+    validateInput(source, start, end, int.class);
+    long scan = scanOrThrow(source, start, end);
+    int lowerStart = start + RangeScanner.lowerStart(scan);
+    int lowerEnd = start + RangeScanner.lowerEnd(scan);
+    int upperStart = start + RangeScanner.upperStart(scan);
+    int upperEnd = start + RangeScanner.upperEnd(scan);
+    boolean hasLower = RangeScanner.hasLowerBound(scan);
+    boolean hasUpper = RangeScanner.hasUpperBound(scan);
+
+    int lower;
+    int upper;
+    try {
+      lower = hasLower ? BuiltInTypeAdapters.parseInt(source, lowerStart, lowerEnd) : 0;
+      upper = hasUpper ? BuiltInTypeAdapters.parseInt(source, upperStart, upperEnd) : 0;
+    } catch (NumberFormatException e) {
+      throw parseException(
+          RangeParseError.INVALID_VALUE,
+          "Failed to parse range value: " + e.getMessage(),
+          input(source, start, end),
+          e);
     }
+    int comparison = Integer.compare(lower, upper);
+    if (hasLower && hasUpper && isInvalidOrder(comparison, scan)) {
+      throw invalidOrder(comparison, scan, source, start, end, lower + ".." + upper);
+    }
+    return new IntBounds(
+        hasLower,
+        lower,
+        RangeScanner.lowerBoundType(scan),
+        hasUpper,
+        upper,
+        RangeScanner.upperBoundType(scan));
+  }
 
-    return trimmed;
+  /**
+   * Parses a {@code long} range without boxing its endpoints.
+   *
+   * <p>Accepts the same notation as {@link #parseRange(String, Class)} and reports the same errors
+   * as parsing a {@code Range<Long>} with the built-in adapter. Adapters registered for {@code
+   * Long} are not consulted.
+   *
+   * @param rangeString the notation to parse (e.g., "[0..100)")
+   * @return the parsed bounds
+   * @throws RangeParseException if the notation cannot be parsed
+   */
+  public LongBounds parseLongBounds(CharSequence rangeString) {
+    requireNonNull(rangeString, "rangeString must not be null");
+    return parseLongBounds(rangeString, 0, rangeString.length());
   }
 
   /**
-   * Extracts and validates range parts from the normalized input string.
+   * Parses the {@code long} range held in {@code source[start, end)} without boxing its endpoints.
    *
-   * @param normalized the normalized input string
-   * @param original the original input string (for error messages)
-   * @return parsed range parts
+   * @param source the character sequence holding the notation
+   * @param start the index of the first character of the notation (inclusive)
+   * @param end the index after the last character of the notation (exclusive)
+   * @return the parsed bounds
+   * @throws IndexOutOfBoundsException if {@code start} or {@code end} are out of bounds
+   * @throws RangeParseException if the notation cannot be parsed
+   * @see #parseLongBounds(CharSequence)
    */
-  private RangeParts extractRangeParts(String normalized, String original) {
-    validateFormat(normalized, original);
+  public LongBounds parseLongBounds(CharSequence source, int start, int end) {
+    validateInput(source, start, end, long.class);
+    long scan = scanOrThrow(source, start, end);
+    int lowerStart = start + RangeScanner.lowerStart(scan);
+    int lowerEnd = start + RangeScanner.lowerEnd(scan);
+    int upperStart = start + RangeScanner.upperStart(scan);
+    int upperEnd = start + RangeScanner.upperEnd(scan);
+    boolean hasLower = RangeScanner.hasLowerBound(scan);
+    boolean hasUpper = RangeScanner.hasUpperBound(scan);
+
+    long lower;
+    long upper;
+    try {
+      lower = hasLower ? BuiltInTypeAdapters.parseLong(source, lowerStart, lowerEnd) : 0;
+      upper = hasUpper ? BuiltInTypeAdapters.parseLong(source, upperStart, upperEnd) : 0;
+    } catch (NumberFormatException e) {
+      throw parseException(
+          RangeParseError.INVALID_VALUE,
+          "Failed to parse range value: " + e.getMessage(),
+          input(source, start, end),
+          e);
+    }
+    int comparison = Long.compare(lower, upper);
+    if (hasLower && hasUpper && isInvalidOrder(comparison, scan)) {
+      throw invalidOrder(comparison, scan, source, start, end, lower + ".." + upper);
+    }
+    return new LongBounds(
+        hasLower,
+        lower,
+        RangeScanner.lowerBoundType(scan),
+        hasUpper,
+        upper,
+        RangeScanner.upperBoundType(scan));
+  }
 
-    char openingBracket = normalized.charAt(0);
-    char closingBracket = normalized.charAt(normalized.length() - 1);
+  /**
+   * Parses a {@code double} range without boxing its endpoints.
+   *
+   * <p>Accepts the same notation as {@link #parseRange(String, Class)} and reports the same errors
+   * as parsing a {@code Range<Double>} with the built-in adapter. Adapters registered for {@code
+   * Double} are not consulted. Endpoints are ordered like {@link Double#compare}, so {@code -0.0}
+   * is below {@code 0.0} and {@code NaN} is above every other value.
+   *
+   * @param rangeString the notation to parse (e.g., "[0.0..1.0)")
+   * @return the parsed bounds
+   * @throws RangeParseException if the notation cannot be parsed
+   */
+  public DoubleBounds parseDoubleBounds(CharSequence rangeString) {
+    requireNonNull(rangeString, "rangeString must not be null");
+    return parseDoubleBounds(rangeString, 0, rangeString.length());
+  }
 
-    String content = normalized.substring(1, normalized.length() - 1);
-    int separatorIndex = content.indexOf(SEPARATOR);
-    if (separatorIndex == -1) {
-      throw new RangeParseException(INVALID_FORMAT_MESSAGE, original, 0);
+  /**
+   * Parses the {@code double} range held in {@code source[start, end)} without boxing its
+   * endpoints.
+   *
+   * @param source the character sequence holding the notation
+   * @param start the index of the first character of the notation (inclusive)
+   * @param end the index after the last character of the notation (exclusive)
+   * @return the parsed bounds
+   * @throws IndexOutOfBoundsException if {@code start} or {@code end} are out of bounds
+   * @throws RangeParseException if the notation cannot be parsed
+   * @see #parseDoubleBounds(CharSequence)
+   */
+  public DoubleBounds parseDoubleBounds(CharSequence source, int start, int end) {
+    validateInput(source, start, end, double.class);
+    long scan = scanOrThrow(source, start, end);
+    int lowerStart = start + RangeScanner.lowerStart(scan);
+    int lowerEnd = start + RangeScanner.lowerEnd(scan);
+    int upperStart = start + RangeScanner.upperStart(scan);
+    int upperEnd = start + RangeScanner.upperEnd(scan);
+    boolean hasLower = RangeScanner.hasLowerBound(scan);
+    boolean hasUpper = RangeScanner.hasUpperBound(scan);
+
+    double lower;
+    double upper;
+    try {
+      lower = hasLower ? BuiltInTypeAdapters.parseDouble(source, lowerStart, lowerEnd) : 0;
+      upper = hasUpper ? BuiltInTypeAdapters.parseDouble(source, upperStart, upperEnd) : 0;
+    } catch (NumberFormatException e) {
+      throw parseException(
+          RangeParseError.INVALID_VALUE,
+          "Failed to parse range value: " + e.getMessage(),
+          input(source, start, end),
+          e);
+    }
+    int comparison = Double.compare(lower, upper);
+    if (hasLower && hasUpper && isInvalidOrder(comparison, scan)) {
+      throw invalidOrder(comparison, scan, source, start, end, lower + ".." + upper);
+    }
+    return new DoubleBounds(
+        hasLower,
+        lower,
+        RangeScanner.lowerBoundType(scan),
+        hasUpper,
+        upper,
+        RangeScanner.upperBoundType(scan));
+  }
+
+  /** Validates that input parameters are not null and input region is within size limits. */
+  private void validateInput(CharSequence source, int start, int end, Class<?> elementType) {
+    requireNonNull(source, "rangeString must not be null");
+    requireNonNull(elementType, "elementType must not be null");
+    Objects.checkFromToIndex(start, end, source.length());
+
+    if (end - start > maxInputLength) {
+      throw inputTooLong(source, start, end);
+    }
+  }
+
+  /** Creates the exception for input above the length limit, quoting only its beginning. */
+  private RangeParseException inputTooLong(CharSequence source, int start, int end) {
+    return parseException(
+        RangeParseError.INPUT_TOO_LONG,
+        "Input exceeds maximum length of " + maxInputLength + " characters",
+        source.subSequence(start, Math.min(start + PREVIEW_LENGTH, end)) + "...",
+        null);
+  }
+
+  /**
+   * Scans {@code source[from, to)} and builds the range.
+   *
+   * <p>The scanner locates brackets, the separator and the endpoint boundaries as offsets into the
+   * input, so no intermediate strings are created. The input is only converted to a {@code String}
+   * when an error message needs it.
+   */
+  private <T extends Comparable<?>> Range<T> scanAndBuild(
+      CharSequence source, int from, int to, Class<T> elementType) {
+    long scan = scanOrThrow(source, from, to);
+    RegionTypeAdapter<T> adapter = getTypeAdapter(elementType, source, from, to);
+
+    try {
+      return buildRange(source, from, to, scan, adapter);
+    } catch (Exception e) {
+      throw invalidValue(e, input(source, from, to));
     }
+  }
 
-    String lowerPart = content.substring(0, separatorIndex).trim();
-    String upperPart = content.substring(separatorIndex + SEPARATOR.length()).trim();
+  /**
+   * Byte-level counterpart of {@link #scanAndBuild(CharSequence, int, int, Class)} for UTF-8 input.
+   *
+   * <p>Returns {@code null} if the notation is invalid, so that the caller reports the exact error
+   * through the {@code String} path, or if an endpoint contains non-ASCII bytes, because those
+   * cannot be viewed as chars without decoding. Endpoints that fail to parse are reported from
+   * here, so adapters run once per endpoint; the input is only decoded for the message.
+   */
+  private <T extends Comparable<?>> Range<T> buildUtf8(
+      byte[] utf8, int from, int to, Class<T> elementType) {
+    long scan = RangeScanner.scan(utf8, from, to, lenient);
+    if (RangeScanner.isError(scan)
+        || !isAscii(utf8, from + RangeScanner.lowerStart(scan), from + RangeScanner.lowerEnd(scan))
+        || !isAscii(
+            utf8, from + RangeScanner.upperStart(scan), from + RangeScanner.upperEnd(scan))) {
+      return null;
+    }
+    RegionTypeAdapter<T> adapter = adapters.adapterFor(elementType);
+    if (adapter == null) {
+      throw parseException(
+          RangeParseError.NO_TYPE_ADAPTER,
+          "No type adapter registered for: " + elementType.getName(),
+          new String(utf8, from, to - from, StandardCharsets.UTF_8),
+          null);
+    }
 
-    if (lowerPart.isEmpty() || upperPart.isEmpty()) {
-      throw new RangeParseException(INVALID_FORMAT_MESSAGE, original, 0);
+    try {
+      return buildRange(new AsciiCharSequence(utf8, from, to - from), 0, to - from, scan, adapter);
+    } catch (Exception e) {
+      throw invalidValue(e, new String(utf8, from, to - from, StandardCharsets.UTF_8));
     }
+  }
 
-    BoundType lowerBoundType = openingBracket == '[' ? BoundType.CLOSED : BoundType.OPEN;
-    BoundType upperBoundType = closingBracket == ']' ? BoundType.CLOSED : BoundType.OPEN;
+  /** Non-throwing counterpart of {@link #scanAndBuild(CharSequence, int, int, Class)}. */
+  @SuppressWarnings("unchecked")
+  private <T extends Comparable<?>> RangeParseResult<T> tryScanAndBuild(
+      CharSequence source, int from, int to, Class<T> elementType) {
+    long scan = RangeScanner.scan(source, from, to, lenient);
+    if (RangeScanner.isError(scan)) {
+      return RangeParseResult.failure(RangeScanner.error(scan), RangeScanner.errorPosition(scan));
+    }
+    RegionTypeAdapter<T> adapter = adapters.adapterFor(elementType);
+    if (adapter == null) {
+      return RangeParseResult.failure(RangeParseError.NO_TYPE_ADAPTER, 0);
+    }
 
-    boolean lowerUnbounded = NEGATIVE_INFINITY.contains(lowerPart);
-    boolean upperUnbounded = POSITIVE_INFINITY.contains(upperPart);
+    boolean hasLower = RangeScanner.hasLowerBound(scan);
+    boolean hasUpper = RangeScanner.hasUpperBound(scan);
+    BoundType lowerBoundType = RangeScanner.lowerBoundType(scan);
+    BoundType upperBoundType = RangeScanner.upperBoundType(scan);
+    T lower = null;
+    T upper = null;
+    if (hasLower) {
+      lower =
+          adapter.tryParse(
+              source, from + RangeScanner.lowerStart(scan), from + RangeScanner.lowerEnd(scan));
+      if (lower == null) {
+        return RangeParseResult.failure(
+            RangeParseError.INVALID_VALUE, RangeScanner.lowerStart(scan));
+      }
+    }
+    if (hasUpper) {
+      upper =
+          adapter.tryParse(
+              source, from + RangeScanner.upperStart(scan), from + RangeScanner.upperEnd(scan));
+      if (upper == null) {
+        return RangeParseResult.failure(
+            RangeParseError.INVALID_VALUE, RangeScanner.upperStart(scan));
+      }
+    }
 
-    return new RangeParts(
-        lowerPart, upperPart, lowerBoundType, upperBoundType, lowerUnbounded, upperUnbounded);
+    if (!hasLower) {
+      return RangeParseResult.success(
+          hasUpper ? Range.upTo(upper, upperBoundType) : Range.<T>all());
+    }
+    if (!hasUpper) {
+      return RangeParseResult.success(Range.downTo(lower, lowerBoundType));
+    }
+    int comparison = ((Comparable<Object>) lower).compareTo(upper);
+    if (comparison > 0) {
+      return RangeParseResult.failure(
+          RangeParseError.LOWER_GREATER_THAN_UPPER, RangeScanner.lowerStart(scan));
+    }
+    if (comparison == 0 && lowerBoundType == BoundType.OPEN && upperBoundType == BoundType.OPEN) {
+      return RangeParseResult.failure(
+          RangeParseError.EMPTY_OPEN_RANGE, RangeScanner.lowerStart(scan));
+    }
+    return RangeParseResult.success(Range.range(lower, lowerBoundType, upper, upperBoundType));
   }
 
-  /** Validates the basic format of the range string (brackets and length). */
-  private void validateFormat(String normalized, String original) {
-    if (normalized.length() < 6) { // Minimum: "[a..b]"
-      throw new RangeParseException(INVALID_FORMAT_MESSAGE, original, 0);
+  private static boolean isAscii(byte[] utf8, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (utf8[i] < 0) {
+        return false;
+      }
     }
+    return true;
+  }
 
-    char openingBracket = normalized.charAt(0);
-    char closingBracket = normalized.charAt(normalized.length() - 1);
+  private static boolean isAscii(ByteBuffer utf8, int from, int to) {
+    for (int i = from; i < to; i++) {
+      if (utf8.get(i) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
 
-    if ((openingBracket != '[' && openingBracket != '(')
-        || (closingBracket != ']' && closingBracket != ')')) {
-      throw new RangeParseException(INVALID_FORMAT_MESSAGE, original, 0);
+  private long scanOrThrow(CharSequence source, int from, int to) {
+    long scan = RangeScanner.scan(source, from, to, lenient);
+    if (RangeScanner.isError(scan)) {
+      throw scanError(scan, source, from, to);
     }
+    return scan;
+  }
+
+  /**
+   * Returns whether two primitive endpoints are rejected by {@link Range}: when the lower endpoint
+   * is greater than the upper one, or when both are equal and both bounds are open.
+   */
+  private static boolean isInvalidOrder(int comparison, long scan) {
+    return comparison > 0
+        || (comparison == 0
+            && RangeScanner.lowerBoundType(scan) == BoundType.OPEN
+            && RangeScanner.upperBoundType(scan) == BoundType.OPEN);
   }
 
-  /** Validates that infinity bounds are open (mathematical convention). */
-  private void validateInfinityBounds(RangeParts parts, String rangeString) {
-    if (parts.lowerUnbounded() && parts.lowerBoundType() == BoundType.CLOSED) {
-      throw new RangeParseException(
-          "Invalid range: negative infinity bound must be open '(' not closed '['", rangeString, 0);
+  /**
+   * Creates the exception for endpoints rejected by {@link #isInvalidOrder}, matching the error
+   * reported when building the boxed range.
+   *
+   * @param endpoints the endpoint values as Guava prints them, e.g. {@code "5..5"}
+   */
+  private RangeParseException invalidOrder(
+      int comparison, long scan, CharSequence source, int from, int to, String endpoints) {
+    if (comparison > 0) {
+      return lowerGreaterThanUpper(
+          source,
+          from + RangeScanner.lowerStart(scan),
+          from + RangeScanner.lowerEnd(scan),
+          from + RangeScanner.upperStart(scan),
+          from + RangeScanner.upperEnd(scan));
     }
-    if (parts.upperUnbounded() && parts.upperBoundType() == BoundType.CLOSED) {
-      throw new RangeParseException(
-          "Invalid range: positive infinity bound must be open ')' not closed ']'", rangeString, 0);
+    // Range.open(x, x) rejects the empty open range
+    IllegalArgumentException cause =
+        new IllegalArgumentException("Invalid range: (" + endpoints + ")");
+    return parseException(
+        RangeParseError.EMPTY_OPEN_RANGE,
+        "Failed to parse range value: " + cause.getMessage(),
+        input(source, from, to),
+        cause);
+  }
+
+  /** Converts a failed scan into the exception reported for it. */
+  private RangeParseException scanError(long scan, CharSequence source, int from, int to) {
+    RangeParseError reason = RangeScanner.error(scan);
+    String message =
+        switch (reason) {
+          case EMPTY_INPUT -> "Range string cannot be empty";
+          case CLOSED_NEGATIVE_INFINITY ->
+              "Invalid range: negative infinity bound must be open '(' not closed '['";
+          case CLOSED_POSITIVE_INFINITY ->
+              "Invalid range: positive infinity bound must be open ')' not closed ']'";
+          default -> INVALID_FORMAT_MESSAGE;
+        };
+    return parseException(reason, message, input(source, from, to), null);
+  }
+
+  /**
+   * Converts a failure to build the range into the exception reported for it; failures already
+   * reported as a {@link RangeParseException} are passed through.
+   */
+  private RangeParseException invalidValue(Exception e, String input) {
+    if (e instanceof RangeParseException) {
+      return (RangeParseException) e;
     }
+    return parseException(
+        RangeParseError.INVALID_VALUE, "Failed to parse range value: " + e.getMessage(), input, e);
+  }
+
+  /** Creates a parse exception, without a stack trace if lightweight exceptions are enabled. */
+  private RangeParseException parseException(
+      RangeParseError reason, String message, String input, Throwable cause) {
+    return new RangeParseException(reason, message, input, 0, cause, !lightweightExceptions);
+  }
+
+  /** Returns the input region as a {@code String} for error reporting. */
+  private static String input(CharSequence source, int from, int to) {
+    return source.subSequence(from, to).toString();
   }
 
   /** Gets the type adapter for the given element type. */
-  @SuppressWarnings("unchecked")
-  private <T extends Comparable<?>> TypeAdapter<T> getTypeAdapter(
-      Class<T> elementType, String rangeString) {
-    TypeAdapter<T> adapter = (TypeAdapter<T>) typeAdapters.get(elementType);
+  private <T extends Comparable<?>> RegionTypeAdapter<T> getTypeAdapter(
+      Class<T> elementType, CharSequence source, int from, int to) {
+    RegionTypeAdapter<T> adapter = adapters.adapterFor(elementType);
     if (adapter == null) {
-      throw new RangeParseException(
-          "No type adapter registered for: " + elementType.getName(), rangeString, 0);
+      throw parseException(
+          RangeParseError.NO_TYPE_ADAPTER,
+          "No type adapter registered for: " + elementType.getName(),
+          input(source, from, to),
+          null);
     }
     return adapter;
   }
 
-  @SuppressWarnings("unchecked")
+  /**
+   * Builds the range from a successful scan.
+   *
+   * @param offset the index in {@code source} that the scan offsets are relative to
+   * @param end the index after the last character of the notation
+   */
   private <T extends Comparable<?>> Range<T> buildRange(
-      String lowerPart,
-      String upperPart,
-      BoundType lowerBoundType,
-      BoundType upperBoundType,
-      boolean lowerUnbounded,
-      boolean upperUnbounded,
-      TypeAdapter<T> adapter) {
-
-    if (lowerUnbounded && upperUnbounded) {
+      CharSequence source, int offset, int end, long scan, RegionTypeAdapter<T> adapter) {
+    int lowerStart = offset + RangeScanner.lowerStart(scan);
+    int lowerEnd = offset + RangeScanner.lowerEnd(scan);
+    int upperStart = offset + RangeScanner.upperStart(scan);
+    int upperEnd = offset + RangeScanner.upperEnd(scan);
+    BoundType lowerBoundType = RangeScanner.lowerBoundType(scan);
+    BoundType upperBoundType = RangeScanner.upperBoundType(scan);
+
+    if (!RangeScanner.hasLowerBound(scan) && !RangeScanner.hasUpperBound(scan)) {
       return Range.all();
     }
 
-    if (lowerUnbounded) {
-      T upper = parseAndValidate(adapter, upperPart, "upper");
+    if (!RangeScanner.hasLowerBound(scan)) {
+      T upper = parseAndValidate(adapter, source, upperStart, upperEnd, "upper");
       return upperBoundType == BoundType.CLOSED ? Range.atMost(upper) : Range.lessThan(upper);
     }
 
-    if (upperUnbounded) {
-      T lower = parseAndValidate(adapter, lowerPart, "lower");
+    if (!RangeScanner.hasUpperBound(scan)) {
+      T lower = parseAndValidate(adapter, source, lowerStart, lowerEnd, "lower");
       return lowerBoundType == BoundType.CLOSED ? Range.atLeast(lower) : Range.greaterThan(lower);
     }
 
-    T lower = parseAndValidate(adapter, lowerPart, "lower");
-    T upper = parseAndValidate(adapter, upperPart, "upper");
+    T lower = parseAndValidate(adapter, source, lowerStart, lowerEnd, "lower");
+    T upper = parseAndValidate(adapter, source, upperStart, upperEnd, "upper");
 
-    // Validate lower <= upper (compare using Comparable)
+    // Validate lower <= upper (compare using Comparable), and reject the empty open range up front
+    // so that it is reported with its own reason
     @SuppressWarnings("unchecked")
     Comparable<Object> comparableLower = (Comparable<Object>) lower;
-    if (comparableLower.compareTo(upper) > 0) {
-      throw new RangeParseException(
-          "Invalid range: lower bound ("
-              + lowerPart
-              + ") is greater than upper bound ("
-              + upperPart
-              + ")",
-          lowerPart + ".." + upperPart,
-          0);
+    int comparison = comparableLower.compareTo(upper);
+    if (isInvalidOrder(comparison, scan)) {
+      throw invalidOrder(comparison, scan, source, offset, end, lower + ".." + upper);
     }
 
     return switch (lowerBoundType) {
@@ -304,12 +1141,32 @@ public final class RangeParser {
     };
   }
 
+  private RangeParseException lowerGreaterThanUpper(
+      CharSequence source, int lowerStart, int lowerEnd, int upperStart, int upperEnd) {
+    String lowerPart = input(source, lowerStart, lowerEnd);
+    String upperPart = input(source, upperStart, upperEnd);
+    return parseException(
+        RangeParseError.LOWER_GREATER_THAN_UPPER,
+        "Invalid range: lower bound ("
+            + lowerPart
+            + ") is greater than upper bound ("
+            + upperPart
+            + ")",
+        lowerPart + ".." + upperPart,
+        null);
+  }
+
   /** Parses a value using the adapter and validates the result is not null. */
-  private <T> T parseAndValidate(TypeAdapter<T> adapter, String value, String boundName) {
-    T result = adapter.parse(value);
+  private <T> T parseAndValidate(
+      RegionTypeAdapter<T> adapter, CharSequence source, int start, int end, String boundName) {
+    T result = adapter.parse(source, start, end);
     if (result == null) {
-      throw new RangeParseException(
-          "TypeAdapter returned null for " + boundName + " bound value: " + value, value, 0);
+      String value = input(source, start, end);
+      throw parseException(
+          RangeParseError.INVALID_VALUE,
+          "TypeAdapter returned null for " + boundName + " bound value: " + value,
+          value,
+          null);
     }
     return result;
   }
@@ -318,7 +1175,8 @@ public final class RangeParser {
    * Builder for creating configured {@link RangeParser} instances.
    *
    * <p>The builder can be reused to create multiple parser instances. Each call to {@link #build()}
-   * creates an independent parser with its own copy of the type adapters.
+   * creates an independent parser with its own copy of the custom type adapters; the built-in
+   * adapters are shared by all parsers.
    *
    * <p>Custom type adapters registered via {@link #registerType} take precedence over built-in
    * adapters, allowing you to override the default parsing behavior for any type.
@@ -330,18 +1188,29 @@ public final class RangeParser {
   public static final class Builder {
     private final Map<Class<?>, TypeAdapter<?>> typeAdapters = new HashMap<>();
     private boolean lenient = false;
+    private boolean lightweightExceptions = false;
+    private int maxInputLength = DEFAULT_MAX_INPUT_LENGTH;
+    private int maxDigits = BuiltInTypeAdapters.DEFAULT_MAX_DIGITS;
+    private int maxScale = BuiltInTypeAdapters.DEFAULT_MAX_SCALE;
+    private int cacheMaxEntries = 0;
+    private int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
 
     private Builder() {}
 
     /**
      * Registers a custom type adapter for parsing range elements.
      *
+     * <p>The adapter also applies to subclasses and implementations of the type that have no
+     * adapter of their own, as long as the values it returns are instances of the requested type.
+     * Enums need no adapter, they are parsed by constant name.
+     *
      * @param type the class of elements to parse
      * @param adapter the adapter to use for parsing
      * @param <T> the element type
      * @return this builder
      */
-    public <T extends Comparable<T>> Builder registerType(Class<T> type, TypeAdapter<T> adapter) {
+    public <T extends Comparable<? super T>> Builder registerType(
+        Class<T> type, TypeAdapter<T> adapter) {
       requireNonNull(type, "type must not be null");
       requireNonNull(adapter, "adapter must not be null");
       typeAdapters.put(type, adapter);
@@ -366,6 +1235,140 @@ public final class RangeParser {
       return this;
     }
 
+    /**
+     * Enables lightweight exceptions.
+     *
+     * <p>When enabled, the {@link RangeParseException}s thrown by the parser do not capture a stack
+     * trace. Use this for bulk validation, where failures are expected and are caught and counted
+     * rather than logged; the {@linkplain RangeParseException#getReason() reason}, input and
+     * message are still available. Exceptions thrown by type adapters are reported as the cause and
+     * keep their own stack trace.
+     *
+     * <p>Default: false
+     *
+     * @param lightweightExceptions true to throw exceptions without a stack trace
+     * @return this builder
+     */
+    public Builder lightweightExceptions(boolean lightweightExceptions) {
+      this.lightweightExceptions = lightweightExceptions;
+      return this;
+    }
+
+    /**
+     * Sets the maximum length of the notation, in chars.
+     *
+     * <p>Longer input is rejected with {@link RangeParseError#INPUT_TOO_LONG} before it is scanned.
+     * UTF-8 input is measured in decoded chars as well; input of more than three bytes per allowed
+     * char, or ASCII input above the limit, is rejected without decoding it.
+     *
+     * <p>Default: 1000, at most 32767
+     *
+     * @param maxInputLength the maximum length of the notation
+     * @return this builder
+     * @throws IllegalArgumentException if {@code maxInputLength} is not positive or exceeds 32767
+     */
+    public Builder maxInputLength(int maxInputLength) {
+      if (maxInputLength < 1) {
+        throw new IllegalArgumentException("maxInputLength must be positive: " + maxInputLength);
+      }
+      // The scanner encodes endpoint offsets in 15 bits
+      if (maxInputLength > RangeScanner.MAX_REGION_LENGTH) {
+        throw new IllegalArgumentException(
+            "maxInputLength must not exceed "
+                + RangeScanner.MAX_REGION_LENGTH
+                + ": "
+                + maxInputLength);
+      }
+      this.maxInputLength = maxInputLength;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of digits of {@link BigInteger} and {@link BigDecimal} endpoints.
+     *
+     * <p>Converting digits to a big number takes time quadratic in their number, so endpoints with
+     * more digits are rejected with {@link RangeParseError#INVALID_VALUE} by a scan that runs
+     * before the conversion. Leading zeros count as digits.
+     *
+     * <p>Default: 1000
+     *
+     * @param maxDigits the maximum number of digits
+     * @return this builder
+     * @throws IllegalArgumentException if {@code maxDigits} is not positive
+     */
+    public Builder maxDigits(int maxDigits) {
+      if (maxDigits < 1) {
+        throw new IllegalArgumentException("maxDigits must be positive: " + maxDigits);
+      }
+      this.maxDigits = maxDigits;
+      return this;
+    }
+
+    /**
+     * Sets the maximum absolute {@linkplain BigDecimal#scale() scale} of {@link BigDecimal}
+     * endpoints.
+     *
+     * <p>Short notation such as {@code 1e999999999} has a huge scale, and comparing it with an
+     * endpoint of ordinary scale multiplies by a huge power of ten. Endpoints whose scale, the
+     * number of fraction digits minus the exponent, lies outside {@code [-maxScale, maxScale]} are
+     * therefore rejected with {@link RangeParseError#INVALID_VALUE} by a scan that runs before the
+     * conversion.
+     *
+     * <p>Default: 10000
+     *
+     * @param maxScale the maximum absolute scale
+     * @return this builder
+     * @throws IllegalArgumentException if {@code maxScale} is negative
+     */
+    public Builder maxScale(int maxScale) {
+      if (maxScale < 0) {
+        throw new IllegalArgumentException("maxScale must not be negative: " + maxScale);
+      }
+      this.maxScale = maxScale;
+      return this;
+    }
+
+    /**
+     * Enables a bounded cache of parse results.
+     *
+     * <p>{@link RangeParser#parseRange(String, Class)} then remembers up to {@code maxEntries}
+     * successfully parsed ranges, keyed on the input string and element type, and evicts the least
+     * recently used ones first. The cache is split into independently locked segments, so
+     * concurrent lookups do not contend on a single lock. Failures are not cached. Use {@link
+     * RangeParser#cacheStats()} to monitor its effectiveness.
+     *
+     * @param maxEntries the maximum number of cached ranges, or 0 to disable caching
+     * @return this builder
+     * @throws IllegalArgumentException if {@code maxEntries} is negative
+     */
+    public Builder cache(int maxEntries) {
+      if (maxEntries < 0) {
+        throw new IllegalArgumentException("maxEntries must not be negative: " + maxEntries);
+      }
+      this.cacheMaxEntries = maxEntries;
+      return this;
+    }
+
+    /**
+     * Sets the batch size from which {@link RangeParser#parseAll(List, Class)} parses in parallel.
+     *
+     * <p>Smaller batches are parsed on the calling thread, where handing chunks to other threads
+     * would cost more than it saves.
+     *
+     * <p>Default: 4096
+     *
+     * @param threshold the smallest batch size that is parsed in parallel
+     * @return this builder
+     * @throws IllegalArgumentException if {@code threshold} is not positive
+     */
+    public Builder parallelThreshold(int threshold) {
+      if (threshold < 1) {
+        throw new IllegalArgumentException("threshold must be positive: " + threshold);
+      }
+      this.parallelThreshold = threshold;
+      return this;
+    }
+
     /**
      * Builds the configured RangeParser.
      *
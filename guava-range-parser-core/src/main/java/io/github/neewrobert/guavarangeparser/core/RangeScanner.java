@@ -0,0 +1,378 @@
+package io.github.neewrobert.guavarangeparser.core;
+
+import com.google.common.collect.BoundType;
+
+/**
+ * Single-pass scanner for range notation.
+ *
+ * <p>The scanner locates brackets, the separator and the trimmed endpoint boundaries of a region
+ * and classifies infinity tokens, without creating any object. The outcome is packed into a single
+ * {@code long}:
+ *
+ * <ul>
+ *   <li>a non-negative value holds the four endpoint offsets (relative to the start of the scanned
+ *       region, 15 bits each) and one bit per bound type. An infinite endpoint is encoded as an
+ *       empty region, which is otherwise rejected as invalid notation.
+ *   <li>a negative value holds a {@link RangeParseError} and the relative offset where the error
+ *       was found.
+ * </ul>
+ *
+ * <p>Regions longer than {@link #MAX_REGION_LENGTH} cannot be encoded; callers enforce the input
+ * length limit before scanning.
+ */
+final class RangeScanner {
+
+  /** The longest region whose offsets fit into a scan result. */
+  static final int MAX_REGION_LENGTH = (1 << 15) - 1;
+
+  private static final RangeParseError[] ERRORS = RangeParseError.values();
+
+  /** Minimum length of a bracketed range string: {@code "[a..b]"}. */
+  private static final int MIN_LENGTH = 6;
+
+  private static final int OFFSET_BITS = 15;
+  private static final long OFFSET_MASK = (1L << OFFSET_BITS) - 1;
+  private static final int LOWER_CLOSED_BIT = 4 * OFFSET_BITS;
+  private static final int UPPER_CLOSED_BIT = LOWER_CLOSED_BIT + 1;
+
+  private RangeScanner() {}
+
+  /**
+   * Scans the notation held in {@code source[from, to)}.
+   *
+   * @param lenient whether bracket-less notation is accepted (treated as {@code [...)})
+   * @return the packed scan result
+   */
+  static long scan(CharSequence source, int from, int to, boolean lenient) {
+    int start = skipWhitespace(source, from, to);
+    int end = trimTrailingWhitespace(source, start, to);
+    if (start == end) {
+      return error(RangeParseError.EMPTY_INPUT, 0);
+    }
+
+    char openingBracket = source.charAt(start);
+    char closingBracket;
+    int contentStart;
+    int contentEnd;
+    if (lenient && openingBracket != '[' && openingBracket != '(') {
+      // Bracket-less notation is treated as if it were wrapped in "[...)"
+      if (end - start + 2 < MIN_LENGTH) {
+        return error(RangeParseError.INVALID_FORMAT, start - from);
+      }
+      openingBracket = '[';
+      closingBracket = ')';
+      contentStart = start;
+      contentEnd = end;
+    } else {
+      if (end - start < MIN_LENGTH) {
+        return error(RangeParseError.INVALID_FORMAT, start - from);
+      }
+      closingBracket = source.charAt(end - 1);
+      if (openingBracket != '[' && openingBracket != '(') {
+        return error(RangeParseError.INVALID_FORMAT, start - from);
+      }
+      if (closingBracket != ']' && closingBracket != ')') {
+        return error(RangeParseError.INVALID_FORMAT, end - 1 - from);
+      }
+      contentStart = start + 1;
+      contentEnd = end - 1;
+    }
+
+    int separatorIndex = indexOfSeparator(source, contentStart, contentEnd);
+    if (separatorIndex == -1) {
+      return error(RangeParseError.INVALID_FORMAT, contentStart - from);
+    }
+
+    int lowerStart = skipWhitespace(source, contentStart, separatorIndex);
+    int lowerEnd = trimTrailingWhitespace(source, lowerStart, separatorIndex);
+    int upperStart = skipWhitespace(source, separatorIndex + 2, contentEnd);
+    int upperEnd = trimTrailingWhitespace(source, upperStart, contentEnd);
+    if (lowerStart == lowerEnd || upperStart == upperEnd) {
+      return error(RangeParseError.INVALID_FORMAT, separatorIndex - from);
+    }
+
+    boolean lowerClosed = openingBracket == '[';
+    boolean upperClosed = closingBracket == ']';
+    if (isNegativeInfinity(source, lowerStart, lowerEnd)) {
+      if (lowerClosed) {
+        return error(RangeParseError.CLOSED_NEGATIVE_INFINITY, start - from);
+      }
+      lowerEnd = lowerStart;
+    }
+    if (isPositiveInfinity(source, upperStart, upperEnd)) {
+      if (upperClosed) {
+        return error(RangeParseError.CLOSED_POSITIVE_INFINITY, end - 1 - from);
+      }
+      upperStart = upperEnd;
+    }
+    return pack(
+        lowerStart - from,
+        lowerEnd - from,
+        upperStart - from,
+        upperEnd - from,
+        lowerClosed,
+        upperClosed);
+  }
+
+  /**
+   * Scans the UTF-8 encoded notation held in {@code utf8[from, to)}.
+   *
+   * <p>Offsets in the result are byte offsets. Multi-byte characters can only be part of an
+   * endpoint (or be the {@code ∞} symbol), since all structural characters are ASCII.
+   *
+   * @param lenient whether bracket-less notation is accepted (treated as {@code [...)})
+   * @return the packed scan result
+   */
+  static long scan(byte[] utf8, int from, int to, boolean lenient) {
+    int start = skipWhitespace(utf8, from, to);
+    int end = trimTrailingWhitespace(utf8, start, to);
+    if (start == end) {
+      return error(RangeParseError.EMPTY_INPUT, 0);
+    }
+
+    byte openingBracket = utf8[start];
+    byte closingBracket;
+    int contentStart;
+    int contentEnd;
+    if (lenient && openingBracket != '[' && openingBracket != '(') {
+      if (end - start + 2 < MIN_LENGTH) {
+        return error(RangeParseError.INVALID_FORMAT, start - from);
+      }
+      openingBracket = '[';
+      closingBracket = ')';
+      contentStart = start;
+      contentEnd = end;
+    } else {
+      if (end - start < MIN_LENGTH) {
+        return error(RangeParseError.INVALID_FORMAT, start - from);
+      }
+      closingBracket = utf8[end - 1];
+      if (openingBracket != '[' && openingBracket != '(') {
+        return error(RangeParseError.INVALID_FORMAT, start - from);
+      }
+      if (closingBracket != ']' && closingBracket != ')') {
+        return error(RangeParseError.INVALID_FORMAT, end - 1 - from);
+      }
+      contentStart = start + 1;
+      contentEnd = end - 1;
+    }
+
+    int separatorIndex = indexOfSeparator(utf8, contentStart, contentEnd);
+    if (separatorIndex == -1) {
+      return error(RangeParseError.INVALID_FORMAT, contentStart - from);
+    }
+
+    int lowerStart = skipWhitespace(utf8, contentStart, separatorIndex);
+    int lowerEnd = trimTrailingWhitespace(utf8, lowerStart, separatorIndex);
+    int upperStart = skipWhitespace(utf8, separatorIndex + 2, contentEnd);
+    int upperEnd = trimTrailingWhitespace(utf8, upperStart, contentEnd);
+    if (lowerStart == lowerEnd || upperStart == upperEnd) {
+      return error(RangeParseError.INVALID_FORMAT, separatorIndex - from);
+    }
+
+    boolean lowerClosed = openingBracket == '[';
+    boolean upperClosed = closingBracket == ']';
+    if (isNegativeInfinity(utf8, lowerStart, lowerEnd)) {
+      if (lowerClosed) {
+        return error(RangeParseError.CLOSED_NEGATIVE_INFINITY, start - from);
+      }
+      lowerEnd = lowerStart;
+    }
+    if (isPositiveInfinity(utf8, upperStart, upperEnd)) {
+      if (upperClosed) {
+        return error(RangeParseError.CLOSED_POSITIVE_INFINITY, end - 1 - from);
+      }
+      upperStart = upperEnd;
+    }
+    return pack(
+        lowerStart - from,
+        lowerEnd - from,
+        upperStart - from,
+        upperEnd - from,
+        lowerClosed,
+        upperClosed);
+  }
+
+  static boolean isError(long scan) {
+    return scan < 0;
+  }
+
+  static RangeParseError error(long scan) {
+    return ERRORS[(int) (~scan & 0xFF)];
+  }
+
+  static int errorPosition(long scan) {
+    return (int) (~scan >>> 8);
+  }
+
+  static int lowerStart(long scan) {
+    return (int) (scan & OFFSET_MASK);
+  }
+
+  static int lowerEnd(long scan) {
+    return (int) ((scan >>> OFFSET_BITS) & OFFSET_MASK);
+  }
+
+  static int upperStart(long scan) {
+    return (int) ((scan >>> (2 * OFFSET_BITS)) & OFFSET_MASK);
+  }
+
+  static int upperEnd(long scan) {
+    return (int) ((scan >>> (3 * OFFSET_BITS)) & OFFSET_MASK);
+  }
+
+  static boolean hasLowerBound(long scan) {
+    return lowerStart(scan) != lowerEnd(scan);
+  }
+
+  static boolean hasUpperBound(long scan) {
+    return upperStart(scan) != upperEnd(scan);
+  }
+
+  static BoundType lowerBoundType(long scan) {
+    return (scan & (1L << LOWER_CLOSED_BIT)) != 0 ? BoundType.CLOSED : BoundType.OPEN;
+  }
+
+  static BoundType upperBoundType(long scan) {
+    return (scan & (1L << UPPER_CLOSED_BIT)) != 0 ? BoundType.CLOSED : BoundType.OPEN;
+  }
+
+  private static long pack(
+      int lowerStart,
+      int lowerEnd,
+      int upperStart,
+      int upperEnd,
+      boolean lowerClosed,
+      boolean upperClosed) {
+    return lowerStart
+        | ((long) lowerEnd << OFFSET_BITS)
+        | ((long) upperStart << (2 * OFFSET_BITS))
+        | ((long) upperEnd << (3 * OFFSET_BITS))
+        | (lowerClosed ? 1L << LOWER_CLOSED_BIT : 0)
+        | (upperClosed ? 1L << UPPER_CLOSED_BIT : 0);
+  }
+
+  private static long error(RangeParseError error, int position) {
+    return ~(((long) position << 8) | error.ordinal());
+  }
+
+  /** Returns the first index in {@code [from, to)} that is not whitespace, or {@code to}. */
+  private static int skipWhitespace(CharSequence s, int from, int to) {
+    int i = from;
+    while (i < to && s.charAt(i) <= ' ') {
+      i++;
+    }
+    return i;
+  }
+
+  /** Returns the end of {@code [from, to)} after dropping trailing whitespace. */
+  private static int trimTrailingWhitespace(CharSequence s, int from, int to) {
+    int i = to;
+    while (i > from && s.charAt(i - 1) <= ' ') {
+      i--;
+    }
+    return i;
+  }
+
+  /** Returns the index of the first {@code ".."} in {@code [from, to)}, or -1 if absent. */
+  private static int indexOfSeparator(CharSequence s, int from, int to) {
+    for (int i = from; i < to - 1; i++) {
+      if (s.charAt(i) == '.' && s.charAt(i + 1) == '.') {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns whether {@code [from, to)} is a positive infinity token: an optional {@code +} followed
+   * by {@code ∞}, {@code inf}, {@code INF} or {@code Infinity}.
+   */
+  private static boolean isPositiveInfinity(CharSequence s, int from, int to) {
+    int i = from < to && s.charAt(from) == '+' ? from + 1 : from;
+    return isInfinityWord(s, i, to);
+  }
+
+  /**
+   * Returns whether {@code [from, to)} is a negative infinity token: {@code -} followed by {@code
+   * ∞}, {@code inf}, {@code INF} or {@code Infinity}.
+   */
+  private static boolean isNegativeInfinity(CharSequence s, int from, int to) {
+    return from < to && s.charAt(from) == '-' && isInfinityWord(s, from + 1, to);
+  }
+
+  private static boolean isInfinityWord(CharSequence s, int from, int to) {
+    return switch (to - from) {
+      case 1 -> s.charAt(from) == '∞';
+      case 3 -> regionEquals(s, from, "inf") || regionEquals(s, from, "INF");
+      case 8 -> regionEquals(s, from, "Infinity");
+      default -> false;
+    };
+  }
+
+  private static boolean regionEquals(CharSequence s, int from, String token) {
+    for (int i = 0; i < token.length(); i++) {
+      if (s.charAt(from + i) != token.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static int skipWhitespace(byte[] utf8, int from, int to) {
+    int i = from;
+    while (i < to && (utf8[i] & 0xFF) <= ' ') {
+      i++;
+    }
+    return i;
+  }
+
+  private static int trimTrailingWhitespace(byte[] utf8, int from, int to) {
+    int i = to;
+    while (i > from && (utf8[i - 1] & 0xFF) <= ' ') {
+      i--;
+    }
+    return i;
+  }
+
+  private static int indexOfSeparator(byte[] utf8, int from, int to) {
+    for (int i = from; i < to - 1; i++) {
+      if (utf8[i] == '.' && utf8[i + 1] == '.') {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static boolean isPositiveInfinity(byte[] utf8, int from, int to) {
+    int i = from < to && utf8[from] == '+' ? from + 1 : from;
+    return isInfinityWord(utf8, i, to);
+  }
+
+  private static boolean isNegativeInfinity(byte[] utf8, int from, int to) {
+    return from < to && utf8[from] == '-' && isInfinityWord(utf8, from + 1, to);
+  }
+
+  /** Matches {@code inf}, {@code INF}, {@code Infinity} and {@code ∞} (E2 88 9E in UTF-8). */
+  private static boolean isInfinityWord(byte[] utf8, int from, int to) {
+    return switch (to - from) {
+      case 3 ->
+          (utf8[from] == (byte) 0xE2
+                  && utf8[from + 1] == (byte) 0x88
+                  && utf8[from + 2] == (byte) 0x9E)
+              || regionEquals(utf8, from, "inf")
+              || regionEquals(utf8, from, "INF");
+      case 8 -> regionEquals(utf8, from, "Infinity");
+      default -> false;
+    };
+  }
+
+  private static boolean regionEquals(byte[] utf8, int from, String token) {
+    for (int i = 0; i < token.length(); i++) {
+      if (utf8[from + i] != token.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,108 @@
+package io.github.neewrobert.guavarangeparser.core;
+
+import com.google.common.collect.Range;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over delimited range notation read from a {@link Reader}.
+ *
+ * <p>Characters are read into a single reusable buffer, and each line is parsed in place through a
+ * {@link CharBuffer} view of it, so no {@code String} is created per line. The buffer only grows
+ * when a single line does not fit into it.
+ *
+ * <p>A reader cannot be split, so splitting falls back to the batching of {@link
+ * Spliterators.AbstractSpliterator}, which hands out arrays of parsed ranges.
+ */
+final class ReaderRangeSpliterator<T extends Comparable<?>>
+    extends Spliterators.AbstractSpliterator<Range<T>> {
+
+  private static final int BUFFER_SIZE = 8192;
+
+  private final Reader reader;
+  private final RangeParser parser;
+  private final Class<T> elementType;
+  private final char delimiter;
+
+  private char[] buffer = new char[BUFFER_SIZE];
+  private CharBuffer view = CharBuffer.wrap(buffer);
+  private int lineStart;
+  private int scanFrom;
+  private int limit;
+  private boolean eof;
+
+  ReaderRangeSpliterator(Reader reader, RangeParser parser, Class<T> elementType, char delimiter) {
+    super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+    this.reader = reader;
+    this.parser = parser;
+    this.elementType = elementType;
+    this.delimiter = delimiter;
+  }
+
+  @Override
+  public boolean tryAdvance(Consumer<? super Range<T>> action) {
+    while (true) {
+      for (int i = scanFrom; i < limit; i++) {
+        if (buffer[i] == delimiter) {
+          int start = lineStart;
+          lineStart = i + 1;
+          scanFrom = lineStart;
+          if (accept(start, i, action)) {
+            return true;
+          }
+        }
+      }
+      scanFrom = limit;
+
+      if (eof) {
+        // The last line need not be terminated by a delimiter
+        int start = lineStart;
+        lineStart = limit;
+        return start < limit && accept(start, limit, action);
+      }
+      fill();
+    }
+  }
+
+  /** Parses {@code buffer[start, end)} unless it is empty, and returns whether it did. */
+  private boolean accept(int start, int end, Consumer<? super Range<T>> action) {
+    if (delimiter == '\n' && end > start && buffer[end - 1] == '\r') {
+      end--;
+    }
+    if (start == end) {
+      return false;
+    }
+    action.accept(parser.parseRange(view, start, end, elementType));
+    return true;
+  }
+
+  /** Moves the unparsed line to the front of the buffer and reads more characters after it. */
+  private void fill() {
+    if (lineStart > 0) {
+      System.arraycopy(buffer, lineStart, buffer, 0, limit - lineStart);
+      limit -= lineStart;
+      scanFrom -= lineStart;
+      lineStart = 0;
+    }
+    if (limit == buffer.length) {
+      buffer = Arrays.copyOf(buffer, buffer.length * 2);
+      view = CharBuffer.wrap(buffer);
+    }
+    try {
+      int read = reader.read(buffer, limit, buffer.length - limit);
+      if (read < 0) {
+        eof = true;
+      } else {
+        limit += read;
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,92 @@
+package io.github.neewrobert.guavarangeparser.core;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Adapter interface for parsing a region of a character sequence into a Comparable type.
+ *
+ * <p>This is the zero-copy companion of {@link TypeAdapter}. {@link RangeParser} hands endpoints to
+ * a region adapter as offsets into the original input, so adapters that can parse directly from a
+ * {@link CharSequence} (e.g. via {@link Integer#parseInt(CharSequence, int, int, int)}) never need
+ * a substring.
+ *
+ * <p>Example implementation:
+ *
+ * <pre>{@code
+ * RegionTypeAdapter<Long> cents = (s, start, end) -> Long.parseLong(s, start, end, 10) * 100;
+ * }</pre>
+ *
+ * <p>Plain {@link TypeAdapter} implementations keep working: the parser bridges them with {@link
+ * #of(TypeAdapter)}, which materializes the endpoint as a {@code String} first.
+ *
+ * @param <T> the type to parse
+ * @see TypeAdapter
+ * @see RangeParser
+ */
+@FunctionalInterface
+public interface RegionTypeAdapter<T> extends TypeAdapter<T> {
+
+  /**
+   * Parses the characters {@code source[start, end)} into the target type.
+   *
+   * @param source the character sequence holding the value
+   * @param start the index of the first character of the value (inclusive)
+   * @param end the index after the last character of the value (exclusive)
+   * @return the parsed value
+   * @throws IllegalArgumentException if the value cannot be parsed
+   * @throws NumberFormatException if the value is expected to be numeric but isn't
+   */
+  T parse(CharSequence source, int start, int end);
+
+  /**
+   * Parses the characters {@code source[start, end)}, returning {@code null} instead of throwing if
+   * they cannot be parsed.
+   *
+   * <p>This is the non-throwing contract used by {@link RangeParser#tryParse(String, Class)}. The
+   * default implementation calls {@link #parse(CharSequence, int, int)} and catches its exception.
+   * Adapters that can recognize invalid input cheaply should override it, so that rejecting invalid
+   * input does not cost an exception and its stack trace.
+   *
+   * @param source the character sequence holding the value
+   * @param start the index of the first character of the value (inclusive)
+   * @param end the index after the last character of the value (exclusive)
+   * @return the parsed value, or {@code null} if the value cannot be parsed
+   */
+  default T tryParse(CharSequence source, int start, int end) {
+    try {
+      return parse(source, start, end);
+    } catch (RuntimeException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Parses a string value into the target type by delegating to {@link #parse(CharSequence, int,
+   * int)}.
+   *
+   * @param value the string value to parse
+   * @return the parsed value
+   */
+  @Override
+  default T parse(String value) {
+    return parse(value, 0, value.length());
+  }
+
+  /**
+   * Returns a region adapter for the given adapter.
+   *
+   * <p>If the adapter already is a {@code RegionTypeAdapter} it is returned as-is. Otherwise the
+   * returned bridge converts each region to a {@code String} before delegating.
+   *
+   * @param adapter the adapter to bridge
+   * @param <T> the type to parse
+   * @return a region adapter with the same parsing behavior
+   */
+  static <T> RegionTypeAdapter<T> of(TypeAdapter<T> adapter) {
+    requireNonNull(adapter, "adapter must not be null");
+    if (adapter instanceof RegionTypeAdapter<T> regionAdapter) {
+      return regionAdapter;
+    }
+    return (source, start, end) -> adapter.parse(source.subSequence(start, end).toString());
+  }
+}
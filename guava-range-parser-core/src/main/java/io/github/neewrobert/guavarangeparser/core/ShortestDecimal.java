@@ -0,0 +1,342 @@
+package io.github.neewrobert.guavarangeparser.core;
+
+import java.math.BigInteger;
+
+/**
+ * Writes the shortest decimal representation of a {@code double} or {@code float} that parses back
+ * to the same value.
+ *
+ * <p>This is Raffaello Giulietti's Schubfach algorithm, which is also the algorithm behind {@link
+ * Double#toString(double)} and {@link Float#toString(float)} since JDK 19. Among the shortest
+ * decimals that round to the value it picks the closest one, and the even one on a tie. The digits
+ * are laid out like {@code Double.toString}: plain notation for magnitudes in {@code [10^-3,
+ * 10^7)}, computerized scientific notation otherwise, and always with at least one digit after the
+ * decimal point. Older JDKs sometimes emit more digits than needed, e.g. JDK 17 prints {@code 2e23}
+ * as {@code 1.9999999999999998E23}, whereas this class writes {@code 2.0E23}.
+ *
+ * <p>Digits are appended to the {@link StringBuilder} one by one; no {@code String} or array is
+ * created.
+ *
+ * @see <a href="https://github.com/c4f7fcce9cb06515/Schubfach">The Schubfach way to render
+ *     doubles</a>
+ */
+final class ShortestDecimal {
+
+  private ShortestDecimal() {}
+
+  private static final int DOUBLE_PRECISION = 53;
+  private static final int DOUBLE_Q_MIN = -1074;
+  private static final long DOUBLE_C_MIN = 1L << (DOUBLE_PRECISION - 1);
+  private static final long DOUBLE_C_TINY = 3;
+  private static final int DOUBLE_BQ_MASK = 0x7FF;
+  private static final long DOUBLE_T_MASK = DOUBLE_C_MIN - 1;
+
+  private static final int FLOAT_PRECISION = 24;
+  private static final int FLOAT_Q_MIN = -149;
+  private static final int FLOAT_C_MIN = 1 << (FLOAT_PRECISION - 1);
+  private static final int FLOAT_C_TINY = 8;
+  private static final int FLOAT_BQ_MASK = 0xFF;
+  private static final int FLOAT_T_MASK = FLOAT_C_MIN - 1;
+
+  private static final long MASK_63 = 0x7FFF_FFFF_FFFF_FFFFL;
+  private static final long MASK_32 = 0xFFFF_FFFFL;
+
+  /** Range of the decimal exponents {@code k} for which {@link #G} holds approximations. */
+  private static final int K_MIN = -324;
+
+  private static final int K_MAX = 292;
+
+  /**
+   * For each {@code k}, the 126-bit {@code g = floor(10^-k * 2^-r) + 1} where {@code r} is chosen
+   * so that {@code 2^125 <= 10^-k * 2^-r < 2^126}, split into its upper and lower 63 bits.
+   */
+  private static final long[] G = powersOfTen();
+
+  private static final long[] POWERS_OF_TEN = new long[19];
+
+  static {
+    long power = 1;
+    for (int i = 0; i < POWERS_OF_TEN.length; i++) {
+      POWERS_OF_TEN[i] = power;
+      power *= 10;
+    }
+  }
+
+  private static long[] powersOfTen() {
+    long[] g = new long[2 * (K_MAX - K_MIN + 1)];
+    for (int k = K_MIN; k <= K_MAX; k++) {
+      int r = floorLog2PowerOfTen(-k) - 125;
+      BigInteger numerator = BigInteger.TEN.pow(Math.max(-k, 0)).shiftLeft(Math.max(-r, 0));
+      BigInteger denominator = BigInteger.TEN.pow(Math.max(k, 0)).shiftLeft(Math.max(r, 0));
+      BigInteger value = numerator.divide(denominator).add(BigInteger.ONE);
+      g[2 * (k - K_MIN)] = value.shiftRight(63).longValue();
+      g[2 * (k - K_MIN) + 1] = value.longValue() & MASK_63;
+    }
+    return g;
+  }
+
+  /**
+   * Appends the shortest decimal that parses back to {@code value}.
+   *
+   * @param value the value to write
+   * @param out the builder to append to
+   */
+  static void appendDouble(double value, StringBuilder out) {
+    long bits = Double.doubleToRawLongBits(value);
+    long t = bits & DOUBLE_T_MASK;
+    int bq = (int) (bits >>> (DOUBLE_PRECISION - 1)) & DOUBLE_BQ_MASK;
+    if (bq == DOUBLE_BQ_MASK) {
+      out.append(t != 0 ? "NaN" : bits > 0 ? "Infinity" : "-Infinity");
+      return;
+    }
+    if (bits < 0) {
+      out.append('-');
+    }
+    if (bq != 0) {
+      // Normal value: c * 2^q with 2^52 <= c < 2^53
+      int mq = -DOUBLE_Q_MIN + 1 - bq;
+      long c = DOUBLE_C_MIN | t;
+      if (0 < mq && mq < DOUBLE_PRECISION) {
+        long f = c >> mq;
+        if (f << mq == c) {
+          // Integers below 2^53 are their own shortest decimal
+          appendDecimal(f, 0, out);
+          return;
+        }
+      }
+      toDecimal(-mq, c, 0, out);
+    } else if (t != 0) {
+      // Subnormal value; the smallest ones need one more digit of precision
+      if (t < DOUBLE_C_TINY) {
+        toDecimal(DOUBLE_Q_MIN, 10 * t, -1, out);
+      } else {
+        toDecimal(DOUBLE_Q_MIN, t, 0, out);
+      }
+    } else {
+      out.append("0.0");
+    }
+  }
+
+  /**
+   * Appends the shortest decimal that parses back to {@code value} as a {@code float}.
+   *
+   * @param value the value to write
+   * @param out the builder to append to
+   */
+  static void appendFloat(float value, StringBuilder out) {
+    int bits = Float.floatToRawIntBits(value);
+    int t = bits & FLOAT_T_MASK;
+    int bq = (bits >>> (FLOAT_PRECISION - 1)) & FLOAT_BQ_MASK;
+    if (bq == FLOAT_BQ_MASK) {
+      out.append(t != 0 ? "NaN" : bits > 0 ? "Infinity" : "-Infinity");
+      return;
+    }
+    if (bits < 0) {
+      out.append('-');
+    }
+    if (bq != 0) {
+      int mq = -FLOAT_Q_MIN + 1 - bq;
+      int c = FLOAT_C_MIN | t;
+      if (0 < mq && mq < FLOAT_PRECISION) {
+        int f = c >> mq;
+        if (f << mq == c) {
+          appendDecimal(f, 0, out);
+          return;
+        }
+      }
+      toDecimal(-mq, c, 0, out);
+    } else if (t != 0) {
+      if (t < FLOAT_C_TINY) {
+        toDecimal(FLOAT_Q_MIN, 10 * t, -1, out);
+      } else {
+        toDecimal(FLOAT_Q_MIN, t, 0, out);
+      }
+    } else {
+      out.append("0.0");
+    }
+  }
+
+  /** Appends the shortest decimal in the rounding interval of {@code c * 2^q}. */
+  private static void toDecimal(int q, long c, int dk, StringBuilder out) {
+    int out1 = (int) c & 0x1;
+    long cb = c << 2;
+    long cbr = cb + 2;
+    long cbl;
+    int k;
+    // The interval is asymmetric when c is a power of two, except for the smallest exponent
+    if (c != DOUBLE_C_MIN || q == DOUBLE_Q_MIN) {
+      cbl = cb - 2;
+      k = floorLog10PowerOfTwo(q);
+    } else {
+      cbl = cb - 1;
+      k = floorLog10ThreeQuartersPowerOfTwo(q);
+    }
+    int h = q + floorLog2PowerOfTen(-k) + 2;
+
+    long g1 = G[2 * (k - K_MIN)];
+    long g0 = G[2 * (k - K_MIN) + 1];
+    long vb = roundToOdd(g1, g0, cb << h);
+    long vbl = roundToOdd(g1, g0, cbl << h);
+    long vbr = roundToOdd(g1, g0, cbr << h);
+
+    long s = vb >> 2;
+    if (s >= 100) {
+      // Try one digit less first: s rounded down to a multiple of ten, or the next one up
+      long sp10 = 10 * Math.multiplyHigh(s, 115_292_150_460_684_698L << 4);
+      long tp10 = sp10 + 10;
+      boolean upin = vbl + out1 <= sp10 << 2;
+      boolean wpin = (tp10 << 2) + out1 <= vbr;
+      if (upin != wpin) {
+        appendDecimal(upin ? sp10 : tp10, k, out);
+        return;
+      }
+    }
+    long t = s + 1;
+    boolean uin = vbl + out1 <= s << 2;
+    boolean win = (t << 2) + out1 <= vbr;
+    if (uin != win) {
+      appendDecimal(uin ? s : t, k + dk, out);
+      return;
+    }
+    // Both s and t are in the interval, pick the closer one, or the even one on a tie
+    long cmp = vb - ((s + t) << 1);
+    appendDecimal(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk, out);
+  }
+
+  /** Float variant of {@link #toDecimal(int, long, int, StringBuilder)}. */
+  private static void toDecimal(int q, int c, int dk, StringBuilder out) {
+    int out1 = c & 0x1;
+    long cb = (long) c << 2;
+    long cbr = cb + 2;
+    long cbl;
+    int k;
+    if (c != FLOAT_C_MIN || q == FLOAT_Q_MIN) {
+      cbl = cb - 2;
+      k = floorLog10PowerOfTwo(q);
+    } else {
+      cbl = cb - 1;
+      k = floorLog10ThreeQuartersPowerOfTwo(q);
+    }
+    int h = q + floorLog2PowerOfTen(-k) + 33;
+
+    long g = G[2 * (k - K_MIN)] + 1;
+    int vb = roundToOdd(g, cb << h);
+    int vbl = roundToOdd(g, cbl << h);
+    int vbr = roundToOdd(g, cbr << h);
+
+    int s = vb >> 2;
+    if (s >= 100) {
+      int sp10 = 10 * (int) (s * 1_717_986_919L >>> 34);
+      int tp10 = sp10 + 10;
+      boolean upin = vbl + out1 <= sp10 << 2;
+      boolean wpin = (tp10 << 2) + out1 <= vbr;
+      if (upin != wpin) {
+        appendDecimal(upin ? sp10 : tp10, k, out);
+        return;
+      }
+    }
+    int t = s + 1;
+    boolean uin = vbl + out1 <= s << 2;
+    boolean win = (t << 2) + out1 <= vbr;
+    if (uin != win) {
+      appendDecimal(uin ? s : t, k + dk, out);
+      return;
+    }
+    int cmp = vb - ((s + t) << 1);
+    appendDecimal(cmp < 0 || cmp == 0 && (s & 0x1) == 0 ? s : t, k + dk, out);
+  }
+
+  /** Returns {@code g * cp / 2^127}, rounded to odd, where {@code g = g1 * 2^63 + g0}. */
+  private static long roundToOdd(long g1, long g0, long cp) {
+    long x1 = Math.multiplyHigh(g0, cp);
+    long y0 = g1 * cp;
+    long y1 = Math.multiplyHigh(g1, cp);
+    long z = (y0 >>> 1) + x1;
+    long vbp = y1 + (z >>> 63);
+    return vbp | ((z & MASK_63) + MASK_63) >>> 63;
+  }
+
+  /** Returns {@code g * cp / 2^95}, rounded to odd. */
+  private static int roundToOdd(long g, long cp) {
+    long x1 = Math.multiplyHigh(g, cp);
+    long vbp = x1 >>> 31;
+    return (int) (vbp | ((x1 & MASK_32) + MASK_32) >>> 32);
+  }
+
+  /**
+   * Appends {@code f * 10^e} in the layout of {@link Double#toString(double)}.
+   *
+   * @param f the significand, a positive integer of at most 17 digits
+   * @param e the decimal exponent
+   */
+  private static void appendDecimal(long f, int e, StringBuilder out) {
+    while (f % 10 == 0) {
+      f /= 10;
+      e++;
+    }
+    int length = 1;
+    while (length < POWERS_OF_TEN.length && f >= POWERS_OF_TEN[length]) {
+      length++;
+    }
+    // The exponent of the value in scientific notation, d.ddd * 10^exponent
+    int exponent = e + length - 1;
+
+    if (exponent >= 0 && exponent < 7) {
+      int integerDigits = exponent + 1;
+      if (length <= integerDigits) {
+        appendDigits(f, length, out);
+        for (int i = length; i < integerDigits; i++) {
+          out.append('0');
+        }
+        out.append(".0");
+      } else {
+        long scale = POWERS_OF_TEN[length - integerDigits];
+        appendDigits(f / scale, integerDigits, out);
+        out.append('.');
+        appendDigits(f % scale, length - integerDigits, out);
+      }
+    } else if (exponent < 0 && exponent >= -3) {
+      out.append("0.");
+      for (int i = -1; i > exponent; i--) {
+        out.append('0');
+      }
+      appendDigits(f, length, out);
+    } else {
+      long scale = POWERS_OF_TEN[length - 1];
+      appendDigits(f / scale, 1, out);
+      out.append('.');
+      if (length == 1) {
+        out.append('0');
+      } else {
+        appendDigits(f % scale, length - 1, out);
+      }
+      out.append('E').append(exponent);
+    }
+  }
+
+  /** Appends the {@code count} least significant digits of {@code value}, zero-padded. */
+  private static void appendDigits(long value, int count, StringBuilder out) {
+    // Write from the last digit backwards, so that each step divides by a constant
+    int start = out.length();
+    out.setLength(start + count);
+    for (int i = start + count - 1; i >= start; i--) {
+      out.setCharAt(i, (char) ('0' + value % 10));
+      value /= 10;
+    }
+  }
+
+  /** Returns {@code floor(log10(2^e))} for {@code |e| <= 5_456_721}. */
+  private static int floorLog10PowerOfTwo(int e) {
+    return (int) (e * 661_971_961_083L >> 41);
+  }
+
+  /** Returns {@code floor(log10(3/4 * 2^e))} for {@code |e| <= 3_074_037}. */
+  private static int floorLog10ThreeQuartersPowerOfTwo(int e) {
+    return (int) (e * 661_971_961_083L + -274_743_187_321L >> 41);
+  }
+
+  /** Returns {@code floor(log2(10^e))} for {@code |e| <= 1_233_686}. */
+  private static int floorLog2PowerOfTen(int e) {
+    return (int) (e * 913_124_641_741L >> 38);
+  }
+}
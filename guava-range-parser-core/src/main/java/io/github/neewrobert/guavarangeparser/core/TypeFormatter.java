@@ -0,0 +1,32 @@
+package io.github.neewrobert.guavarangeparser.core;
+
+/**
+ * Formatter interface for writing Comparable values as range endpoints.
+ *
+ * <p>Implementations of this interface are used by {@link RangeFormatter} to write the endpoints of
+ * a range straight into its output buffer. This is the formatting counterpart of {@link
+ * TypeAdapter}: whatever a formatter writes must be accepted by the adapter for the same type, so
+ * that formatted ranges can be parsed back.
+ *
+ * <p>Example implementation for a custom Money type that writes its amount in cents without
+ * creating a {@code String}:
+ *
+ * <pre>{@code
+ * TypeFormatter<Money> moneyFormatter = (money, out) -> out.append(money.cents());
+ * }</pre>
+ *
+ * @param <T> the type to format
+ * @see RangeFormatter
+ * @see BuiltInTypeFormatters
+ */
+@FunctionalInterface
+public interface TypeFormatter<T> {
+
+  /**
+   * Appends the notation of a value to the output.
+   *
+   * @param value the value to format, never {@code null}
+   * @param out the builder to append to
+   */
+  void format(T value, StringBuilder out);
+}
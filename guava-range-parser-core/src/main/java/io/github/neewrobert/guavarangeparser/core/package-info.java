@@ -13,6 +13,8 @@
  *       parsing
  *   <li>{@link io.github.neewrobert.guavarangeparser.core.BuiltInTypeAdapters} - Pre-configured
  *       adapters
+ *   <li>{@link io.github.neewrobert.guavarangeparser.core.TypeFormatter} - Interface for custom
+ *       type formatting
  * </ul>
  *
  * <h2>Quick Start</h2>
@@ -0,0 +1,157 @@
+package io.github.neewrobert.guavarangeparser.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.google.common.collect.Range;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class RangeFileLoaderTest {
+
+  @TempDir Path tempDir;
+
+  @Nested
+  class Loading {
+
+    @Test
+    void loadsAllLines() throws IOException {
+      Path file = tempDir.resolve("ranges.txt");
+      Files.writeString(file, "[0..1]\r\n\n(-∞..5)\n[2..+∞)");
+      Queue<Range<Integer>> ranges = new ConcurrentLinkedQueue<>();
+
+      RangeFileLoader.Statistics stats =
+          RangeFileLoader.builder().build().load(file, Integer.class, ranges::add);
+
+      assertThat(ranges).containsExactly(Range.closed(0, 1), Range.lessThan(5), Range.atLeast(2));
+      assertThat(stats.lines()).isEqualTo(3);
+      assertThat(stats.bytes()).isEqualTo(Files.size(file));
+    }
+
+    @Test
+    void loadsAsciiAndNonAsciiLines() throws IOException {
+      Path file = tempDir.resolve("strings.txt");
+      Files.writeString(file, "[a..b]\n[é..ü]\n(-∞..z)\n[c..d)\n");
+      Queue<Range<String>> ranges = new ConcurrentLinkedQueue<>();
+
+      RangeFileLoader.builder().build().load(file, String.class, ranges::add);
+
+      assertThat(ranges)
+          .containsExactly(
+              Range.closed("a", "b"),
+              Range.closed("é", "ü"),
+              Range.lessThan("z"),
+              Range.closedOpen("c", "d"));
+    }
+
+    @Test
+    void loadsManyChunksInParallel() throws IOException {
+      Path file = tempDir.resolve("large.txt");
+      List<String> lines = new ArrayList<>();
+      List<Range<Long>> expected = new ArrayList<>();
+      for (long i = 0; i < 50_000; i++) {
+        lines.add("[" + i + ".." + (i * 2) + "]");
+        expected.add(Range.closed(i, i * 2));
+      }
+      Files.write(file, lines);
+      Queue<Range<Long>> ranges = new ConcurrentLinkedQueue<>();
+
+      RangeFileLoader.Statistics stats =
+          RangeFileLoader.builder().chunkSize(4096).build().load(file, Long.class, ranges::add);
+
+      assertThat(ranges).containsExactlyInAnyOrderElementsOf(expected);
+      assertThat(stats.lines()).isEqualTo(50_000);
+    }
+
+    @Test
+    void usesParserAndDelimiter() throws IOException {
+      Path file = tempDir.resolve("lenient.txt");
+      Files.writeString(file, "1..5;[7..9]");
+      Queue<Range<Integer>> ranges = new ConcurrentLinkedQueue<>();
+
+      RangeFileLoader.builder()
+          .parser(RangeParser.builder().lenient(true).build())
+          .delimiter(';')
+          .executor(Runnable::run)
+          .build()
+          .load(file, Integer.class, ranges::add);
+
+      assertThat(ranges).containsExactly(Range.closedOpen(1, 5), Range.closed(7, 9));
+    }
+
+    @Test
+    void loadsEmptyFile() throws IOException {
+      Path file = Files.createFile(tempDir.resolve("empty.txt"));
+
+      RangeFileLoader.Statistics stats =
+          RangeFileLoader.builder().build().load(file, Integer.class, range -> {});
+
+      assertThat(stats.lines()).isZero();
+    }
+
+    @Test
+    void throwsForInvalidLine() throws IOException {
+      Path file = tempDir.resolve("invalid.txt");
+      Files.writeString(file, "[0..1]\n[x..1]\n");
+      RangeFileLoader loader = RangeFileLoader.builder().build();
+
+      assertThatThrownBy(() -> loader.load(file, Integer.class, range -> {}))
+          .isInstanceOf(RangeParseException.class)
+          .hasMessageContaining("Input: \"[x..1]\"");
+    }
+
+    @Test
+    void throwsForMissingFile() {
+      RangeFileLoader loader = RangeFileLoader.builder().build();
+
+      assertThatThrownBy(() -> loader.load(tempDir.resolve("missing"), Integer.class, r -> {}))
+          .isInstanceOf(NoSuchFileException.class);
+    }
+  }
+
+  @Nested
+  class Statistics {
+
+    @Test
+    void computesThroughput() {
+      RangeFileLoader.Statistics stats =
+          new RangeFileLoader.Statistics(2_000, 100, Duration.ofMillis(500));
+
+      assertThat(stats.bytesPerSecond()).isEqualTo(4_000.0);
+      assertThat(stats.linesPerSecond()).isEqualTo(200.0);
+    }
+  }
+
+  @Nested
+  class BuilderValidation {
+
+    @Test
+    void rejectsNonAsciiDelimiter() {
+      assertThatThrownBy(() -> RangeFileLoader.builder().delimiter('∞'))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsNonPositiveChunkSize() {
+      assertThatThrownBy(() -> RangeFileLoader.builder().chunkSize(0))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsNullParser() {
+      assertThatThrownBy(() -> RangeFileLoader.builder().parser(null))
+          .isInstanceOf(NullPointerException.class)
+          .hasMessageContaining("parser must not be null");
+    }
+  }
+}
@@ -4,7 +4,25 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.google.common.collect.Range;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -169,6 +187,446 @@ class RangeFormatterTest {
     }
   }
 
+  @Nested
+  class AppendableOutput {
+
+    private final RangeFormatter formatter = RangeFormatter.builder().build();
+
+    @Test
+    void formatToStringBuilderAppends() {
+      StringBuilder sb = new StringBuilder("range=");
+
+      StringBuilder result = formatter.formatTo(Range.closedOpen(0, 100), sb);
+
+      assertThat(result).isSameAs(sb);
+      assertThat(sb.toString()).isEqualTo("range=[0..100)");
+    }
+
+    @Test
+    void formatToWriter() throws IOException {
+      StringWriter writer = new StringWriter();
+
+      formatter.formatTo(Range.atMost(5), writer);
+
+      assertThat(writer).hasToString("(-∞..5]");
+    }
+
+    @Test
+    void formatToWriterRepeatedly() throws IOException {
+      StringWriter writer = new StringWriter();
+      String longEndpoint = "x".repeat(10_000);
+
+      formatter.formatTo(Range.closed(1, 2), writer);
+      formatter.formatTo(Range.atLeast(longEndpoint), writer);
+      formatter.formatTo(Range.lessThan(3), writer);
+
+      assertThat(writer).hasToString("[1..2][" + longEndpoint + "..+∞)(-∞..3)");
+    }
+
+    @Test
+    void formatToWriterDiscardsOutputOfFailedFormat() throws IOException {
+      RangeFormatter failing =
+          RangeFormatter.builder()
+              .registerType(
+                  BigDecimal.class,
+                  (value, out) -> {
+                    out.append("partial");
+                    throw new IllegalStateException("boom");
+                  })
+              .build();
+      StringWriter writer = new StringWriter();
+
+      assertThatThrownBy(() -> failing.formatTo(Range.atLeast(BigDecimal.ONE), writer))
+          .isInstanceOf(IllegalStateException.class);
+      failing.formatTo(Range.closed(1, 2), writer);
+
+      assertThat(writer).hasToString("[1..2]");
+    }
+
+    @Test
+    void formatToOtherAppendable() throws IOException {
+      CharBuffer buffer = CharBuffer.allocate(16);
+
+      formatter.formatTo(Range.greaterThan(1), buffer);
+
+      assertThat(buffer.flip().toString()).isEqualTo("(1..+∞)");
+    }
+
+    @Test
+    void formatAllToStringBuilder() {
+      StringBuilder sb =
+          formatter.formatAll(
+              List.of(Range.closed(1, 2), Range.<Integer>all()), new StringBuilder(), ", ");
+
+      assertThat(sb.toString()).isEqualTo("[1..2], (-∞..+∞)");
+    }
+
+    @Test
+    void formatAllToWriterInBlocks() throws IOException {
+      List<Range<Integer>> ranges = new ArrayList<>();
+      StringBuilder expected = new StringBuilder();
+      for (int i = 0; i < 5000; i++) {
+        ranges.add(Range.closedOpen(i, i + 1));
+        expected.append(i == 0 ? "" : "\n").append('[').append(i).append("..").append(i + 1);
+        expected.append(')');
+      }
+      StringWriter writer = new StringWriter();
+
+      formatter.formatAll(ranges, writer, "\n");
+
+      assertThat(writer).hasToString(expected.toString());
+    }
+
+    @Test
+    void formatAllEmpty() throws IOException {
+      StringWriter writer = new StringWriter();
+
+      formatter.formatAll(List.<Range<Integer>>of(), writer, "\n");
+
+      assertThat(writer.toString()).isEmpty();
+    }
+
+    @Test
+    void formatAllRejectsNullRange() {
+      assertThatThrownBy(
+              () ->
+                  formatter.formatAll(
+                      Arrays.asList(Range.closed(1, 2), null), new StringWriter(), ","))
+          .isInstanceOf(NullPointerException.class);
+    }
+  }
+
+  @Nested
+  class Utf8Output {
+
+    @Test
+    void writesSymbolInfinityAsMultiByte() {
+      byte[] buffer = new byte[32];
+
+      int length = RangeFormatter.builder().build().formatToUtf8(Range.<Integer>all(), buffer, 0);
+
+      assertThat(length).isEqualTo(12);
+      assertThat(Arrays.copyOf(buffer, length))
+          .containsExactly('(', '-', 0xE2, 0x88, 0x9E, '.', '.', '+', 0xE2, 0x88, 0x9E, ')');
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void matchesFormatForAllStyles() {
+      List<Range<?>> ranges =
+          List.of(
+              Range.closedOpen(Integer.MIN_VALUE, Integer.MAX_VALUE),
+              Range.atMost(Long.MIN_VALUE),
+              Range.greaterThan((short) -7),
+              Range.closed((byte) 0, (byte) 9),
+              Range.closed(0.25, 1e300),
+              Range.closed("naïve", "日本 𝄞"),
+              Range.atLeast(Duration.ofMinutes(90)));
+      for (InfinityStyle style : InfinityStyle.values()) {
+        RangeFormatter formatter = RangeFormatter.builder().infinityStyle(style).build();
+        for (Range<?> range : ranges) {
+          byte[] buffer = new byte[64];
+          int length = formatter.formatToUtf8((Range) range, buffer, 3);
+
+          assertThat(Arrays.copyOfRange(buffer, 3, 3 + length))
+              .isEqualTo(formatter.format((Range) range).getBytes(StandardCharsets.UTF_8));
+        }
+      }
+    }
+
+    @Test
+    void writesUnpairedSurrogateAsQuestionMark() {
+      byte[] buffer = new byte[16];
+
+      int length =
+          RangeFormatter.builder().build().formatToUtf8(Range.singleton("\uD800"), buffer, 0);
+
+      assertThat(new String(buffer, 0, length, StandardCharsets.UTF_8)).isEqualTo("[?..?]");
+    }
+
+    @Test
+    void usesCustomFormatterForIntegralEndpoints() {
+      RangeFormatter formatter =
+          RangeFormatter.builder()
+              .registerType(Integer.class, (value, out) -> out.append(Integer.toHexString(value)))
+              .build();
+      byte[] buffer = new byte[16];
+
+      int length = formatter.formatToUtf8(Range.closed(10, 255), buffer, 0);
+
+      assertThat(new String(buffer, 0, length, StandardCharsets.US_ASCII)).isEqualTo("[a..ff]");
+    }
+
+    @Test
+    void writesToDirectByteBuffer() {
+      ByteBuffer buffer = ByteBuffer.allocateDirect(32);
+      buffer.position(2);
+
+      int length = RangeFormatter.builder().build().formatToUtf8(Range.lessThan(42L), buffer);
+
+      assertThat(length).isEqualTo(10);
+      assertThat(buffer.position()).isEqualTo(12);
+      byte[] written = new byte[length];
+      buffer.get(2, written);
+      assertThat(new String(written, StandardCharsets.UTF_8)).isEqualTo("(-∞..42)");
+    }
+
+    @Test
+    void overflowLeavesBufferPositionUnchanged() {
+      ByteBuffer buffer = ByteBuffer.allocate(8);
+      buffer.position(1);
+      RangeFormatter formatter = RangeFormatter.builder().build();
+
+      assertThatThrownBy(() -> formatter.formatToUtf8(Range.closed(1000, 2000), buffer))
+          .isInstanceOf(BufferOverflowException.class);
+      assertThat(buffer.position()).isEqualTo(1);
+    }
+
+    @Test
+    void overflowOfByteArrayThrows() {
+      RangeFormatter formatter = RangeFormatter.builder().build();
+
+      assertThatThrownBy(() -> formatter.formatToUtf8(Range.closed(1, 2), new byte[10], 5))
+          .isInstanceOf(BufferOverflowException.class);
+    }
+
+    @Test
+    void rejectsOffsetOutsideArray() {
+      RangeFormatter formatter = RangeFormatter.builder().build();
+
+      assertThatThrownBy(() -> formatter.formatToUtf8(Range.closed(1, 2), new byte[10], 11))
+          .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+  }
+
+  @Nested
+  class Caching {
+
+    @Test
+    void returnsCachedNotationForSameInstance() {
+      RangeFormatter formatter = RangeFormatter.builder().cache(10).build();
+      Range<Integer> range = Range.closedOpen(0, 100);
+
+      String first = formatter.format(range);
+      String second = formatter.format(range);
+
+      assertThat(second).isEqualTo("[0..100)").isSameAs(first);
+      assertThat(formatter.cacheStats().hitCount()).isEqualTo(1);
+      assertThat(formatter.cacheStats().missCount()).isEqualTo(1);
+      assertThat(formatter.cacheStats().hitRate()).isEqualTo(0.5);
+    }
+
+    @Test
+    void keysOnIdentityNotEquality() {
+      RangeFormatter formatter = RangeFormatter.builder().cache(10).build();
+      Range<BigDecimal> range = Range.closed(new BigDecimal("1.0"), BigDecimal.valueOf(2));
+      Range<BigDecimal> equalRange = Range.closed(new BigDecimal("1.00"), BigDecimal.valueOf(2));
+
+      assertThat(formatter.format(range)).isEqualTo("[1.0..2]");
+      assertThat(formatter.format(equalRange)).isEqualTo("[1.00..2]");
+      assertThat(formatter.cacheStats().hitCount()).isZero();
+    }
+
+    @Test
+    void evictsBeyondMaxEntries() {
+      RangeFormatter formatter = RangeFormatter.builder().cache(1).build();
+
+      formatter.format(Range.closed(1, 2));
+      formatter.format(Range.closed(3, 4));
+
+      assertThat(formatter.cacheStats().evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void allRangeUsesPrecomputedNotation() {
+      for (InfinityStyle style : InfinityStyle.values()) {
+        RangeFormatter formatter = RangeFormatter.builder().infinityStyle(style).cache(10).build();
+
+        String notation = formatter.format(Range.<Integer>all());
+
+        assertThat(notation)
+            .isEqualTo("(" + style.negativeInfinity() + ".." + style.positiveInfinity() + ")")
+            .isSameAs(formatter.format(Range.<String>all()));
+        assertThat(formatter.cacheStats().requestCount()).isZero();
+      }
+    }
+
+    @Test
+    void reportsEmptyStatsWithoutCache() {
+      RangeFormatter formatter = RangeFormatter.builder().build();
+      formatter.format(Range.closed(1, 2));
+
+      assertThat(formatter.cacheStats().requestCount()).isZero();
+    }
+
+    @Test
+    void rejectsNegativeMaxEntries() {
+      assertThatThrownBy(() -> RangeFormatter.builder().cache(-1))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("maxEntries must not be negative");
+    }
+  }
+
+  @Nested
+  class TypeFormatters {
+
+    @Test
+    void builtInIntegralFormattersMatchToString() {
+      assertThat(RangeFormatter.toString(Range.closed(Integer.MIN_VALUE, Integer.MAX_VALUE)))
+          .isEqualTo("[-2147483648..2147483647]");
+      assertThat(RangeFormatter.toString(Range.closed(Long.MIN_VALUE, Long.MAX_VALUE)))
+          .isEqualTo("[-9223372036854775808..9223372036854775807]");
+      assertThat(RangeFormatter.toString(Range.closed((short) -5, (short) 300)))
+          .isEqualTo("[-5..300]");
+      assertThat(RangeFormatter.toString(Range.closed((byte) -128, (byte) 127)))
+          .isEqualTo("[-128..127]");
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void builtInTemporalFormattersMatchToString() {
+      List<Range<?>> ranges =
+          List.of(
+              Range.closed(Instant.EPOCH, Instant.parse("2024-02-29T23:59:59.123456789Z")),
+              Range.closed(Instant.parse("-0001-01-01T00:00:00Z"), Instant.MAX),
+              Range.closed(LocalDate.of(-50, 1, 1), LocalDate.of(12024, 12, 31)),
+              Range.closed(LocalTime.MIDNIGHT, LocalTime.of(23, 59, 0, 500_000)),
+              Range.closed(
+                  LocalDateTime.of(2024, 1, 2, 3, 4), LocalDateTime.of(2024, 1, 2, 3, 4, 5, 6)),
+              Range.closed(
+                  OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.ofHoursMinutes(5, 30)),
+                  OffsetDateTime.of(2024, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC)),
+              Range.closed(
+                  ZonedDateTime.of(2024, 6, 1, 12, 0, 0, 0, ZoneId.of("Europe/Paris")),
+                  ZonedDateTime.of(2024, 6, 1, 12, 0, 0, 0, ZoneOffset.ofHours(-3))),
+              Range.closed(Duration.ofSeconds(-1, 1), Duration.ofHours(1).plusMillis(500)));
+
+      for (Range<?> range : ranges) {
+        assertThat(RangeFormatter.toString((Range) range))
+            .isEqualTo("[" + range.lowerEndpoint() + ".." + range.upperEndpoint() + "]");
+      }
+    }
+
+    @Test
+    void temporalFormattersRoundTrip() {
+      Range<Instant> range =
+          Range.closedOpen(
+              Instant.parse("2024-01-01T00:00:00Z"), Instant.parse("2024-01-01T00:00:00.5Z"));
+
+      assertThat(RangeParser.parse(RangeFormatter.toString(range), Instant.class)).isEqualTo(range);
+    }
+
+    @Test
+    void customFormatterIsUsedForEndpoints() {
+      RangeFormatter formatter =
+          RangeFormatter.builder()
+              .registerType(
+                  Duration.class, (value, out) -> out.append(value.toSeconds()).append('s'))
+              .build();
+
+      assertThat(formatter.format(Range.closedOpen(Duration.ZERO, Duration.ofMinutes(1))))
+          .isEqualTo("[0s..60s)");
+    }
+
+    @Test
+    void customFormatterOverridesBuiltIn() {
+      RangeFormatter formatter =
+          RangeFormatter.builder()
+              .registerType(Integer.class, (value, out) -> out.append(Integer.toHexString(value)))
+              .build();
+
+      assertThat(formatter.format(Range.closed(10, 255))).isEqualTo("[a..ff]");
+    }
+
+    @Test
+    void overrideDoesNotLeakIntoSharedBuiltIns() {
+      RangeFormatter custom =
+          RangeFormatter.builder()
+              .registerType(Integer.class, (value, out) -> out.append(Integer.toHexString(value)))
+              .build();
+      RangeFormatter plain = RangeFormatter.builder().build();
+      RangeFormatter shortest = RangeFormatter.builder().shortestFloatingPoint(true).build();
+
+      assertThat(custom.format(Range.closed(10, 255))).isEqualTo("[a..ff]");
+      assertThat(plain.format(Range.closed(10, 255))).isEqualTo("[10..255]");
+      assertThat(shortest.format(Range.closed(10, 255))).isEqualTo("[10..255]");
+      assertThat(BuiltInTypeFormatters.REGISTRY.get(Integer.class))
+          .isSameAs(BuiltInTypeFormatters.INTEGER);
+      assertThat(BuiltInTypeFormatters.REGISTRY).doesNotContainKey(Double.class);
+    }
+
+    @Test
+    void otherTypesUseToString() {
+      assertThat(RangeFormatter.toString(Range.closed("a", "b"))).isEqualTo("[a..b]");
+    }
+
+    @Test
+    void rejectsNullFormatter() {
+      assertThatThrownBy(() -> RangeFormatter.builder().registerType(Integer.class, null))
+          .isInstanceOf(NullPointerException.class)
+          .hasMessageContaining("formatter must not be null");
+    }
+  }
+
+  @Nested
+  class ShortestFloatingPoint {
+
+    private final RangeFormatter formatter =
+        RangeFormatter.builder().shortestFloatingPoint(true).build();
+
+    @Test
+    void formatsLikeDoubleToString() {
+      assertThat(formatter.format(Range.closed(0.1, 1.5))).isEqualTo("[0.1..1.5]");
+      assertThat(formatter.format(Range.closed(-0.0, 0.0))).isEqualTo("[-0.0..0.0]");
+      assertThat(formatter.format(Range.closed(100.0, 1234567.0))).isEqualTo("[100.0..1234567.0]");
+      assertThat(formatter.format(Range.closed(0.001, 1.0E7))).isEqualTo("[0.001..1.0E7]");
+      assertThat(formatter.format(Range.closed(1.25E-10, 9.99E-4)))
+          .isEqualTo("[1.25E-10..9.99E-4]");
+    }
+
+    @Test
+    void formatsExtremeValues() {
+      assertThat(formatter.format(Range.closed(Double.MIN_VALUE, Double.MAX_VALUE)))
+          .isEqualTo("[4.9E-324..1.7976931348623157E308]");
+      assertThat(formatter.format(Range.closed(Float.MIN_VALUE, Float.MAX_VALUE)))
+          .isEqualTo("[1.4E-45..3.4028235E38]");
+      assertThat(formatter.format(Range.closed(Double.NEGATIVE_INFINITY, Double.NaN)))
+          .isEqualTo("[-Infinity..NaN]");
+    }
+
+    @Test
+    void writesShortestDigits() {
+      // Double.toString writes 1.9999999999999998E23 and 9.999999999999999E22 before JDK 19
+      assertThat(formatter.format(Range.closed(1.0E23, 2.0E23))).isEqualTo("[1.0E23..2.0E23]");
+      assertThat(formatter.format(Range.closed(1.0E23f, 2.0E23f))).isEqualTo("[1.0E23..2.0E23]");
+    }
+
+    @Test
+    void roundTripsFloats() {
+      Range<Float> range = Range.closed(0.3f, 16777216.0f);
+
+      assertThat(formatter.format(range)).isEqualTo("[0.3..1.6777216E7]");
+      assertThat(RangeParser.parse(formatter.format(range), Float.class)).isEqualTo(range);
+    }
+
+    @Test
+    void disabledByDefault() {
+      assertThat(RangeFormatter.toString(Range.closed(1.0E23, 2.0E23)))
+          .isEqualTo("[" + 1.0E23 + ".." + 2.0E23 + "]");
+    }
+
+    @Test
+    void customFormatterTakesPrecedence() {
+      RangeFormatter custom =
+          RangeFormatter.builder()
+              .shortestFloatingPoint(true)
+              .registerType(Double.class, (value, out) -> out.append(value.longValue()))
+              .build();
+
+      assertThat(custom.format(Range.closed(1.5, 2.5))).isEqualTo("[1..2]");
+    }
+  }
+
   @Nested
   class ErrorHandling {
 
@@ -2,13 +2,48 @@ package io.github.neewrobert.guavarangeparser.core;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
 
+import com.google.common.collect.BoundType;
 import com.google.common.collect.Range;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.StringReader;
+import java.lang.reflect.Method;
 import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
@@ -289,6 +324,42 @@ class RangeParserTest {
       Range<Double> range = RangeParser.parse("[-10.5..-0.5)", Double.class);
       assertThat(range).isEqualTo(Range.closedOpen(-10.5, -0.5));
     }
+
+    @Test
+    void parseMoreDigitsThanFitIntoLong() {
+      Range<Double> range =
+          RangeParser.parse(
+              "[0.1000000000000000055511151231257827..123456789012345678901234567890E-10]",
+              Double.class);
+      assertThat(range).isEqualTo(Range.closed(0.1, 1.2345678901234568E19));
+    }
+
+    @Test
+    void parseSubnormalAndHalfwayValues() {
+      Range<Double> range = RangeParser.parse("[4.9e-324..9007199254740993]", Double.class);
+      assertThat(range).isEqualTo(Range.closed(Double.MIN_VALUE, 9007199254740992.0));
+    }
+
+    @Test
+    void parseNotationLeftToJdk() {
+      Range<Double> range = RangeParser.parse("[0x1p-2..1d]", Double.class);
+      assertThat(range).isEqualTo(Range.closed(0.25, 1.0));
+    }
+
+    @Test
+    void parseFloatLimits() {
+      Range<Float> range = RangeParser.parse("[1.4e-45..3.4028235e38]", Float.class);
+      assertThat(range).isEqualTo(Range.closed(Float.MIN_VALUE, Float.MAX_VALUE));
+    }
+
+    @Test
+    void rejectsInvalidValueLikeJdk() {
+      assertThatThrownBy(() -> RangeParser.parse("[1.5e..2]", Double.class))
+          .isInstanceOf(RangeParseException.class)
+          .cause()
+          .isInstanceOf(NumberFormatException.class)
+          .hasMessage("For input string: \"1.5e\"");
+    }
   }
 
   @Nested
@@ -323,6 +394,48 @@ class RangeParserTest {
       Range<Duration> range = RangeParser.parse("[PT-1H..PT1H]", Duration.class);
       assertThat(range).isEqualTo(Range.closed(Duration.ofHours(-1), Duration.ofHours(1)));
     }
+
+    @Test
+    void parseDaysAndFraction() {
+      Range<Duration> range = RangeParser.parse("[P2DT3H4M5.5S..P3D]", Duration.class);
+      assertThat(range).isEqualTo(Range.closed(Duration.parse("P2DT3H4M5.5S"), Duration.ofDays(3)));
+    }
+
+    @Test
+    void parseLowerCaseAndCommaFraction() {
+      Range<Duration> range = RangeParser.parse("[pt1h..p1dt0,25s]", Duration.class);
+      assertThat(range)
+          .isEqualTo(Range.closed(Duration.ofHours(1), Duration.ofDays(1).plusMillis(250)));
+    }
+
+    @Test
+    void parseSignedFields() {
+      Range<Duration> range = RangeParser.parse("[-PT1H-30M..PT-0.5S]", Duration.class);
+      assertThat(range).isEqualTo(Range.closed(Duration.ofMinutes(-30), Duration.ofMillis(-500)));
+    }
+
+    @Test
+    void parseFieldsBeyondFastPath() {
+      Range<Duration> range = RangeParser.parse("[PT0S..PT9223372036854775807S]", Duration.class);
+      assertThat(range).isEqualTo(Range.closed(Duration.ZERO, Duration.ofSeconds(Long.MAX_VALUE)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+          "P", "PT", "P1DT", "PT1S1M", "PT1.1234567891S", "PT1HS", "1H", "PT1\f5S", "PT1\u000E5S"
+        })
+    void rejectsInvalidDurationLikeJdk(String value) {
+      RangeParser parser = RangeParser.builder().build();
+      Throwable jdk = catchThrowable(() -> Duration.parse(value));
+
+      assertThatThrownBy(() -> parser.parseRange("[" + value + "..P1000D]", Duration.class))
+          .isInstanceOf(RangeParseException.class)
+          .hasCauseInstanceOf(jdk.getClass())
+          .cause()
+          .hasMessage(jdk.getMessage());
+      assertThat(parser.tryParse("[" + value + "..P1000D]", Duration.class).isSuccess()).isFalse();
+    }
   }
 
   @Nested
@@ -361,6 +474,102 @@ class RangeParserTest {
     }
   }
 
+  @Nested
+  class DateTimeRanges {
+
+    @Test
+    void parseLocalDateTimeWithFraction() {
+      Range<LocalDateTime> range =
+          RangeParser.parse(
+              "[2024-01-01T00:00..2024-12-31t23:59:59.999999999]", LocalDateTime.class);
+      assertThat(range)
+          .isEqualTo(
+              Range.closed(
+                  LocalDateTime.of(2024, 1, 1, 0, 0),
+                  LocalDateTime.of(2024, 12, 31, 23, 59, 59, 999_999_999)));
+    }
+
+    @Test
+    void parseLocalTime() {
+      Range<LocalTime> range = RangeParser.parse("[09:00..17:30:15.5)", LocalTime.class);
+      assertThat(range)
+          .isEqualTo(Range.closedOpen(LocalTime.of(9, 0), LocalTime.of(17, 30, 15, 500_000_000)));
+    }
+
+    @Test
+    void parseInstantWithOffset() {
+      Range<Instant> range =
+          RangeParser.parse("[2024-03-01T10:15:30Z..2024-03-01T12:15:30.25+02:00]", Instant.class);
+      assertThat(range)
+          .isEqualTo(
+              Range.closed(
+                  Instant.parse("2024-03-01T10:15:30Z"),
+                  Instant.parse("2024-03-01T10:15:30.250Z")));
+    }
+
+    @Test
+    void parseOffsetDateTime() {
+      Range<OffsetDateTime> range =
+          RangeParser.parse(
+              "[2024-03-01T10:15+05:30:15..2024-03-01T10:15:30-05:00]", OffsetDateTime.class);
+      assertThat(range)
+          .isEqualTo(
+              Range.closed(
+                  OffsetDateTime.of(
+                      2024, 3, 1, 10, 15, 0, 0, ZoneOffset.ofHoursMinutesSeconds(5, 30, 15)),
+                  OffsetDateTime.of(2024, 3, 1, 10, 15, 30, 0, ZoneOffset.ofHours(-5))));
+    }
+
+    @Test
+    void parseZonedDateTimeMovesInstantIntoZone() {
+      Range<ZonedDateTime> range =
+          RangeParser.parse(
+              "[2024-06-01T00:00Z[Europe/Paris]..2024-06-01T12:00+02:00[Europe/Paris]]",
+              ZonedDateTime.class);
+      ZoneId paris = ZoneId.of("Europe/Paris");
+      assertThat(range)
+          .isEqualTo(
+              Range.closed(
+                  ZonedDateTime.of(2024, 6, 1, 2, 0, 0, 0, paris),
+                  ZonedDateTime.of(2024, 6, 1, 12, 0, 0, 0, paris)));
+    }
+
+    @Test
+    void parseZonedDateTimeBeyondFastPath() {
+      Range<ZonedDateTime> range =
+          RangeParser.parse(
+              "[2024-06-01T00:00+01[UTC+01:00]..+10000-01-01T00:00Z]", ZonedDateTime.class);
+      assertThat(range)
+          .isEqualTo(
+              Range.closed(
+                  ZonedDateTime.parse("2024-06-01T00:00+01:00[UTC+01:00]"),
+                  ZonedDateTime.of(10_000, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+        strings = {
+          "2024-02-30T00:00Z",
+          "2024-01-01T24:00Z",
+          "2024-01-01T00:00+19:00",
+          "2024-01-01T00:00:60Z",
+          "2024-01-01T00:00Z[Europe/Nowhere]",
+          "2024-01-01T00:00"
+        })
+    void rejectsInvalidZonedDateTimeLikeJdk(String value) {
+      RangeParser parser = RangeParser.builder().build();
+      Throwable jdk = catchThrowable(() -> ZonedDateTime.parse(value));
+
+      assertThatThrownBy(() -> parser.parseRange("[" + value + "..+∞)", ZonedDateTime.class))
+          .isInstanceOf(RangeParseException.class)
+          .hasCauseInstanceOf(jdk.getClass())
+          .cause()
+          .hasMessage(jdk.getMessage());
+      assertThat(parser.tryParse("[" + value + "..+∞)", ZonedDateTime.class).isSuccess())
+          .isFalse();
+    }
+  }
+
   @Nested
   class BigDecimalRanges {
 
@@ -601,6 +810,146 @@ class RangeParserTest {
     }
   }
 
+  @Nested
+  class InputLimits {
+
+    @Test
+    void rejectsInputBeyondConfiguredLength() {
+      RangeParser parser = RangeParser.builder().maxInputLength(10).build();
+
+      assertThat(parser.parseRange("[0..10000]", Integer.class)).isEqualTo(Range.closed(0, 10000));
+      assertThatThrownBy(() -> parser.parseRange("[0..100000]", Integer.class))
+          .isInstanceOf(RangeParseException.class)
+          .hasMessageContaining("Input exceeds maximum length of 10 characters");
+      assertThat(parser.tryParse("[0..100000]", Integer.class).error())
+          .isEqualTo(RangeParseError.INPUT_TOO_LONG);
+      assertThatThrownBy(
+              () ->
+                  parser.parseRange(
+                      "[0..100000]".getBytes(StandardCharsets.UTF_8), 0, 11, Integer.class))
+          .isInstanceOf(RangeParseException.class);
+    }
+
+    @Test
+    void measuresUtf8InputInChars() {
+      RangeParser parser = RangeParser.builder().maxInputLength(10).build();
+      byte[] nonAscii = "[éé..üü]".getBytes(StandardCharsets.UTF_8);
+      byte[] ascii = ("[0.." + "1".repeat(1_000_000) + "]").getBytes(StandardCharsets.UTF_8);
+      byte[] wide = "[€€€€..€€€€]".getBytes(StandardCharsets.UTF_8);
+
+      assertThat(nonAscii.length).isGreaterThan(10);
+      assertThat(parser.parseRange(nonAscii, 0, nonAscii.length, String.class))
+          .isEqualTo(Range.closed("éé", "üü"));
+      RangeParseException e =
+          (RangeParseException)
+              catchThrowable(() -> parser.parseRange(ascii, 0, ascii.length, Integer.class));
+      assertThat(e.getReason()).isEqualTo(RangeParseError.INPUT_TOO_LONG);
+      assertThat(e.getInput()).isEqualTo("[0.." + "1".repeat(46) + "...");
+      assertThatThrownBy(() -> parser.parseRange(wide, 0, wide.length, String.class))
+          .isInstanceOf(RangeParseException.class)
+          .hasMessageContaining("Input exceeds maximum length of 10 characters");
+    }
+
+    @Test
+    void acceptsInputBeyondDefaultLengthWhenConfigured() {
+      RangeParser parser = RangeParser.builder().maxInputLength(5000).maxDigits(3000).build();
+      String digits = "9".repeat(2000);
+
+      Range<BigInteger> range = parser.parseRange("[0.." + digits + "]", BigInteger.class);
+      assertThat(range).isEqualTo(Range.closed(BigInteger.ZERO, new BigInteger(digits)));
+    }
+
+    @Test
+    void parsesInputOfLargestAllowedLength() {
+      RangeParser parser = RangeParser.builder().maxInputLength(32767).maxDigits(32767).build();
+      String digits = "1".repeat(32767 - "(5..]".length());
+
+      Range<BigInteger> range = parser.parseRange("(5.." + digits + ")", BigInteger.class);
+      assertThat(range).isEqualTo(Range.open(BigInteger.valueOf(5), new BigInteger(digits)));
+      assertThat(parser.tryParse("(5.." + digits + "0)", BigInteger.class).error())
+          .isEqualTo(RangeParseError.INPUT_TOO_LONG);
+    }
+
+    @Test
+    void rejectsBigIntegerWithTooManyDigits() {
+      RangeParser parser = RangeParser.builder().maxDigits(5).build();
+
+      assertThat(parser.parseRange("[-99999..+99999]", BigInteger.class))
+          .isEqualTo(Range.closed(BigInteger.valueOf(-99999), BigInteger.valueOf(99999)));
+      assertThatThrownBy(() -> parser.parseRange("[0..100000]", BigInteger.class))
+          .isInstanceOf(RangeParseException.class)
+          .hasMessageContaining("BigInteger value exceeds 5 digits");
+      assertThat(parser.tryParse("[0..100000]", BigInteger.class).error())
+          .isEqualTo(RangeParseError.INVALID_VALUE);
+    }
+
+    @Test
+    void rejectsBigDecimalWithTooManyDigits() {
+      RangeParser parser = RangeParser.builder().maxDigits(5).build();
+
+      assertThat(parser.isValid("[0..999.99]", BigDecimal.class)).isTrue();
+      assertThatThrownBy(() -> parser.parseRange("[0..999.999]", BigDecimal.class))
+          .isInstanceOf(RangeParseException.class)
+          .hasMessageContaining("BigDecimal value exceeds 5 digits");
+    }
+
+    @Test
+    void rejectsBigDecimalWithHugeExponentByDefault() {
+      RangeParser parser = RangeParser.builder().build();
+
+      assertThatThrownBy(() -> parser.parseRange("[0..1e999999999]", BigDecimal.class))
+          .isInstanceOf(RangeParseException.class)
+          .hasMessageContaining("BigDecimal scale is outside of [-10000, 10000]");
+      assertThat(parser.tryParse("[1e-999999999..1]", BigDecimal.class).errorOffset())
+          .isEqualTo(1);
+    }
+
+    @Test
+    void rejectsBigDecimalBeyondConfiguredScale() {
+      RangeParser parser = RangeParser.builder().maxScale(3).build();
+
+      assertThat(parser.parseRange("[0.001..1e3]", BigDecimal.class))
+          .isEqualTo(Range.closed(new BigDecimal("0.001"), new BigDecimal("1e3")));
+      assertThat(parser.isValid("[0.0001..1]", BigDecimal.class)).isFalse();
+      assertThat(parser.isValid("[0..1e4]", BigDecimal.class)).isFalse();
+      // The scale of 1.5e4 is -3
+      assertThat(parser.isValid("[0..1.5e4]", BigDecimal.class)).isTrue();
+    }
+
+    @Test
+    void keepsJdkMessageForInvalidBigDecimal() {
+      assertThatThrownBy(() -> RangeParser.parse("[0..1.2.3]", BigDecimal.class))
+          .isInstanceOf(RangeParseException.class)
+          .cause()
+          .isInstanceOf(NumberFormatException.class)
+          .hasMessage(catchThrowable(() -> new BigDecimal("1.2.3")).getMessage());
+    }
+
+    @Test
+    void customAdapterIsNotLimited() {
+      RangeParser parser =
+          RangeParser.builder()
+              .maxDigits(1)
+              .registerType(BigInteger.class, BigInteger::new)
+              .build();
+
+      assertThat(parser.parseRange("[10..20]", BigInteger.class))
+          .isEqualTo(Range.closed(BigInteger.TEN, BigInteger.valueOf(20)));
+    }
+
+    @Test
+    void rejectsInvalidLimits() {
+      RangeParser.Builder builder = RangeParser.builder();
+
+      assertThatThrownBy(() -> builder.maxInputLength(0))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> builder.maxInputLength(32768))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> builder.maxDigits(0)).isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> builder.maxScale(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
   @Nested
   class RangeParseExceptionDetails {
 
@@ -665,6 +1014,53 @@ class RangeParserTest {
       assertThat(message).doesNotContain("^");
     }
 
+    @Test
+    void serializationPreservesReasonAndMessage() throws Exception {
+      RangeParseException original =
+          (RangeParseException) catchThrowable(() -> RangeParser.parse("[5..1]", Integer.class));
+      ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+        out.writeObject(original);
+      }
+
+      RangeParseException copy = deserialize(bytes.toByteArray());
+
+      assertThat(copy.getReason()).isEqualTo(RangeParseError.LOWER_GREATER_THAN_UPPER);
+      assertThat(copy.getMessage()).isEqualTo(original.getMessage());
+      assertThat(copy.getInput()).isEqualTo(original.getInput());
+    }
+
+    @Test
+    void deserializesFormWithoutReason() throws Exception {
+      // new RangeParseException("Invalid value", "[x..1]", 1) without a stack trace, serialized
+      // before the reason was added, when the message was formatted up front
+      String serialized =
+          "rO0ABXNyAD5pby5naXRodWIubmVld3JvYmVydC5ndWF2YXJhbmdlcGFyc2VyLmNvcmUuUmFuZ2VQYXJz"
+              + "ZUV4Y2VwdGlvbgAAAAAAAAABAgACSQAIcG9zaXRpb25MAAVpbnB1dHQAEkxqYXZhL2xhbmcvU3RyaW5n"
+              + "O3hyABpqYXZhLmxhbmcuUnVudGltZUV4Y2VwdGlvbp5fBkcKNIPlAgAAeHIAE2phdmEubGFuZy5FeGNl"
+              + "cHRpb27Q/R8+GjscxAIAAHhyABNqYXZhLmxhbmcuVGhyb3dhYmxl1cY1Jzl3uMsDAARMAAVjYXVzZXQA"
+              + "FUxqYXZhL2xhbmcvVGhyb3dhYmxlO0wADWRldGFpbE1lc3NhZ2VxAH4AAVsACnN0YWNrVHJhY2V0AB5b"
+              + "TGphdmEvbGFuZy9TdGFja1RyYWNlRWxlbWVudDtMABRzdXBwcmVzc2VkRXhjZXB0aW9uc3QAEExqYXZh"
+              + "L3V0aWwvTGlzdDt4cHEAfgAIdAArSW52YWxpZCB2YWx1ZQogIElucHV0OiAiW3guLjFdIgogICAgICAg"
+              + "ICAgXnVyAB5bTGphdmEubGFuZy5TdGFja1RyYWNlRWxlbWVudDsCRio8PP0iOQIAAHhwAAAAAHNyAB9q"
+              + "YXZhLnV0aWwuQ29sbGVjdGlvbnMkRW1wdHlMaXN0ergXtDynnt4CAAB4cHgAAAABdAAGW3guLjFd";
+
+      RangeParseException copy = deserialize(Base64.getDecoder().decode(serialized));
+
+      assertThat(copy.getReason()).isEqualTo(RangeParseError.INVALID_VALUE);
+      assertThat(copy.getMessage())
+          .isEqualTo(new RangeParseException("Invalid value", "[x..1]", 1).getMessage());
+      assertThat(copy.getInput()).isEqualTo("[x..1]");
+      assertThat(copy.getPosition()).isEqualTo(1);
+    }
+
+    private RangeParseException deserialize(byte[] bytes)
+        throws IOException, ClassNotFoundException {
+      try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+        return (RangeParseException) in.readObject();
+      }
+    }
+
     @Test
     void exceptionWithCausePreservesCause() {
       IllegalArgumentException cause = new IllegalArgumentException("root cause");
@@ -699,76 +1095,1031 @@ class RangeParserTest {
   }
 
   @Nested
-  class Whitespace {
+  class RegionParsing {
 
     @Test
-    void trimsWhitespace() {
-      Range<Integer> range = RangeParser.parse("  [0..100)  ", Integer.class);
-      assertThat(range).isEqualTo(Range.closedOpen(0, 100));
+    void parsesSliceOfLargerLine() {
+      String line = "id=7;range=[10..20);flag=1";
+      Range<Integer> range = RangeParser.builder().build().parseRange(line, 11, 19, Integer.class);
+      assertThat(range).isEqualTo(Range.closedOpen(10, 20));
     }
 
     @Test
-    void handlesWhitespaceAroundEndpoints() {
-      Range<Integer> range = RangeParser.parse("[ 0 .. 100 )", Integer.class);
-      assertThat(range).isEqualTo(Range.closedOpen(0, 100));
+    void parsesCharBuffer() {
+      char[] chars = "xx(-∞..42]xx".toCharArray();
+      Range<Long> range =
+          RangeParser.builder().build().parseRange(CharBuffer.wrap(chars), 2, 10, Long.class);
+      assertThat(range).isEqualTo(Range.atMost(42L));
+    }
+
+    @Test
+    void bridgesPlainTypeAdapters() {
+      Range<LocalDate> range =
+          RangeParser.builder()
+              .build()
+              .parseRange(new StringBuilder("[2024-01-01..2024-12-31]"), 0, 24, LocalDate.class);
+      assertThat(range)
+          .isEqualTo(Range.closed(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31)));
+    }
+
+    @Test
+    void usesCustomRegionTypeAdapter() {
+      RegionTypeAdapter<Integer> hex = (s, start, end) -> Integer.parseInt(s, start, end, 16);
+      RangeParser parser = RangeParser.builder().registerType(Integer.class, hex).build();
+
+      assertThat(parser.parseRange("[a..ff]", Integer.class)).isEqualTo(Range.closed(10, 255));
+    }
+
+    @Test
+    void reportsOnlyTheRegionInErrors() {
+      String line = "a;[x..y];b";
+      assertThatThrownBy(() -> RangeParser.builder().build().parseRange(line, 2, 8, Integer.class))
+          .isInstanceOf(RangeParseException.class)
+          .hasMessageContaining("Failed to parse")
+          .extracting(e -> ((RangeParseException) e).getInput())
+          .isEqualTo("[x..y]");
+    }
+
+    @Test
+    void rejectsOutOfBoundsRegion() {
+      assertThatThrownBy(
+              () -> RangeParser.builder().build().parseRange("[0..1]", 2, 10, Integer.class))
+          .isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void keepsJdkMessagesForInvalidNumbers() {
+      assertThatThrownBy(() -> RangeParser.parse("[0..99999]", Short.class))
+          .isInstanceOf(RangeParseException.class)
+          .hasMessageContaining("Value out of range. Value:\"99999\"");
+      assertThatThrownBy(() -> RangeParser.parse("[0..12a]", Integer.class))
+          .isInstanceOf(RangeParseException.class)
+          .hasMessageContaining("For input string: \"12a\"");
     }
   }
 
   @Nested
-  class BuilderReuse {
+  class Utf8Parsing {
+
+    private final RangeParser parser = RangeParser.builder().build();
 
     @Test
-    void builderCanBeReusedMultipleTimes() {
-      RangeParser.Builder builder = RangeParser.builder().lenient(true);
-      RangeParser p1 = builder.build();
-      RangeParser p2 = builder.build();
+    void parsesUtf8Bytes() {
+      byte[] bytes = "[0..100)".getBytes(StandardCharsets.UTF_8);
+      assertThat(parser.parseRange(bytes, 0, bytes.length, Integer.class))
+          .isEqualTo(Range.closedOpen(0, 100));
+    }
 
-      // Both parsers should have built-in adapters
-      Range<Integer> r1 = p1.parseRange("[0..100)", Integer.class);
-      Range<Integer> r2 = p2.parseRange("[0..100)", Integer.class);
+    @Test
+    void parsesMultiByteInfinitySymbol() {
+      byte[] bytes = "key=(-∞..+∞);".getBytes(StandardCharsets.UTF_8);
+      assertThat(parser.parseRange(bytes, 4, bytes.length - 5, Long.class)).isEqualTo(Range.all());
+    }
 
-      assertThat(r1).isEqualTo(Range.closedOpen(0, 100));
-      assertThat(r2).isEqualTo(Range.closedOpen(0, 100));
+    @Test
+    void parsesNonAsciiEndpoints() {
+      byte[] bytes = "[é..ü]".getBytes(StandardCharsets.UTF_8);
+      assertThat(parser.parseRange(bytes, 0, bytes.length, String.class))
+          .isEqualTo(Range.closed("é", "ü"));
     }
 
     @Test
-    void builderReusedWithCustomAdapters() {
-      record Point(int x) implements Comparable<Point> {
-        static Point parse(String s) {
-          return new Point(Integer.parseInt(s));
-        }
+    void parsesHeapAndDirectByteBuffers() {
+      byte[] bytes = "[1.5..+inf)".getBytes(StandardCharsets.UTF_8);
+      ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
 
-        @Override
-        public int compareTo(Point other) {
-          return Integer.compare(this.x, other.x);
-        }
-      }
+      assertThat(parser.parseRange(ByteBuffer.wrap(bytes), Double.class))
+          .isEqualTo(Range.atLeast(1.5));
+      assertThat(parser.parseRange(direct, Double.class)).isEqualTo(Range.atLeast(1.5));
+      assertThat(direct.position()).isZero();
+    }
 
-      RangeParser.Builder builder = RangeParser.builder().registerType(Point.class, Point::parse);
-      RangeParser p1 = builder.build();
-      RangeParser p2 = builder.build();
+    @Test
+    void readsAsciiBuffersWithoutArrayInPlace() {
+      List<Class<?>> sources = new ArrayList<>();
+      RegionTypeAdapter<Integer> adapter =
+          (s, start, end) -> {
+            sources.add(s.getClass());
+            return Integer.parseInt(s, start, end, 10);
+          };
+      RangeParser custom = RangeParser.builder().registerType(Integer.class, adapter).build();
+      byte[] bytes = "id=[1..2);".getBytes(StandardCharsets.UTF_8);
+      ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).position(3).limit(9);
+      ByteBuffer readOnly = ByteBuffer.wrap(bytes, 3, 6).asReadOnlyBuffer();
 
-      // Both parsers should work with custom AND built-in types
-      Range<Point> r1 = p1.parseRange("[0..100)", Point.class);
-      Range<Integer> r2 = p2.parseRange("[0..100)", Integer.class);
-      Range<Point> r3 = p2.parseRange("[50..200]", Point.class);
+      assertThat(custom.parseRange(direct, Integer.class)).isEqualTo(Range.closedOpen(1, 2));
+      assertThat(custom.parseRange(readOnly, Integer.class)).isEqualTo(Range.closedOpen(1, 2));
+      assertThat(sources).hasSize(4).containsOnly(AsciiBufferSequence.class);
+      assertThat(direct.position()).isEqualTo(3);
+      assertThat(direct.limit()).isEqualTo(9);
+    }
 
-      assertThat(r1).isEqualTo(Range.closedOpen(new Point(0), new Point(100)));
-      assertThat(r2).isEqualTo(Range.closedOpen(0, 100));
-      assertThat(r3).isEqualTo(Range.closed(new Point(50), new Point(200)));
+    @Test
+    void parsesNonAsciiBuffersWithoutArray() {
+      byte[] bytes = "[é..ü]".getBytes(StandardCharsets.UTF_8);
+      ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+
+      assertThat(parser.parseRange(direct, String.class)).isEqualTo(Range.closed("é", "ü"));
+      assertThat(parser.parseRange(ByteBuffer.wrap(bytes).asReadOnlyBuffer(), String.class))
+          .isEqualTo(Range.closed("é", "ü"));
     }
 
     @Test
-    void customAdapterCanOverrideBuiltIn() {
-      // Custom Integer adapter that doubles the value
-      TypeAdapter<Integer> doublingAdapter = s -> Integer.parseInt(s) * 2;
+    void rejectsOverLongBuffersWithoutArray() {
+      RangeParser limited = RangeParser.builder().maxInputLength(10).build();
+      ByteBuffer ascii = ByteBuffer.wrap("[0..100000]".getBytes(StandardCharsets.UTF_8));
+      byte[] wide = ("[€..€" + "€".repeat(100) + "]").getBytes(StandardCharsets.UTF_8);
+      ByteBuffer direct = ByteBuffer.allocateDirect(wide.length).put(wide).flip();
 
-      RangeParser parser =
-          RangeParser.builder().registerType(Integer.class, doublingAdapter).build();
+      RangeParseException e =
+          (RangeParseException)
+              catchThrowable(() -> limited.parseRange(ascii.asReadOnlyBuffer(), Integer.class));
+      assertThat(e.getReason()).isEqualTo(RangeParseError.INPUT_TOO_LONG);
+      assertThat(e.getInput()).isEqualTo("[0..100000]...");
+      assertThatThrownBy(() -> limited.parseRange(direct, String.class))
+          .isInstanceOf(RangeParseException.class)
+          .hasMessageContaining("Input exceeds maximum length of 10 characters");
+    }
 
-      // If override works, [5..10) should become [10..20)
-      Range<Integer> range = parser.parseRange("[5..10)", Integer.class);
-      assertThat(range).isEqualTo(Range.closedOpen(10, 20));
+    @Test
+    void handsAsciiEndpointsToRegionAdaptersWithoutDecoding() {
+      List<Class<?>> sources = new ArrayList<>();
+      RegionTypeAdapter<Integer> adapter =
+          (s, start, end) -> {
+            sources.add(s.getClass());
+            return Integer.parseInt(s, start, end, 10);
+          };
+      RangeParser custom = RangeParser.builder().registerType(Integer.class, adapter).build();
+      byte[] bytes = "(-∞..42]".getBytes(StandardCharsets.UTF_8);
+
+      assertThat(custom.parseRange(bytes, 0, bytes.length, Integer.class))
+          .isEqualTo(Range.atMost(42));
+      assertThat(sources).singleElement().isNotEqualTo(String.class);
+    }
+
+    @Test
+    void reportsSameErrorsAsStringParsing() {
+      byte[] bytes = "[∞..5]".getBytes(StandardCharsets.UTF_8);
+      assertThatThrownBy(() -> parser.parseRange(bytes, 0, bytes.length, Integer.class))
+          .isInstanceOf(RangeParseException.class)
+          .hasMessage(
+              catchThrowable(() -> RangeParser.parse("[∞..5]", Integer.class)).getMessage());
+    }
+
+    @Test
+    void reportsInvalidEndpointWithoutParsingTwice() {
+      List<String> parsed = new ArrayList<>();
+      RegionTypeAdapter<Integer> adapter =
+          (s, start, end) -> {
+            parsed.add(s.subSequence(start, end).toString());
+            return Integer.parseInt(s, start, end, 10);
+          };
+      RangeParser custom = RangeParser.builder().registerType(Integer.class, adapter).build();
+      byte[] bytes = "(-∞..4x2]".getBytes(StandardCharsets.UTF_8);
+
+      RangeParseException e =
+          (RangeParseException)
+              catchThrowable(() -> custom.parseRange(bytes, 0, bytes.length, Integer.class));
+
+      assertThat(parsed).containsExactly("4x2");
+      assertThat(e.getReason()).isEqualTo(RangeParseError.INVALID_VALUE);
+      assertThat(e.getInput()).isEqualTo("(-∞..4x2]");
+      assertThat(e).hasCauseInstanceOf(NumberFormatException.class);
+    }
+  }
+
+  @Nested
+  class PrimitiveBounds {
+
+    private final RangeParser parser = RangeParser.builder().build();
+
+    @Test
+    void parsesIntBounds() {
+      IntBounds bounds = parser.parseIntBounds("[0..100)");
+
+      assertThat(bounds)
+          .isEqualTo(new IntBounds(true, 0, BoundType.CLOSED, true, 100, BoundType.OPEN));
+      assertThat(bounds.contains(0)).isTrue();
+      assertThat(bounds.contains(100)).isFalse();
+      assertThat(bounds.toRange()).isEqualTo(Range.closedOpen(0, 100));
+    }
+
+    @Test
+    void parsesUnboundedLongBounds() {
+      LongBounds bounds = parser.parseLongBounds("(-∞..9999999999]");
+
+      assertThat(bounds.hasLowerBound()).isFalse();
+      assertThat(bounds.lowerBoundType()).isEqualTo(BoundType.OPEN);
+      assertThat(bounds.upperEndpoint()).isEqualTo(9999999999L);
+      assertThat(bounds.contains(Long.MIN_VALUE)).isTrue();
+      assertThat(bounds.toRange()).isEqualTo(Range.atMost(9999999999L));
+    }
+
+    @Test
+    void parsesDoubleBoundsFromRegion() {
+      DoubleBounds bounds = parser.parseDoubleBounds("price=(0.5..+inf)", 6, 17);
+
+      assertThat(bounds.lowerEndpoint()).isEqualTo(0.5);
+      assertThat(bounds.hasUpperBound()).isFalse();
+      assertThat(bounds.contains(0.5)).isFalse();
+      assertThat(bounds.toRange()).isEqualTo(Range.greaterThan(0.5));
+    }
+
+    @Test
+    void parsesAllBounds() {
+      assertThat(parser.parseIntBounds("(-∞..+∞)").toRange()).isEqualTo(Range.<Integer>all());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"[10..5]", "(5..5)", "[1..x)", "[0..2147483648]", "[-∞..5]", "0..5"})
+    void reportsSameErrorsAsBoxedParsing(String notation) {
+      String expected =
+          catchThrowable(() -> parser.parseRange(notation, Integer.class)).getMessage();
+
+      assertThatThrownBy(() -> parser.parseIntBounds(notation))
+          .isInstanceOf(RangeParseException.class)
+          .hasMessage(expected);
+    }
+  }
+
+  @Nested
+  class Caching {
+
+    @Test
+    void returnsCachedRangeForRepeatedInput() {
+      RangeParser parser = RangeParser.builder().cache(10).build();
+
+      Range<Integer> first = parser.parseRange("[0..100)", Integer.class);
+      Range<Integer> second = parser.parseRange("[0..100)", Integer.class);
+
+      assertThat(second).isSameAs(first);
+      assertThat(parser.cacheStats().hitCount()).isEqualTo(1);
+      assertThat(parser.cacheStats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    void keysOnElementType() {
+      RangeParser parser = RangeParser.builder().cache(10).build();
+
+      assertThat(parser.parseRange("[1..2]", Integer.class)).isEqualTo(Range.closed(1, 2));
+      assertThat(parser.parseRange("[1..2]", Long.class)).isEqualTo(Range.closed(1L, 2L));
+      assertThat(parser.cacheStats().hitCount()).isZero();
+    }
+
+    @Test
+    void evictsBeyondMaxEntries() {
+      RangeParser parser = RangeParser.builder().cache(1).build();
+
+      parser.parseRange("[1..2]", Integer.class);
+      parser.parseRange("[3..4]", Integer.class);
+
+      assertThat(parser.cacheStats().evictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void uncachedParsingBypassesCache() {
+      RangeParser parser = RangeParser.builder().cache(10).build();
+
+      parser.parseRangeUncached("[1..2]", Integer.class);
+      parser.parseRangeUncached("[1..2]", Integer.class);
+
+      assertThat(parser.cacheStats().requestCount()).isZero();
+    }
+
+    @Test
+    void doesNotCacheFailures() {
+      RangeParser parser = RangeParser.builder().cache(10).build();
+
+      assertThatThrownBy(() -> parser.parseRange("[x..y]", Integer.class))
+          .isInstanceOf(RangeParseException.class);
+      assertThatThrownBy(() -> parser.parseRange("[x..y]", Integer.class))
+          .isInstanceOf(RangeParseException.class);
+      assertThat(parser.cacheStats().hitCount()).isZero();
+    }
+
+    @Test
+    void reportsEmptyStatsWithoutCache() {
+      RangeParser parser = RangeParser.builder().build();
+      parser.parseRange("[1..2]", Integer.class);
+
+      assertThat(parser.cacheStats().requestCount()).isZero();
+    }
+
+    @Test
+    void rejectsNegativeMaxEntries() {
+      assertThatThrownBy(() -> RangeParser.builder().cache(-1))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  class TryParse {
+
+    private final RangeParser parser = RangeParser.builder().build();
+
+    @Test
+    void returnsRangeOnSuccess() {
+      RangeParseResult<Integer> result = parser.tryParse("[0..100)", Integer.class);
+
+      assertThat(result.isSuccess()).isTrue();
+      assertThat(result.range()).isEqualTo(Range.closedOpen(0, 100));
+      assertThat(result.error()).isNull();
+      assertThat(result.errorOffset()).isEqualTo(-1);
+    }
+
+    @Test
+    void parsesUnboundedRanges() {
+      assertThat(parser.tryParse("(-∞..+∞)", Integer.class).range()).isEqualTo(Range.all());
+      assertThat(parser.tryParse("(-∞..5]", Integer.class).range()).isEqualTo(Range.atMost(5));
+      assertThat(parser.tryParse("(5..+∞)", Integer.class).range()).isEqualTo(Range.greaterThan(5));
+    }
+
+    @Test
+    void reportsEmptyInput() {
+      RangeParseResult<Integer> result = parser.tryParse("  ", Integer.class);
+
+      assertThat(result.isSuccess()).isFalse();
+      assertThat(result.error()).isEqualTo(RangeParseError.EMPTY_INPUT);
+      assertThat(result.errorOffset()).isZero();
+    }
+
+    @Test
+    void reportsInputTooLong() {
+      RangeParseResult<Integer> result =
+          parser.tryParse("[" + "1".repeat(1000) + "..2]", Integer.class);
+
+      assertThat(result.error()).isEqualTo(RangeParseError.INPUT_TOO_LONG);
+    }
+
+    @Test
+    void reportsInvalidFormatWithOffset() {
+      assertThat(parser.tryParse("[0..100", Integer.class).errorOffset()).isEqualTo(6);
+      assertThat(parser.tryParse("[0;100]", Integer.class).error())
+          .isEqualTo(RangeParseError.INVALID_FORMAT);
+      assertThat(parser.tryParse("{0..100]", Integer.class).errorOffset()).isZero();
+    }
+
+    @Test
+    void reportsClosedInfinity() {
+      assertThat(parser.tryParse("[-∞..5]", Integer.class).error())
+          .isEqualTo(RangeParseError.CLOSED_NEGATIVE_INFINITY);
+      RangeParseResult<Integer> result = parser.tryParse("[5..+∞]", Integer.class);
+      assertThat(result.error()).isEqualTo(RangeParseError.CLOSED_POSITIVE_INFINITY);
+      assertThat(result.errorOffset()).isEqualTo(6);
+    }
+
+    @Test
+    void reportsMissingTypeAdapter() {
+      assertThat(parser.tryParse("[a..b]", UUID.class).error())
+          .isEqualTo(RangeParseError.NO_TYPE_ADAPTER);
+    }
+
+    @Test
+    void reportsInvalidValueAtEndpointOffset() {
+      RangeParseResult<Integer> lower = parser.tryParse("[x..10]", Integer.class);
+      RangeParseResult<Integer> upper = parser.tryParse("[0..99999999999]", Integer.class);
+
+      assertThat(lower.error()).isEqualTo(RangeParseError.INVALID_VALUE);
+      assertThat(lower.errorOffset()).isEqualTo(1);
+      assertThat(upper.error()).isEqualTo(RangeParseError.INVALID_VALUE);
+      assertThat(upper.errorOffset()).isEqualTo(4);
+    }
+
+    @Test
+    void reportsInvalidTemporalValue() {
+      assertThat(parser.tryParse("[2024-02-30..2024-03-01]", LocalDate.class).error())
+          .isEqualTo(RangeParseError.INVALID_VALUE);
+      assertThat(parser.tryParse("[2024-01-01..tomorrow]", LocalDate.class).errorOffset())
+          .isEqualTo(13);
+    }
+
+    @Test
+    void reportsOutOfRangeOffset() {
+      String input = "[2024-01-01T00:00-25:00..2024-01-02T00:00Z]";
+
+      RangeParseResult<OffsetDateTime> result = parser.tryParse(input, OffsetDateTime.class);
+
+      assertThat(result.error()).isEqualTo(RangeParseError.INVALID_VALUE);
+      assertThat(result.errorOffset()).isEqualTo(1);
+      assertThat(parser.isValid(input, OffsetDateTime.class)).isFalse();
+    }
+
+    @Test
+    void reportsLowerGreaterThanUpper() {
+      assertThat(parser.tryParse("[10..5]", Integer.class).error())
+          .isEqualTo(RangeParseError.LOWER_GREATER_THAN_UPPER);
+    }
+
+    @Test
+    void reportsEmptyOpenRange() {
+      assertThat(parser.tryParse("(5..5)", Integer.class).error())
+          .isEqualTo(RangeParseError.EMPTY_OPEN_RANGE);
+      assertThat(parser.tryParse("[5..5)", Integer.class).range())
+          .isEqualTo(Range.closedOpen(5, 5));
+    }
+
+    @Test
+    void usesNonThrowingContractOfCustomAdapters() {
+      RangeParser custom =
+          RangeParser.builder()
+              .registerType(
+                  BigDecimal.class,
+                  new RegionTypeAdapter<BigDecimal>() {
+                    @Override
+                    public BigDecimal parse(CharSequence source, int start, int end) {
+                      throw new AssertionError("tryParse must be used");
+                    }
+
+                    @Override
+                    public BigDecimal tryParse(CharSequence source, int start, int end) {
+                      return end - start == 1 ? BigDecimal.ONE : null;
+                    }
+                  })
+              .build();
+
+      assertThat(custom.tryParse("[1..2]", BigDecimal.class).isSuccess()).isTrue();
+      assertThat(custom.tryParse("[1..22]", BigDecimal.class).error())
+          .isEqualTo(RangeParseError.INVALID_VALUE);
+    }
+
+    @Test
+    void reportsOffsetsRelativeToRegion() {
+      RangeParseResult<Integer> result = parser.tryParse("id=[x..1]", 3, 9, Integer.class);
+
+      assertThat(result.errorOffset()).isEqualTo(1);
+      assertThat(parser.tryParse("id=[0..1]", 3, 9, Integer.class).range())
+          .isEqualTo(Range.closed(0, 1));
+    }
+
+    @Test
+    void throwsWhenAccessingRangeOfFailure() {
+      assertThatThrownBy(() -> parser.tryParse("[x..1]", Integer.class).range())
+          .isInstanceOf(NoSuchElementException.class)
+          .hasMessage("Parsing failed with INVALID_VALUE at 1");
+    }
+
+    @Test
+    void cachesOnlySuccessfulResults() {
+      RangeParser cached = RangeParser.builder().cache(10).build();
+
+      Range<Integer> parsed = cached.parseRange("[1..2]", Integer.class);
+      assertThat(cached.tryParse("[1..2]", Integer.class).range()).isSameAs(parsed);
+      cached.tryParse("[x..2]", Integer.class);
+      cached.tryParse("[x..2]", Integer.class);
+
+      assertThat(cached.cacheStats().hitCount()).isEqualTo(1);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"[0..100)", "(-∞..+∞)", "[-5..5]", "(0..1]"})
+    void isValidForValidInput(String input) {
+      assertThat(parser.isValid(input, Integer.class)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "[0..100", "[a..b]", "[10..1]", "(1..1)", "[-∞..1]", "[+1..-]"})
+    void isNotValidForInvalidInput(String input) {
+      assertThat(parser.isValid(input, Integer.class)).isFalse();
+    }
+  }
+
+  @Nested
+  class BatchParsing {
+
+    @Test
+    void returnsResultsInInputOrder() {
+      List<RangeParseResult<Integer>> results =
+          RangeParser.builder()
+              .build()
+              .parseAll(List.of("[0..1]", "[x..1]", "(5..+∞)"), Integer.class);
+
+      assertThat(results).hasSize(3);
+      assertThat(results.get(0).range()).isEqualTo(Range.closed(0, 1));
+      assertThat(results.get(1).error()).isEqualTo(RangeParseError.INVALID_VALUE);
+      assertThat(results.get(2).range()).isEqualTo(Range.greaterThan(5));
+    }
+
+    @Test
+    void parsesLargeBatchInParallel() {
+      RangeParser parser = RangeParser.builder().parallelThreshold(100).build();
+      List<String> inputs = new ArrayList<>();
+      for (int i = 0; i < 10_000; i++) {
+        inputs.add(i % 10 == 0 ? "[" + i + "..0]" : "[" + i + ".." + (i + 1) + ")");
+      }
+
+      List<RangeParseResult<Integer>> results = parser.parseAll(inputs, Integer.class);
+
+      assertThat(results).hasSize(inputs.size());
+      for (int i = 0; i < inputs.size(); i++) {
+        if (i % 10 == 0 && i > 0) {
+          assertThat(results.get(i).error()).isEqualTo(RangeParseError.LOWER_GREATER_THAN_UPPER);
+        } else if (i > 0) {
+          assertThat(results.get(i).range()).isEqualTo(Range.closedOpen(i, i + 1));
+        }
+      }
+    }
+
+    @Test
+    void runsChunksOnGivenExecutor() {
+      RangeParser parser = RangeParser.builder().parallelThreshold(1).build();
+      List<Runnable> tasks = new ArrayList<>();
+      CharSequence[] inputs = new CharSequence[5000];
+      Arrays.fill(inputs, CharBuffer.wrap("[1..2]"));
+
+      List<RangeParseResult<Integer>> results =
+          parser.parseAll(
+              inputs,
+              Integer.class,
+              task -> {
+                tasks.add(task);
+                task.run();
+              });
+
+      assertThat(tasks).hasSizeGreaterThan(1);
+      assertThat(results).allSatisfy(r -> assertThat(r.range()).isEqualTo(Range.closed(1, 2)));
+    }
+
+    @Test
+    void parsesSmallBatchOnCallingThread() {
+      RangeParser parser = RangeParser.builder().build();
+
+      List<RangeParseResult<Integer>> results =
+          parser.parseAll(
+              new String[] {"[1..2]"},
+              Integer.class,
+              task -> {
+                throw new AssertionError("small batches must not be handed off");
+              });
+
+      assertThat(results).singleElement().satisfies(r -> assertThat(r.isSuccess()).isTrue());
+    }
+
+    @Test
+    void rejectsNullElements() {
+      RangeParser parser = RangeParser.builder().parallelThreshold(1).build();
+
+      assertThatThrownBy(() -> parser.parseAll(Arrays.asList("[1..2]", null), Integer.class))
+          .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void returnsUnmodifiableList() {
+      List<RangeParseResult<Integer>> results =
+          RangeParser.builder().build().parseAll(List.of("[1..2]"), Integer.class);
+
+      assertThatThrownBy(() -> results.set(0, null))
+          .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void rejectsNonPositiveThreshold() {
+      assertThatThrownBy(() -> RangeParser.builder().parallelThreshold(0))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  class LineStreaming {
+
+    @TempDir Path tempDir;
+
+    private final RangeParser parser = RangeParser.builder().build();
+
+    @Test
+    void parsesLinesFromReader() {
+      Stream<Range<Integer>> ranges =
+          parser.parseLines(new StringReader("[0..1]\r\n\n(-∞..5)\n[2..+∞)"), Integer.class);
+
+      assertThat(ranges).containsExactly(Range.closed(0, 1), Range.lessThan(5), Range.atLeast(2));
+    }
+
+    @Test
+    void parsesLinesAcrossBufferBoundaries() {
+      StringBuilder input = new StringBuilder();
+      for (int i = 0; i < 10_000; i++) {
+        input.append('[').append(i).append("..").append(i + 1).append(")\n");
+      }
+
+      List<Range<Integer>> ranges =
+          parser.parseLines(new StringReader(input.toString()), Integer.class).toList();
+
+      assertThat(ranges).hasSize(10_000);
+      assertThat(ranges.get(9_999)).isEqualTo(Range.closedOpen(9_999, 10_000));
+    }
+
+    @Test
+    void parsesCustomDelimitedInputStream() {
+      ByteArrayInputStream in =
+          new ByteArrayInputStream("[a..b];(c..∞)".getBytes(StandardCharsets.UTF_8));
+
+      assertThat(RangeParser.builder().lenient(true).build().parseLines(in, ';', String.class))
+          .containsExactly(Range.closed("a", "b"), Range.greaterThan("c"));
+    }
+
+    @Test
+    void throwsForInvalidLine() {
+      Stream<Range<Integer>> ranges =
+          parser.parseLines(new StringReader("[0..1]\n[x..1]\n"), Integer.class);
+
+      assertThatThrownBy(ranges::toList)
+          .isInstanceOf(RangeParseException.class)
+          .hasMessageContaining("Failed to parse range value");
+    }
+
+    @Test
+    void parsesFile() throws IOException {
+      Path file = tempDir.resolve("ranges.txt");
+      Files.writeString(file, "[0..1]\r\n(-∞..+∞)\n\n[5..7)");
+
+      try (Stream<Range<Integer>> ranges = parser.parseLines(file, Integer.class)) {
+        assertThat(ranges).containsExactly(Range.closed(0, 1), Range.all(), Range.closedOpen(5, 7));
+      }
+    }
+
+    @Test
+    void splitsLargeFileForParallelStreams() throws IOException {
+      Path file = tempDir.resolve("large.txt");
+      List<String> lines = new ArrayList<>();
+      List<Range<Long>> expected = new ArrayList<>();
+      for (long i = 0; i < 200_000; i++) {
+        lines.add(i % 7 == 0 ? "(-∞.." + i + "]" : "[" + i + ".." + (i * 3) + "]");
+        expected.add(i % 7 == 0 ? Range.atMost(i) : Range.closed(i, i * 3));
+      }
+      Files.write(file, lines);
+
+      try (Stream<Range<Long>> ranges = parser.parseLines(file, Long.class)) {
+        Spliterator<Range<Long>> spliterator = ranges.spliterator();
+        assertThat(spliterator.trySplit()).isNotNull();
+      }
+      try (Stream<Range<Long>> ranges = parser.parseLines(file, Long.class)) {
+        assertThat(ranges.parallel().toList()).isEqualTo(expected);
+      }
+    }
+
+    @Test
+    void rejectsNonAsciiFileDelimiter() {
+      assertThatThrownBy(() -> parser.parseLines(tempDir.resolve("x"), '∞', Integer.class))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  class ExceptionReasons {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"[0..100", "[0;100]"})
+    void reportsInvalidFormat(String input) {
+      assertReason(RangeParser.builder().build(), input, RangeParseError.INVALID_FORMAT);
+    }
+
+    @Test
+    void reportsReasonForEachFailure() {
+      RangeParser parser = RangeParser.builder().build();
+
+      assertReason(parser, " ", RangeParseError.EMPTY_INPUT);
+      assertReason(parser, "[" + "1".repeat(1000) + "..2]", RangeParseError.INPUT_TOO_LONG);
+      assertReason(parser, "[-∞..1]", RangeParseError.CLOSED_NEGATIVE_INFINITY);
+      assertReason(parser, "[1..+∞]", RangeParseError.CLOSED_POSITIVE_INFINITY);
+      assertReason(parser, "[x..1]", RangeParseError.INVALID_VALUE);
+      assertReason(parser, "[10..1]", RangeParseError.LOWER_GREATER_THAN_UPPER);
+      assertReason(parser, "(1..1)", RangeParseError.EMPTY_OPEN_RANGE);
+    }
+
+    @Test
+    void reportsMissingTypeAdapter() {
+      RangeParseException e =
+          (RangeParseException)
+              catchThrowable(() -> RangeParser.parse("[a..b]", UUID.class));
+
+      assertThat(e.getReason()).isEqualTo(RangeParseError.NO_TYPE_ADAPTER);
+    }
+
+    @Test
+    void capturesStackTraceByDefault() {
+      Throwable e = catchThrowable(() -> RangeParser.parse("[x..1]", Integer.class));
+
+      assertThat(e.getStackTrace()).isNotEmpty();
+    }
+
+    @Test
+    void lightweightExceptionsHaveNoStackTrace() {
+      RangeParser parser = RangeParser.builder().lightweightExceptions(true).build();
+
+      Throwable e = catchThrowable(() -> parser.parseRange("[10..1]", Integer.class));
+
+      assertThat(e).isInstanceOf(RangeParseException.class);
+      assertThat(e.getStackTrace()).isEmpty();
+    }
+
+    @Test
+    void lightweightExceptionsKeepMessageAndCause() {
+      RangeParser parser = RangeParser.builder().lightweightExceptions(true).build();
+
+      Throwable lightweight = catchThrowable(() -> parser.parseRange("[x..1]", Integer.class));
+      Throwable regular = catchThrowable(() -> RangeParser.parse("[x..1]", Integer.class));
+
+      assertThat(lightweight).hasMessage(regular.getMessage());
+      assertThat(lightweight.getCause()).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void defaultsToInvalidValueForAdapterExceptions() {
+      RangeParseException e = new RangeParseException("bad", "x", 0);
+
+      assertThat(e.getReason()).isEqualTo(RangeParseError.INVALID_VALUE);
+      assertThat(e.getStackTrace()).isNotEmpty();
+    }
+
+    private void assertReason(RangeParser parser, String input, RangeParseError reason) {
+      assertThatThrownBy(() -> parser.parseRange(input, Integer.class))
+          .isInstanceOfSatisfying(
+              RangeParseException.class, e -> assertThat(e.getReason()).isEqualTo(reason));
+    }
+  }
+
+  @Nested
+  class Whitespace {
+
+    @Test
+    void trimsWhitespace() {
+      Range<Integer> range = RangeParser.parse("  [0..100)  ", Integer.class);
+      assertThat(range).isEqualTo(Range.closedOpen(0, 100));
+    }
+
+    @Test
+    void handlesWhitespaceAroundEndpoints() {
+      Range<Integer> range = RangeParser.parse("[ 0 .. 100 )", Integer.class);
+      assertThat(range).isEqualTo(Range.closedOpen(0, 100));
+    }
+
+    @Test
+    void handlesWhitespaceAroundInfinity() {
+      Range<Integer> range = RangeParser.parse("(\t-∞ .. +inf )", Integer.class);
+      assertThat(range).isEqualTo(Range.all());
+    }
+
+    @Test
+    void splitsOnFirstSeparator() {
+      Range<String> range = RangeParser.parse("[a..b..c]", String.class);
+      assertThat(range).isEqualTo(Range.closed("a", "b..c"));
+    }
+
+    @Test
+    void passesInfinityLookalikesToAdapter() {
+      Range<String> range = RangeParser.parse("[-Inf..infinity]", String.class);
+      assertThat(range).isEqualTo(Range.closed("-Inf", "infinity"));
+    }
+  }
+
+  @Nested
+  class AdapterResolution {
+
+    enum Level {
+      LOW,
+      MEDIUM,
+      HIGH
+    }
+
+    interface Version extends Comparable<Version> {
+      int major();
+
+      @Override
+      default int compareTo(Version other) {
+        return Integer.compare(major(), other.major());
+      }
+    }
+
+    record Release(int major) implements Version {}
+
+    record Snapshot(int major) implements Version {}
+
+    static class Temperature implements Comparable<Temperature> {
+      final int degrees;
+
+      Temperature(int degrees) {
+        this.degrees = degrees;
+      }
+
+      @Override
+      public int compareTo(Temperature other) {
+        return Integer.compare(degrees, other.degrees);
+      }
+
+      @Override
+      public boolean equals(Object o) {
+        return o instanceof Temperature t && t.degrees == degrees;
+      }
+
+      @Override
+      public int hashCode() {
+        return degrees;
+      }
+    }
+
+    static final class Celsius extends Temperature {
+      Celsius(int degrees) {
+        super(degrees);
+      }
+    }
+
+    @Test
+    void parsesEnumsByConstantName() {
+      RangeParser parser = RangeParser.builder().build();
+
+      assertThat(parser.parseRange("[LOW..HIGH)", Level.class))
+          .isEqualTo(Range.closedOpen(Level.LOW, Level.HIGH));
+      assertThat(parser.parseRange("[MEDIUM..+∞)", Level.class))
+          .isEqualTo(Range.atLeast(Level.MEDIUM));
+      assertThatThrownBy(() -> parser.parseRange("[low..HIGH]", Level.class))
+          .isInstanceOf(RangeParseException.class)
+          .hasMessageContaining("No enum constant");
+      assertThat(parser.tryParse("[LOW..EXTREME]", Level.class).error())
+          .isEqualTo(RangeParseError.INVALID_VALUE);
+    }
+
+    @Test
+    void usesAdapterOfSuperclass() {
+      RangeParser parser =
+          RangeParser.builder()
+              .registerType(Temperature.class, s -> new Celsius(Integer.parseInt(s)))
+              .build();
+
+      Range<Celsius> range = parser.parseRange("[-10..30]", Celsius.class);
+
+      assertThat(range).isEqualTo(Range.closed(new Celsius(-10), new Celsius(30)));
+      assertThat(range.lowerEndpoint()).isInstanceOf(Celsius.class);
+    }
+
+    @Test
+    void usesAdapterOfInterface() {
+      RangeParser parser =
+          RangeParser.builder()
+              .registerType(Version.class, s -> new Release(Integer.parseInt(s)))
+              .build();
+
+      assertThat(parser.parseRange("[1..3)", Release.class))
+          .isEqualTo(Range.closedOpen(new Release(1), new Release(3)));
+    }
+
+    @Test
+    void rejectsValuesOfOtherSubtypes() {
+      RangeParser parser =
+          RangeParser.builder()
+              .registerType(Version.class, s -> new Release(Integer.parseInt(s)))
+              .build();
+
+      assertThatThrownBy(() -> parser.parseRange("[1..3)", Snapshot.class))
+          .isInstanceOf(RangeParseException.class)
+          .hasMessageContaining("Expected");
+      assertThat(parser.tryParse("[1..3)", Snapshot.class).error())
+          .isEqualTo(RangeParseError.INVALID_VALUE);
+    }
+
+    @Test
+    void exactRegistrationWinsOverSupertype() {
+      RangeParser parser =
+          RangeParser.builder()
+              .registerType(Version.class, s -> new Release(Integer.parseInt(s)))
+              .registerType(Release.class, s -> new Release(Integer.parseInt(s) * 10))
+              .build();
+
+      assertThat(parser.parseRange("[1..2]", Release.class))
+          .isEqualTo(Range.closed(new Release(10), new Release(20)));
+    }
+
+    @Test
+    void resolutionIsPerParser() {
+      RangeParser withAdapter =
+          RangeParser.builder()
+              .registerType(Version.class, s -> new Release(Integer.parseInt(s)))
+              .build();
+      RangeParser plain = RangeParser.builder().build();
+
+      assertThat(withAdapter.isValid("[1..2]", Release.class)).isTrue();
+      assertThatThrownBy(() -> plain.parseRange("[1..2]", Release.class))
+          .isInstanceOf(RangeParseException.class);
+    }
+  }
+
+  @Nested
+  class BuilderReuse {
+
+    @Test
+    void builderCanBeReusedMultipleTimes() {
+      RangeParser.Builder builder = RangeParser.builder().lenient(true);
+      RangeParser p1 = builder.build();
+      RangeParser p2 = builder.build();
+
+      // Both parsers should have built-in adapters
+      Range<Integer> r1 = p1.parseRange("[0..100)", Integer.class);
+      Range<Integer> r2 = p2.parseRange("[0..100)", Integer.class);
+
+      assertThat(r1).isEqualTo(Range.closedOpen(0, 100));
+      assertThat(r2).isEqualTo(Range.closedOpen(0, 100));
+    }
+
+    @Test
+    void builderReusedWithCustomAdapters() {
+      record Point(int x) implements Comparable<Point> {
+        static Point parse(String s) {
+          return new Point(Integer.parseInt(s));
+        }
+
+        @Override
+        public int compareTo(Point other) {
+          return Integer.compare(this.x, other.x);
+        }
+      }
+
+      RangeParser.Builder builder = RangeParser.builder().registerType(Point.class, Point::parse);
+      RangeParser p1 = builder.build();
+      RangeParser p2 = builder.build();
+
+      // Both parsers should work with custom AND built-in types
+      Range<Point> r1 = p1.parseRange("[0..100)", Point.class);
+      Range<Integer> r2 = p2.parseRange("[0..100)", Integer.class);
+      Range<Point> r3 = p2.parseRange("[50..200]", Point.class);
+
+      assertThat(r1).isEqualTo(Range.closedOpen(new Point(0), new Point(100)));
+      assertThat(r2).isEqualTo(Range.closedOpen(0, 100));
+      assertThat(r3).isEqualTo(Range.closed(new Point(50), new Point(200)));
+    }
+
+    @Test
+    void customAdapterCanOverrideBuiltIn() {
+      // Custom Integer adapter that doubles the value
+      TypeAdapter<Integer> doublingAdapter = s -> Integer.parseInt(s) * 2;
+
+      RangeParser parser =
+          RangeParser.builder().registerType(Integer.class, doublingAdapter).build();
+
+      // If override works, [5..10) should become [10..20)
+      Range<Integer> range = parser.parseRange("[5..10)", Integer.class);
+      assertThat(range).isEqualTo(Range.closedOpen(10, 20));
+    }
+
+    @Test
+    void overrideDoesNotLeakIntoSharedBuiltIns() {
+      TypeAdapter<Integer> doublingAdapter = s -> Integer.parseInt(s) * 2;
+      RangeParser custom =
+          RangeParser.builder().registerType(Integer.class, doublingAdapter).build();
+      RangeParser plain = RangeParser.builder().build();
+
+      assertThat(custom.parseRange("[5..10)", Integer.class)).isEqualTo(Range.closedOpen(10, 20));
+      assertThat(plain.parseRange("[5..10)", Integer.class)).isEqualTo(Range.closedOpen(5, 10));
+      assertThat(BuiltInTypeAdapters.REGISTRY.get(Integer.class))
+          .isSameAs(BuiltInTypeAdapters.INTEGER);
+    }
+
+    @Test
+    void temporalAdaptersResolveOnFirstUse() throws Exception {
+      String holder = BuiltInTypeAdapters.class.getName() + "$Temporal";
+      // Other tests have long initialized the holder in this class loader, so load a fresh copy of
+      // the library; a class that is not even loaded cannot have been initialized
+      try (CoreClassLoader loader = new CoreClassLoader()) {
+        Class<?> parserType = loader.loadClass(RangeParser.class.getName());
+        Object builder = parserType.getMethod("builder").invoke(null);
+        Object parser = builder.getClass().getMethod("build").invoke(builder);
+        Method parseRange = parserType.getMethod("parseRange", String.class, Class.class);
+
+        assertThat(parseRange.invoke(parser, "[0..100)", Integer.class))
+            .isEqualTo(Range.closedOpen(0, 100));
+        assertThat(loader.loaded)
+            .contains(BuiltInTypeAdapters.class.getName())
+            .doesNotContain(holder);
+
+        assertThat(parseRange.invoke(parser, "[2024-01-01T00:00:00Z..+∞)", Instant.class))
+            .isEqualTo(Range.atLeast(Instant.parse("2024-01-01T00:00:00Z")));
+        assertThat(loader.loaded).contains(holder);
+      }
+    }
+
+    /** Loads the library's classes itself, rather than from its parent, and records them. */
+    private static final class CoreClassLoader extends URLClassLoader {
+      private static final String PACKAGE = RangeParser.class.getPackageName() + '.';
+
+      final Set<String> loaded = ConcurrentHashMap.newKeySet();
+
+      CoreClassLoader() {
+        super(
+            new URL[] {RangeParser.class.getProtectionDomain().getCodeSource().getLocation()},
+            RangeParser.class.getClassLoader());
+      }
+
+      @Override
+      protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (!name.startsWith(PACKAGE)) {
+          return super.loadClass(name, resolve);
+        }
+        synchronized (getClassLoadingLock(name)) {
+          Class<?> type = findLoadedClass(name);
+          if (type == null) {
+            type = findClass(name);
+            loaded.add(name);
+          }
+          return type;
+        }
+      }
     }
   }
 }
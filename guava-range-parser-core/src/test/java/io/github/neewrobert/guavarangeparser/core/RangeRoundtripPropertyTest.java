@@ -1,6 +1,7 @@
 package io.github.neewrobert.guavarangeparser.core;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.google.common.collect.Range;
 import java.math.BigDecimal;
@@ -10,6 +11,10 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.util.Random;
+import java.util.function.Function;
 import net.jqwik.api.Arbitraries;
 import net.jqwik.api.Arbitrary;
 import net.jqwik.api.Combinators;
@@ -30,6 +35,8 @@ class RangeRoundtripPropertyTest {
 
   private final RangeParser parser = RangeParser.builder().build();
   private final RangeFormatter formatter = RangeFormatter.builder().build();
+  private final RangeFormatter shortestFormatter =
+      RangeFormatter.builder().shortestFloatingPoint(true).build();
 
   // ==========================================================================
   // Integer Ranges
@@ -155,6 +162,76 @@ class RangeRoundtripPropertyTest {
     return Arbitraries.doubles().between(-1e6, 1e6).filter(Double::isFinite);
   }
 
+  @Property(tries = 10_000)
+  void doubleAdapterMatchesJdk(@ForAll("decimalNotations") String notation) {
+    assertSameAsJdk(notation, BuiltInTypeAdapters.DOUBLE, Double::valueOf);
+  }
+
+  @Property(tries = 10_000)
+  void floatAdapterMatchesJdk(@ForAll("decimalNotations") String notation) {
+    assertSameAsJdk(notation, BuiltInTypeAdapters.FLOAT, Float::valueOf);
+  }
+
+  /**
+   * Decimal notation: shortest representations of arbitrary doubles and floats, exact midpoints
+   * between neighboring values, and long digit strings with large exponents.
+   */
+  @Provide
+  Arbitrary<String> decimalNotations() {
+    return Arbitraries.randomValue(
+        random ->
+            switch (random.nextInt(4)) {
+              case 0 -> Double.toString(Double.longBitsToDouble(random.nextLong()));
+              case 1 -> Float.toString(Float.intBitsToFloat(random.nextInt()));
+              case 2 -> {
+                double value = Math.abs(Double.longBitsToDouble(random.nextLong()));
+                if (!Double.isFinite(value) || value == Double.MAX_VALUE) {
+                  value = random.nextDouble();
+                }
+                yield new BigDecimal(value)
+                    .add(new BigDecimal(Math.nextUp(value)))
+                    .divide(BigDecimal.valueOf(2))
+                    .toString();
+              }
+              default -> {
+                StringBuilder s = new StringBuilder();
+                appendSign(random, s);
+                random.ints(1 + random.nextInt(30), 0, 10).forEach(s::append);
+                if (random.nextBoolean()) {
+                  s.append('.');
+                  random.ints(random.nextInt(30), 0, 10).forEach(s::append);
+                }
+                if (random.nextBoolean()) {
+                  s.append(anyCase(random, 'E')).append(random.nextInt(800) - 400);
+                }
+                yield s.toString();
+              }
+            });
+  }
+
+  @Property
+  void shortestDoubleRoundtrip(@ForAll long bits) {
+    double value = Double.longBitsToDouble(bits);
+    if (!Double.isNaN(value)) {
+      assertShortestRoundtrip(Range.singleton(value), Double.class);
+    }
+  }
+
+  @Property
+  void shortestFloatRoundtrip(@ForAll int bits) {
+    float value = Float.intBitsToFloat(bits);
+    if (!Float.isNaN(value)) {
+      assertShortestRoundtrip(Range.singleton(value), Float.class);
+    }
+  }
+
+  @Property
+  void shortestDoubleIsNoLongerThanToString(@ForAll("finiteDoubles") double value) {
+    String shortest = shortestFormatter.format(Range.singleton(value));
+    assertThat(shortest.length())
+        .isLessThanOrEqualTo(formatter.format(Range.singleton(value)).length());
+  }
+
   // ==========================================================================
   // BigInteger Ranges
   // ==========================================================================
@@ -216,6 +293,50 @@ class RangeRoundtripPropertyTest {
         .map(Duration::ofSeconds);
   }
 
+  @Property(tries = 10_000)
+  void durationAdapterMatchesJdk(@ForAll("durationNotations") String notation) {
+    assertSameAsJdk(notation, BuiltInTypeAdapters.DURATION, Duration::parse);
+  }
+
+  /**
+   * Notation from the Duration grammar, with long numbers and corruption thrown in, including
+   * control chars such as {@code \f} and U+000E, which turn into {@code ','} and {@code '.'} when
+   * 0x20 is OR-ed in.
+   */
+  @Provide
+  Arbitrary<String> durationNotations() {
+    return Arbitraries.randomValue(
+        random -> {
+          StringBuilder s = new StringBuilder();
+          appendSign(random, s);
+          s.append(anyCase(random, 'P'));
+          if (random.nextBoolean()) {
+            appendNumber(random, s);
+            s.append(anyCase(random, 'D'));
+          }
+          if (random.nextInt(5) > 0) {
+            s.append(anyCase(random, 'T'));
+            for (char unit : new char[] {'H', 'M', 'S'}) {
+              if (random.nextBoolean()) {
+                appendNumber(random, s);
+                if (unit == 'S' && random.nextBoolean()) {
+                  s.append(".,.,\f\u000E".charAt(random.nextInt(6)));
+                  random.ints(random.nextInt(11), 0, 10).forEach(s::append);
+                }
+                s.append(anyCase(random, unit));
+              }
+            }
+          }
+          if (random.nextInt(10) == 0) {
+            s.deleteCharAt(random.nextInt(s.length()));
+          }
+          if (!s.isEmpty() && random.nextInt(10) == 0) {
+            s.setCharAt(random.nextInt(s.length()), (char) random.nextInt(0x20));
+          }
+          return s.toString();
+        });
+  }
+
   // ==========================================================================
   // LocalDate Ranges
   // ==========================================================================
@@ -295,6 +416,132 @@ class RangeRoundtripPropertyTest {
         .map(Instant::ofEpochSecond);
   }
 
+  // ==========================================================================
+  // ISO-8601 Date-Time Notation
+  // ==========================================================================
+
+  @Property(tries = 10_000)
+  void localDateAdapterMatchesJdk(@ForAll("dateTimeNotations") String notation) {
+    assertSameAsJdk(notation, BuiltInTypeAdapters.LOCAL_DATE, LocalDate::parse);
+  }
+
+  @Property(tries = 10_000)
+  void localTimeAdapterMatchesJdk(@ForAll("timeNotations") String notation) {
+    assertSameAsJdk(notation, BuiltInTypeAdapters.LOCAL_TIME, LocalTime::parse);
+  }
+
+  @Property(tries = 10_000)
+  void localDateTimeAdapterMatchesJdk(@ForAll("dateTimeNotations") String notation) {
+    assertSameAsJdk(notation, BuiltInTypeAdapters.LOCAL_DATE_TIME, LocalDateTime::parse);
+  }
+
+  @Property(tries = 10_000)
+  void instantAdapterMatchesJdk(@ForAll("dateTimeNotations") String notation) {
+    assertSameAsJdk(notation, BuiltInTypeAdapters.INSTANT, Instant::parse);
+  }
+
+  @Property(tries = 10_000)
+  void offsetDateTimeAdapterMatchesJdk(@ForAll("dateTimeNotations") String notation) {
+    assertSameAsJdk(notation, BuiltInTypeAdapters.OFFSET_DATE_TIME, OffsetDateTime::parse);
+  }
+
+  @Property(tries = 10_000)
+  void zonedDateTimeAdapterMatchesJdk(@ForAll("dateTimeNotations") String notation) {
+    assertSameAsJdk(notation, BuiltInTypeAdapters.ZONED_DATE_TIME, ZonedDateTime::parse);
+  }
+
+  /**
+   * Dates, optionally followed by a time, an offset and a zone, with out-of-range fields, lenient
+   * offsets, offset-based and unknown zone ids, and corruption thrown in.
+   */
+  @Provide
+  Arbitrary<String> dateTimeNotations() {
+    return Arbitraries.randomValue(
+        random -> {
+          StringBuilder s = new StringBuilder();
+          if (random.nextInt(20) == 0) {
+            appendSign(random, s);
+            random.ints(3 + random.nextInt(6), 0, 10).forEach(s::append);
+          } else {
+            s.append(1000 + random.nextInt(9000));
+          }
+          s.append('-').append(twoDigits(random, 12)).append('-').append(twoDigits(random, 31));
+          if (random.nextInt(5) > 0) {
+            s.append(anyCase(random, 'T'));
+            appendTime(random, s);
+            if (random.nextInt(5) > 0) {
+              appendOffset(random, s);
+              if (random.nextBoolean()) {
+                s.append('[').append(ZONE_IDS[random.nextInt(ZONE_IDS.length)]).append(']');
+              }
+            }
+          }
+          return corrupt(random, s);
+        });
+  }
+
+  @Provide
+  Arbitrary<String> timeNotations() {
+    return Arbitraries.randomValue(
+        random -> {
+          StringBuilder s = new StringBuilder();
+          appendTime(random, s);
+          return corrupt(random, s);
+        });
+  }
+
+  private static final String[] ZONE_IDS = {
+    "Europe/Paris", "America/New_York", "Australia/Lord_Howe", "Etc/GMT+5", "CET", "Zulu", "Z",
+    "UTC", "GMT", "UTC+01:00", "GMT-5", "europe/paris", "Europe/Nowhere"
+  };
+
+  private static void appendTime(Random random, StringBuilder s) {
+    s.append(twoDigits(random, 23)).append(':').append(twoDigits(random, 59));
+    if (random.nextInt(4) > 0) {
+      s.append(':').append(twoDigits(random, 59));
+      if (random.nextBoolean()) {
+        s.append('.');
+        random.ints(random.nextInt(11), 0, 10).forEach(s::append);
+      }
+    }
+  }
+
+  private static void appendOffset(Random random, StringBuilder s) {
+    if (random.nextInt(5) == 0) {
+      s.append(anyCase(random, 'Z'));
+      return;
+    }
+    s.append(random.nextBoolean() ? '+' : '-').append(twoDigits(random, 18));
+    switch (random.nextInt(4)) {
+      case 0 -> s.append(twoDigits(random, 59));
+      case 1 -> {
+        s.append(':').append(twoDigits(random, 59));
+        s.append(':').append(twoDigits(random, 59));
+      }
+      case 2 -> {}
+      default -> s.append(':').append(twoDigits(random, 59));
+    }
+  }
+
+  /** Returns two digits, mostly within {@code [0, max]}. */
+  private static String twoDigits(Random random, int max) {
+    int value = random.nextInt(10) == 0 ? random.nextInt(100) : random.nextInt(max + 1);
+    return value < 10 ? "0" + value : String.valueOf(value);
+  }
+
+  /** Sometimes deletes a char or inserts one that the ISO-8601 grammar uses. */
+  private static String corrupt(Random random, StringBuilder s) {
+    if (random.nextInt(10) == 0) {
+      int index = random.nextInt(s.length());
+      if (random.nextBoolean()) {
+        s.deleteCharAt(index);
+      } else {
+        s.insert(index, "0:.-+TZ[]".charAt(random.nextInt(9)));
+      }
+    }
+    return s.toString();
+  }
+
   // ==========================================================================
   // String Ranges
   // ==========================================================================
@@ -318,6 +565,42 @@ class RangeRoundtripPropertyTest {
   // Helper Methods
   // ==========================================================================
 
+  /** Asserts that the adapter returns the same value, or throws the same exception, as the JDK. */
+  private static void assertSameAsJdk(
+      String text, TypeAdapter<?> adapter, Function<String, ?> jdkParser) {
+    RegionTypeAdapter<?> regionAdapter = RegionTypeAdapter.of(adapter);
+    Object expected;
+    try {
+      expected = jdkParser.apply(text);
+    } catch (RuntimeException e) {
+      assertThatThrownBy(() -> adapter.parse(text))
+          .as("Parsing \"%s\"", text)
+          .isInstanceOf(e.getClass())
+          .hasMessage(e.getMessage());
+      assertThat(regionAdapter.tryParse(text, 0, text.length())).isNull();
+      return;
+    }
+    assertThat((Object) adapter.parse(text)).as("Parsing \"%s\"", text).isEqualTo(expected);
+    assertThat((Object) regionAdapter.tryParse(text, 0, text.length())).isEqualTo(expected);
+  }
+
+  private static void appendSign(Random random, StringBuilder s) {
+    if (random.nextInt(4) == 0) {
+      s.append(random.nextBoolean() ? '-' : '+');
+    }
+  }
+
+  /** Appends a possibly signed number, mostly short but sometimes too long for a long. */
+  private static void appendNumber(Random random, StringBuilder s) {
+    appendSign(random, s);
+    int digits = random.nextInt(8) == 0 ? 1 + random.nextInt(20) : 1 + random.nextInt(4);
+    random.ints(digits, 0, 10).forEach(s::append);
+  }
+
+  private static char anyCase(Random random, char letter) {
+    return random.nextBoolean() ? letter : Character.toLowerCase(letter);
+  }
+
   private <T extends Comparable<T>> void assertRoundtrip(Range<T> original, Class<T> type) {
     String formatted = formatter.format(original);
     Range<T> parsed = parser.parseRange(formatted, type);
@@ -326,6 +609,14 @@ class RangeRoundtripPropertyTest {
         .isEqualTo(original);
   }
 
+  private <T extends Comparable<T>> void assertShortestRoundtrip(Range<T> original, Class<T> type) {
+    String formatted = shortestFormatter.format(original);
+    Range<T> parsed = parser.parseRange(formatted, type);
+    assertThat(parsed)
+        .as("Roundtrip failed for: %s -> \"%s\" -> %s", original, formatted, parsed)
+        .isEqualTo(original);
+  }
+
   /**
    * Helper for temporal types that implement Comparable with a different type parameter (e.g.,
    * LocalDate implements Comparable<ChronoLocalDate>).
@@ -21,12 +21,17 @@ import java.io.IOException;
  */
 class RangeDeserializer extends JsonDeserializer<Range<?>> implements ContextualDeserializer {
 
+  /**
+   * Shared by all deserializers, since a contextual deserializer is created per element type.
+   * Failures are reported by message only, so their stack traces would be wasted work.
+   */
+  private static final RangeParser PARSER =
+      RangeParser.builder().lightweightExceptions(true).build();
+
   private final JavaType elementType;
-  private final RangeParser parser;
 
   RangeDeserializer(JavaType elementType) {
     this.elementType = elementType;
-    this.parser = RangeParser.builder().build();
   }
 
   @Override
@@ -56,7 +61,7 @@ class RangeDeserializer extends JsonDeserializer<Range<?>> implements Contextual
     Class<T> rawClass = (Class<T>) elementType.getRawClass();
 
     try {
-      return parser.parseRange(notation, rawClass);
+      return PARSER.parseRange(notation, rawClass);
     } catch (RangeParseException e) {
       return (Range<T>) ctxt.handleWeirdStringValue(Range.class, notation, e.getMessage());
     }
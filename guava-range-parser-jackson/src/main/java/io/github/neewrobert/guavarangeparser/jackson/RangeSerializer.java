@@ -1,20 +1,35 @@
 package io.github.neewrobert.guavarangeparser.jackson;
 
 import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.google.common.collect.Range;
 import io.github.neewrobert.guavarangeparser.core.InfinityStyle;
 import io.github.neewrobert.guavarangeparser.core.RangeFormatter;
 import java.io.IOException;
+import java.nio.BufferOverflowException;
 
 /**
  * Jackson serializer for Guava Range objects.
  *
  * <p>Serializes Range objects to string notation (e.g., "[0..100)", "(-∞..+∞)").
+ *
+ * <p>Generators that write UTF-8 bytes, such as those of {@code writeValueAsBytes} or an {@code
+ * OutputStream}, get the notation already encoded via {@link RangeFormatter#formatToUtf8}, which
+ * skips creating and transcoding a {@code String}. Since such bytes are only escaped below 0x80,
+ * generators that escape non-ASCII chars or use custom {@code CharacterEscapes} get a {@code
+ * String}.
  */
 class RangeSerializer extends JsonSerializer<Range<?>> {
 
+  /** Size of the scratch array for UTF-8 output; longer notations fall back to a String. */
+  private static final int UTF8_BUFFER_SIZE = 128;
+
+  /** Scratch array per thread, since the serializer is shared by all generators of a mapper. */
+  private static final ThreadLocal<byte[]> UTF8_BUFFER =
+      ThreadLocal.withInitial(() -> new byte[UTF8_BUFFER_SIZE]);
+
   private final RangeFormatter formatter;
 
   RangeSerializer(InfinityStyle infinityStyle) {
@@ -25,7 +40,30 @@ class RangeSerializer extends JsonSerializer<Range<?>> {
   @SuppressWarnings({"rawtypes", "unchecked"})
   public void serialize(Range<?> value, JsonGenerator gen, SerializerProvider serializers)
       throws IOException {
-    gen.writeString(formatter.format((Range) value));
+    if (writesUtf8Unescaped(gen)) {
+      byte[] buffer = UTF8_BUFFER.get();
+      int length;
+      try {
+        length = formatter.formatToUtf8((Range) value, buffer, 0);
+      } catch (BufferOverflowException e) {
+        gen.writeString(formatter.format((Range) value));
+        return;
+      }
+      gen.writeUTF8String(buffer, 0, length);
+    } else {
+      gen.writeString(formatter.format((Range) value));
+    }
+  }
+
+  /**
+   * Returns whether the generator writes UTF-8 bytes and escapes nothing beyond what {@link
+   * JsonGenerator#writeUTF8String} escapes.
+   */
+  private static boolean writesUtf8Unescaped(JsonGenerator gen) {
+    // The highest escaped char is also set by ESCAPE_NON_ASCII
+    return gen instanceof UTF8JsonGenerator
+        && gen.getHighestEscapedChar() == 0
+        && gen.getCharacterEscapes() == null;
   }
 
   @Override
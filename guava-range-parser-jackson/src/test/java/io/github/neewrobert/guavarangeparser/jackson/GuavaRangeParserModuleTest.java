@@ -3,13 +3,19 @@ package io.github.neewrobert.guavarangeparser.jackson;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.json.JsonWriteFeature;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.json.JsonMapper;
 import com.google.common.collect.Range;
 import io.github.neewrobert.guavarangeparser.core.InfinityStyle;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDate;
 import org.junit.jupiter.api.Nested;
@@ -128,6 +134,56 @@ class GuavaRangeParserModuleTest {
       String json = mapper.writeValueAsString(range);
       assertThat(json).isEqualTo("\"[a..z]\"");
     }
+
+    @Test
+    void serializeToUtf8Bytes() throws JsonProcessingException {
+      Range<Long> range = Range.atLeast(Long.MIN_VALUE);
+      byte[] json = mapper.writeValueAsBytes(range);
+      assertThat(new String(json, StandardCharsets.UTF_8))
+          .isEqualTo("\"[-9223372036854775808..+∞)\"");
+    }
+
+    @Test
+    void serializeToUtf8BytesEscapesEndpoints() throws JsonProcessingException {
+      Range<String> range = Range.closed("\"a\"", "é\n");
+      byte[] json = mapper.writeValueAsBytes(range);
+      assertThat(new String(json, StandardCharsets.UTF_8))
+          .isEqualTo(mapper.writeValueAsString(range))
+          .isEqualTo("\"[\\\"a\\\"..é\\n]\"");
+    }
+
+    @Test
+    void serializeToUtf8BytesEscapingNonAscii() throws JsonProcessingException {
+      ObjectMapper escaping =
+          JsonMapper.builder()
+              .addModule(new GuavaRangeParserModule())
+              .enable(JsonWriteFeature.ESCAPE_NON_ASCII)
+              .build();
+      Range<Integer> range = Range.atMost(5);
+
+      assertThat(new String(escaping.writeValueAsBytes(range), StandardCharsets.UTF_8))
+          .isEqualTo(escaping.writeValueAsString(range))
+          .isEqualTo("\"(-\\u221E..5]\"");
+    }
+
+    @Test
+    void serializeToUtf8BytesWithHighestNonEscapedChar() throws IOException {
+      ByteArrayOutputStream out = new ByteArrayOutputStream();
+      try (JsonGenerator gen = mapper.getFactory().createGenerator(out)) {
+        gen.setHighestNonEscapedChar(127);
+        mapper.writeValue(gen, Range.closed("a", "é"));
+      }
+
+      assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("\"[a..\\u00E9]\"");
+    }
+
+    @Test
+    void serializeLongNotationToUtf8Bytes() throws JsonProcessingException {
+      Range<String> range = Range.closed("a".repeat(200), "b".repeat(200));
+      byte[] json = mapper.writeValueAsBytes(range);
+      assertThat(new String(json, StandardCharsets.UTF_8))
+          .isEqualTo(mapper.writeValueAsString(range));
+    }
   }
 
   @Nested
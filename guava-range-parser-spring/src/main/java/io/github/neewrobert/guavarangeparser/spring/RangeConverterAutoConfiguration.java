@@ -80,7 +80,10 @@ public class RangeConverterAutoConfiguration {
         Binder.get(environment)
             .bind("guava.range-parser", RangeParserProperties.class)
             .orElseGet(RangeParserProperties::new);
-    return RangeParser.builder().lenient(properties.isLenient()).build();
+    return RangeParser.builder()
+        .lenient(properties.isLenient())
+        .lightweightExceptions(properties.isLightweightExceptions())
+        .build();
   }
 
   /**
@@ -31,6 +31,10 @@ import org.springframework.core.convert.converter.GenericConverter;
  * my-app.refresh-interval=[PT1M..PT5M]
  * </pre>
  *
+ * <p>Conversion failures are reported as an {@link IllegalArgumentException} whose cause is the
+ * {@link RangeParseException}, so handlers can inspect {@link RangeParseException#getReason()}
+ * instead of the message.
+ *
  * @see RangeParser
  * @see RangeConverterAutoConfiguration
  */
@@ -27,6 +27,17 @@ public class RangeParserProperties {
    */
   private boolean lenient = false;
 
+  /**
+   * Throw parse exceptions without a stack trace.
+   *
+   * <p>When enabled, conversion failures are cheaper, which helps when the converter validates a
+   * lot of untrusted input, e.g. request parameters. The failure's {@code RangeParseException}
+   * remains available as the cause of the conversion exception, with its reason and message.
+   *
+   * <p>Default: false
+   */
+  private boolean lightweightExceptions = false;
+
   public boolean isLenient() {
     return lenient;
   }
@@ -34,4 +45,12 @@ public class RangeParserProperties {
   public void setLenient(boolean lenient) {
     this.lenient = lenient;
   }
+
+  public boolean isLightweightExceptions() {
+    return lightweightExceptions;
+  }
+
+  public void setLightweightExceptions(boolean lightweightExceptions) {
+    this.lightweightExceptions = lightweightExceptions;
+  }
 }
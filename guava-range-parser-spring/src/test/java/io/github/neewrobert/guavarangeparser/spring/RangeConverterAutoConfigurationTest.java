@@ -5,6 +5,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.google.common.collect.Range;
+import io.github.neewrobert.guavarangeparser.core.RangeParseException;
 import io.github.neewrobert.guavarangeparser.core.RangeParser;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
@@ -99,6 +100,20 @@ class RangeConverterAutoConfigurationTest {
             });
   }
 
+  @Test
+  void lightweightExceptionsWhenEnabled() {
+    contextRunner
+        .withPropertyValues("guava.range-parser.lightweight-exceptions=true")
+        .run(
+            context -> {
+              RangeParser parser = context.getBean(RangeParser.class);
+
+              assertThatThrownBy(() -> parser.parseRange("[x..1]", Integer.class))
+                  .isInstanceOfSatisfying(
+                      RangeParseException.class, e -> assertThat(e.getStackTrace()).isEmpty());
+            });
+  }
+
   @Test
   void doesNotOverrideUserDefinedRangeParser() {
     contextRunner
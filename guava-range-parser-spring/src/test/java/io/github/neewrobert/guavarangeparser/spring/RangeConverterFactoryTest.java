@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import com.google.common.collect.Range;
+import io.github.neewrobert.guavarangeparser.core.RangeParseError;
+import io.github.neewrobert.guavarangeparser.core.RangeParseException;
 import io.github.neewrobert.guavarangeparser.core.RangeParser;
 import java.time.Duration;
 import java.time.LocalDate;
@@ -157,6 +159,16 @@ class RangeConverterFactoryTest {
           .hasMessageContaining("Failed to convert");
     }
 
+    @Test
+    void exposesReasonOfParseFailure() {
+      assertThatThrownBy(() -> convert("[10..1]", Integer.class))
+          .isInstanceOf(IllegalArgumentException.class)
+          .cause()
+          .isInstanceOfSatisfying(
+              RangeParseException.class,
+              e -> assertThat(e.getReason()).isEqualTo(RangeParseError.LOWER_GREATER_THAN_UPPER));
+    }
+
     @Test
     void throwsOnMissingBrackets() {
       assertThatThrownBy(() -> convert("0..100", Integer.class))